@@ -16,12 +16,21 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
+import org.springframework.boot.actuate.health.CachingHealthIndicator;
+import org.springframework.boot.actuate.health.CompositeHealthIndicator;
 import org.springframework.boot.actuate.health.CompositeHealthIndicatorFactory;
+import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthAggregator;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -29,10 +38,15 @@ import org.springframework.boot.actuate.health.OrderedHealthAggregator;
 import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
 import org.springframework.boot.actuate.health.StatusEndpoint;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ClassUtils;
 
 /**
@@ -44,12 +58,21 @@ import org.springframework.util.ClassUtils;
  * @since 2.0.0
  */
 @Configuration
+@EnableConfigurationProperties(HealthEvaluationProperties.class)
 public class HealthEndpointAutoConfiguration {
 
+	private final HealthEvaluationProperties properties;
+
+	private final ObjectProvider<ExecutorService> executor;
+
 	private final HealthIndicator healthIndicator;
 
 	public HealthEndpointAutoConfiguration(ApplicationContext applicationContext,
-			ObjectProvider<HealthAggregator> healthAggregator) {
+			ObjectProvider<HealthAggregator> healthAggregator,
+			HealthEvaluationProperties properties,
+			@Qualifier("healthIndicatorExecutor") ObjectProvider<ExecutorService> executor) {
+		this.properties = properties;
+		this.executor = executor;
 		this.healthIndicator = getHealthIndicator(applicationContext,
 				healthAggregator.getIfAvailable(OrderedHealthAggregator::new));
 	}
@@ -62,8 +85,31 @@ public class HealthEndpointAutoConfiguration {
 			new ReactiveHealthIndicators().get(applicationContext)
 					.forEach(indicators::putIfAbsent);
 		}
+		Duration cacheTimeToLive = this.properties.getCacheTimeToLive();
+		if (cacheTimeToLive != null && cacheTimeToLive.toMillis() > 0) {
+			indicators.replaceAll((name, indicator) -> cache(indicator));
+		}
 		CompositeHealthIndicatorFactory factory = new CompositeHealthIndicatorFactory();
-		return factory.createHealthIndicator(healthAggregator, indicators);
+		CompositeHealthIndicator healthIndicator = factory
+				.createHealthIndicator(healthAggregator, indicators);
+		if (this.properties.isParallel()) {
+			healthIndicator.executor(this.executor.getObject());
+			Duration timeout = this.properties.getTimeout();
+			if (timeout != null) {
+				healthIndicator.timeoutStrategy(timeout.toMillis(),
+						Health.unknown().build());
+			}
+		}
+		return healthIndicator;
+	}
+
+	private HealthIndicator cache(HealthIndicator indicator) {
+		CachingHealthIndicator cachingIndicator = new CachingHealthIndicator(indicator,
+				this.properties.getCacheTimeToLive().toMillis());
+		if (this.properties.isBackgroundRefresh()) {
+			cachingIndicator.setRefreshExecutor(this.executor.getObject());
+		}
+		return cachingIndicator;
 	}
 
 	@Bean
@@ -80,6 +126,47 @@ public class HealthEndpointAutoConfiguration {
 		return new StatusEndpoint(this.healthIndicator);
 	}
 
+	@Configuration
+	@Conditional(HealthEvaluationExecutorCondition.class)
+	static class HealthEvaluationExecutorConfiguration {
+
+		@Bean(destroyMethod = "shutdownNow")
+		public ExecutorService healthIndicatorExecutor(
+				HealthEvaluationProperties properties) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+					"health-");
+			threadFactory.setDaemon(true);
+			int maxThreads = properties.getMaxThreads();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads,
+					60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+	}
+
+	/**
+	 * {@link AnyNestedCondition} that checks that health indicators are called in
+	 * parallel or that cached healths are refreshed in the background.
+	 */
+	static class HealthEvaluationExecutorCondition extends AnyNestedCondition {
+
+		HealthEvaluationExecutorCondition() {
+			super(ConfigurationPhase.PARSE_CONFIGURATION);
+		}
+
+		@ConditionalOnProperty(prefix = "management.health.evaluation", name = "parallel", havingValue = "true")
+		static class Parallel {
+
+		}
+
+		@ConditionalOnProperty(prefix = "management.health.evaluation", name = "background-refresh", havingValue = "true")
+		static class BackgroundRefresh {
+
+		}
+
+	}
+
 	private static class ReactiveHealthIndicators {
 
 		public Map<String, HealthIndicator> get(ApplicationContext applicationContext) {
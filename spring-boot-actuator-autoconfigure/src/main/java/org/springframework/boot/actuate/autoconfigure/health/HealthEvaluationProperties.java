@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.health;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the evaluation of health indicators.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ */
+@ConfigurationProperties(prefix = "management.health.evaluation")
+public class HealthEvaluationProperties {
+
+	/**
+	 * Whether to call health indicators in parallel rather than one after another.
+	 */
+	private boolean parallel;
+
+	/**
+	 * Maximum time to wait for a health indicator when they are called in parallel.
+	 * Indicators that do not reply in time are reported with an UNKNOWN status.
+	 */
+	private Duration timeout;
+
+	/**
+	 * Maximum number of threads used to call health indicators in parallel and to
+	 * refresh cached healths in the background.
+	 */
+	private int maxThreads = 8;
+
+	/**
+	 * Maximum time that the health of each indicator can be cached. Zero disables
+	 * caching.
+	 */
+	private Duration cacheTimeToLive;
+
+	/**
+	 * Whether to refresh a cached health that has expired in the background, returning
+	 * the previous health in the meantime.
+	 */
+	private boolean backgroundRefresh;
+
+	public boolean isParallel() {
+		return this.parallel;
+	}
+
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	public int getMaxThreads() {
+		return this.maxThreads;
+	}
+
+	public void setMaxThreads(int maxThreads) {
+		this.maxThreads = maxThreads;
+	}
+
+	public Duration getCacheTimeToLive() {
+		return this.cacheTimeToLive;
+	}
+
+	public void setCacheTimeToLive(Duration cacheTimeToLive) {
+		this.cacheTimeToLive = cacheTimeToLive;
+	}
+
+	public boolean isBackgroundRefresh() {
+		return this.backgroundRefresh;
+	}
+
+	public void setBackgroundRefresh(boolean backgroundRefresh) {
+		this.backgroundRefresh = backgroundRefresh;
+	}
+
+}
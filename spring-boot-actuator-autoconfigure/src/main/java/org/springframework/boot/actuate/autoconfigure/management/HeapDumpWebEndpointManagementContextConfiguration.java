@@ -20,6 +20,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.condition.Conditi
 import org.springframework.boot.actuate.autoconfigure.web.ManagementContextConfiguration;
 import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 /**
@@ -29,13 +30,21 @@ import org.springframework.context.annotation.Bean;
  * @since 2.0.0
  */
 @ManagementContextConfiguration
+@EnableConfigurationProperties(HeapDumpWebEndpointProperties.class)
 public class HeapDumpWebEndpointManagementContextConfiguration {
 
+	private final HeapDumpWebEndpointProperties properties;
+
+	public HeapDumpWebEndpointManagementContextConfiguration(
+			HeapDumpWebEndpointProperties properties) {
+		this.properties = properties;
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnEnabledEndpoint
 	public HeapDumpWebEndpoint heapDumpWebEndpoint() {
-		return new HeapDumpWebEndpoint();
+		return new HeapDumpWebEndpoint(this.properties.getDumpDirectory());
 	}
 
 }
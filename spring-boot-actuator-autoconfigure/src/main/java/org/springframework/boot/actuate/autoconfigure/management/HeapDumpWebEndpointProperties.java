@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.management;
+
+import java.io.File;
+
+import org.springframework.boot.actuate.management.HeapDumpWebEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@link HeapDumpWebEndpoint}.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ */
+@ConfigurationProperties(prefix = "endpoints.heapdump")
+public class HeapDumpWebEndpointProperties {
+
+	/**
+	 * Directory to which heap dumps are written before they are sent. By default, the
+	 * temporary directory is used.
+	 */
+	private File dumpDirectory;
+
+	public File getDumpDirectory() {
+		return this.dumpDirectory;
+	}
+
+	public void setDumpDirectory(File dumpDirectory) {
+		this.dumpDirectory = dumpDirectory;
+	}
+
+}
@@ -41,6 +41,11 @@ public class TraceEndpointProperties {
 	 */
 	private Set<Include> include = new HashSet<>(Include.defaultIncludes());
 
+	/**
+	 * Maximum number of traces held by the in-memory trace repository.
+	 */
+	private int capacity = 100;
+
 	public Set<Include> getInclude() {
 		return this.include;
 	}
@@ -49,4 +54,12 @@ public class TraceEndpointProperties {
 		this.include = include;
 	}
 
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
 }
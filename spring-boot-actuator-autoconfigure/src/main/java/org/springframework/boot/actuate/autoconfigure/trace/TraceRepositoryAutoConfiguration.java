@@ -20,6 +20,7 @@ import org.springframework.boot.actuate.trace.InMemoryTraceRepository;
 import org.springframework.boot.actuate.trace.TraceRepository;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,12 +31,13 @@ import org.springframework.context.annotation.Configuration;
  * @since 2.0.0
  */
 @Configuration
+@EnableConfigurationProperties(TraceEndpointProperties.class)
 public class TraceRepositoryAutoConfiguration {
 
 	@ConditionalOnMissingBean(TraceRepository.class)
 	@Bean
-	public InMemoryTraceRepository traceRepository() {
-		return new InMemoryTraceRepository();
+	public InMemoryTraceRepository traceRepository(TraceEndpointProperties properties) {
+		return new InMemoryTraceRepository(properties.getCapacity());
 	}
 
 }
@@ -16,6 +16,9 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
@@ -82,6 +85,70 @@ public class HealthEndpointAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void healthEndpointWithCacheTimeToLiveCachesIndicatorHealth() {
+		this.contextRunner.withUserConfiguration(HealthIndicatorConfiguration.class)
+				.withPropertyValues("management.health.evaluation.parallel=true",
+						"management.health.evaluation.timeout=10s",
+						"management.health.evaluation.cache-time-to-live=1m")
+				.run((context) -> {
+					HealthIndicator indicator = context.getBean("simpleHealthIndicator",
+							HealthIndicator.class);
+					HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+					assertThat(endpoint.health().getStatus()).isEqualTo(Status.UP);
+					assertThat(endpoint.health().getDetails())
+							.containsOnlyKeys("simple");
+					verify(indicator, times(1)).health();
+				});
+	}
+
+	@Test
+	public void healthEndpointWithZeroCacheTimeToLiveDoesNotCacheIndicatorHealth() {
+		this.contextRunner.withUserConfiguration(HealthIndicatorConfiguration.class)
+				.withPropertyValues("management.health.evaluation.cache-time-to-live=0s")
+				.run((context) -> {
+					HealthIndicator indicator = context.getBean("simpleHealthIndicator",
+							HealthIndicator.class);
+					HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+					assertThat(endpoint.health().getStatus()).isEqualTo(Status.UP);
+					assertThat(endpoint.health().getStatus()).isEqualTo(Status.UP);
+					verify(indicator, times(2)).health();
+				});
+	}
+
+	@Test
+	public void healthIndicatorExecutorIsBoundedWhenParallel() {
+		this.contextRunner.withUserConfiguration(HealthIndicatorConfiguration.class)
+				.withPropertyValues("management.health.evaluation.parallel=true",
+						"management.health.evaluation.max-threads=2")
+				.run((context) -> {
+					assertThat(context).hasBean("healthIndicatorExecutor");
+					ThreadPoolExecutor executor = context.getBean(
+							"healthIndicatorExecutor", ThreadPoolExecutor.class);
+					assertThat(executor.getMaximumPoolSize()).isEqualTo(2);
+					assertThat(context.getBean(HealthEndpoint.class).health()
+							.getStatus()).isEqualTo(Status.UP);
+				});
+	}
+
+	@Test
+	public void healthIndicatorExecutorIsShutDownWhenContextIsClosed() {
+		this.contextRunner.withPropertyValues(
+				"management.health.evaluation.background-refresh=true")
+				.run((context) -> {
+					ExecutorService executor = context.getBean("healthIndicatorExecutor",
+							ExecutorService.class);
+					context.close();
+					assertThat(executor.isShutdown()).isTrue();
+				});
+	}
+
+	@Test
+	public void healthIndicatorExecutorIsNotCreatedByDefault() {
+		this.contextRunner.run((context) -> assertThat(context)
+				.doesNotHaveBean("healthIndicatorExecutor"));
+	}
+
 	@Test
 	public void runShouldHaveStatusEndpointBeanEvenIfDefaultIsDisabled() {
 		this.contextRunner.withPropertyValues("endpoints.default.enabled:false").run(
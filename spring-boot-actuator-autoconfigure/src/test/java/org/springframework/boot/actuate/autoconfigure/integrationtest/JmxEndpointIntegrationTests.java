@@ -54,8 +54,9 @@ public class JmxEndpointIntegrationTests {
 		this.contextRunner.run((context) -> {
 			MBeanServer mBeanServer = context.getBean(MBeanServer.class);
 			checkEndpointMBeans(mBeanServer,
-					new String[] { "autoconfig", "beans", "configprops", "env", "health",
-							"info", "mappings", "status", "threaddump", "trace" },
+					new String[] { "autoconfig", "beans", "classhistogram", "configprops",
+							"env", "health", "info", "mappings", "status", "threaddump",
+							"trace" },
 					new String[] { "shutdown" });
 		});
 	}
@@ -66,9 +67,9 @@ public class JmxEndpointIntegrationTests {
 				.run((context) -> {
 					MBeanServer mBeanServer = context.getBean(MBeanServer.class);
 					checkEndpointMBeans(mBeanServer, new String[0],
-							new String[] { "autoconfig", "beans", "configprops", "env",
-									"health", "mappings", "shutdown", "threaddump",
-									"trace" });
+							new String[] { "autoconfig", "beans", "classhistogram",
+									"configprops", "env", "health", "mappings",
+									"shutdown", "threaddump", "trace" });
 
 				});
 	}
@@ -79,8 +80,9 @@ public class JmxEndpointIntegrationTests {
 				"endpoints.beans.jmx.enabled=true").run((context) -> {
 					MBeanServer mBeanServer = context.getBean(MBeanServer.class);
 					checkEndpointMBeans(mBeanServer, new String[] { "beans" },
-							new String[] { "autoconfig", "configprops", "env", "health",
-									"mappings", "shutdown", "threaddump", "trace" });
+							new String[] { "autoconfig", "classhistogram", "configprops",
+									"env", "health", "mappings", "shutdown", "threaddump",
+									"trace" });
 				});
 	}
 
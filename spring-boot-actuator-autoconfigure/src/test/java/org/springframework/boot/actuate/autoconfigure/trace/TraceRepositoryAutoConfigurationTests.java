@@ -16,10 +16,13 @@
 
 package org.springframework.boot.actuate.autoconfigure.trace;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
 import org.springframework.boot.actuate.trace.InMemoryTraceRepository;
 import org.springframework.boot.actuate.trace.TraceRepository;
+import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,6 +45,21 @@ public class TraceRepositoryAutoConfigurationTests {
 		context.close();
 	}
 
+	@Test
+	public void configuresCapacity() throws Exception {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		TestPropertyValues.of("management.trace.capacity=2").applyTo(context);
+		context.register(TraceRepositoryAutoConfiguration.class);
+		context.refresh();
+		InMemoryTraceRepository repository = context
+				.getBean(InMemoryTraceRepository.class);
+		for (int i = 0; i < 3; i++) {
+			repository.add(Collections.<String, Object>singletonMap("index", i));
+		}
+		assertThat(repository.findAll()).hasSize(2);
+		context.close();
+	}
+
 	@Test
 	public void skipsIfRepositoryExists() throws Exception {
 		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
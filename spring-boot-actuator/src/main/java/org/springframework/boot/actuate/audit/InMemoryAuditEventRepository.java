@@ -16,14 +16,27 @@
 
 package org.springframework.boot.actuate.audit;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.LinkedList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.springframework.util.Assert;
 
 /**
- * In-memory {@link AuditEventRepository} implementation.
+ * In-memory {@link AuditEventRepository} implementation. Events are stored in a
+ * lock-free circular buffer that is indexed by principal and by type so that neither
+ * {@link #add(AuditEvent) adding} nor {@link #find(String, Date, String) finding} events
+ * blocks other callers.
  *
  * @author Dave Syer
  * @author Phillip Webb
@@ -33,21 +46,14 @@ public class InMemoryAuditEventRepository implements AuditEventRepository {
 
 	private static final int DEFAULT_CAPACITY = 1000;
 
-	private final Object monitor = new Object();
-
-	/**
-	 * Circular buffer of the event with tail pointing to the last element.
-	 */
-	private AuditEvent[] events;
-
-	private volatile int tail = -1;
+	private volatile Buffer buffer;
 
 	public InMemoryAuditEventRepository() {
 		this(DEFAULT_CAPACITY);
 	}
 
 	public InMemoryAuditEventRepository(int capacity) {
-		this.events = new AuditEvent[capacity];
+		this.buffer = new Buffer(capacity);
 	}
 
 	/**
@@ -55,18 +61,13 @@ public class InMemoryAuditEventRepository implements AuditEventRepository {
 	 * @param capacity the capacity
 	 */
 	public void setCapacity(int capacity) {
-		synchronized (this.monitor) {
-			this.events = new AuditEvent[capacity];
-		}
+		this.buffer = new Buffer(capacity);
 	}
 
 	@Override
 	public void add(AuditEvent event) {
 		Assert.notNull(event, "AuditEvent must not be null");
-		synchronized (this.monitor) {
-			this.tail = (this.tail + 1) % this.events.length;
-			this.events[this.tail] = event;
-		}
+		this.buffer.add(event);
 	}
 
 	@Override
@@ -81,29 +82,243 @@ public class InMemoryAuditEventRepository implements AuditEventRepository {
 
 	@Override
 	public List<AuditEvent> find(String principal, Date after, String type) {
-		LinkedList<AuditEvent> events = new LinkedList<>();
-		synchronized (this.monitor) {
-			for (int i = 0; i < this.events.length; i++) {
-				AuditEvent event = resolveTailEvent(i);
-				if (event != null && isMatch(principal, after, type, event)) {
-					events.addFirst(event);
+		return this.buffer.find(principal, after, type);
+	}
+
+	/**
+	 * Circular buffer of events. Each added event is given the next sequence number by
+	 * atomically replacing the {@code head} entry and is then published to the slot for
+	 * that sequence. An entry is live for as long as its slot still holds it.
+	 */
+	private static final class Buffer {
+
+		private final int capacity;
+
+		private final AtomicReference<Entry> head = new AtomicReference<>(new Entry());
+
+		private final AtomicReferenceArray<Entry> entries;
+
+		private final Index principals = new Index(AuditEvent::getPrincipal);
+
+		private final Index types = new Index(AuditEvent::getType);
+
+		Buffer(int capacity) {
+			this.capacity = capacity;
+			this.entries = new AtomicReferenceArray<>(capacity);
+		}
+
+		public void add(AuditEvent event) {
+			Entry head;
+			Entry entry;
+			do {
+				head = this.head.get();
+				entry = new Entry(head, event);
+			}
+			while (!this.head.compareAndSet(head, entry));
+			if (publish(entry)) {
+				this.principals.add(entry);
+				this.types.add(entry);
+				if (!isLive(entry)) {
+					evict(entry);
+				}
+			}
+		}
+
+		private boolean publish(Entry entry) {
+			int index = getIndex(entry.sequence);
+			Entry existing;
+			do {
+				existing = this.entries.get(index);
+				if (existing != null && existing.sequence > entry.sequence) {
+					return false;
+				}
+			}
+			while (!this.entries.compareAndSet(index, existing, entry));
+			if (existing != null) {
+				evict(existing);
+			}
+			return true;
+		}
+
+		private void evict(Entry entry) {
+			this.principals.evict(entry, this::isLive);
+			this.types.evict(entry, this::isLive);
+		}
+
+		public List<AuditEvent> find(String principal, Date after, String type) {
+			Entry head = this.head.get();
+			long minimumSequence = Math.max(0, head.sequence - this.capacity + 1);
+			List<Entry> entries;
+			if (principal != null) {
+				entries = findIndexed(this.principals, principal, minimumSequence);
+			}
+			else if (type != null) {
+				entries = findIndexed(this.types, type, minimumSequence);
+			}
+			else {
+				entries = findAll(head, after, minimumSequence);
+			}
+			List<AuditEvent> events = new ArrayList<>(entries.size());
+			for (Entry entry : entries) {
+				if (isMatch(principal, after, type, entry.event)) {
+					events.add(entry.event);
+				}
+			}
+			return events;
+		}
+
+		private List<Entry> findIndexed(Index index, String key, long minimumSequence) {
+			List<Entry> entries = new ArrayList<>();
+			for (Entry entry : index.get(key)) {
+				if (entry.sequence >= minimumSequence && isLive(entry)) {
+					entries.add(entry);
+				}
+			}
+			entries.sort(Comparator.comparingLong((entry) -> entry.sequence));
+			return entries;
+		}
+
+		private List<Entry> findAll(Entry head, Date after, long minimumSequence) {
+			long start = minimumSequence;
+			if (after != null && head.orderedFrom <= minimumSequence) {
+				start = findFirstSequence(after.getTime(), minimumSequence,
+						head.sequence);
+			}
+			List<Entry> entries = new ArrayList<>();
+			for (long sequence = start; sequence <= head.sequence; sequence++) {
+				Entry entry = this.entries.get(getIndex(sequence));
+				if (entry != null && entry.sequence == sequence) {
+					entries.add(entry);
 				}
 			}
+			return entries;
 		}
-		return events;
+
+		/**
+		 * Binary search for the first sequence with a timestamp that is not before the
+		 * given time. Can only be used when the timestamps of all of the entries
+		 * between {@code low} and {@code high} are in order.
+		 */
+		private long findFirstSequence(long time, long low, long high) {
+			while (low <= high) {
+				long middle = (low + high) >>> 1;
+				Entry entry = this.entries.get(getIndex(middle));
+				boolean before;
+				if (entry == null || entry.sequence < middle) {
+					// Not yet published so one of the most recent entries
+					before = false;
+				}
+				else {
+					before = entry.sequence > middle || entry.timestamp < time;
+				}
+				if (before) {
+					low = middle + 1;
+				}
+				else {
+					high = middle - 1;
+				}
+			}
+			return low;
+		}
+
+		private boolean isMatch(String principal, Date after, String type,
+				AuditEvent event) {
+			boolean match = true;
+			match = match
+					&& (principal == null || event.getPrincipal().equals(principal));
+			match = match
+					&& (after == null || event.getTimestamp().compareTo(after) >= 0);
+			match = match && (type == null || event.getType().equals(type));
+			return match;
+		}
+
+		private boolean isLive(Entry entry) {
+			return this.entries.get(getIndex(entry.sequence)) == entry;
+		}
+
+		private int getIndex(long sequence) {
+			return (int) (sequence % this.capacity);
+		}
+
 	}
 
-	private boolean isMatch(String principal, Date after, String type, AuditEvent event) {
-		boolean match = true;
-		match = match && (principal == null || event.getPrincipal().equals(principal));
-		match = match && (after == null || event.getTimestamp().compareTo(after) >= 0);
-		match = match && (type == null || event.getType().equals(type));
-		return match;
+	/**
+	 * An event in the buffer.
+	 */
+	private static final class Entry {
+
+		private final long sequence;
+
+		private final AuditEvent event;
+
+		private final long timestamp;
+
+		/**
+		 * The first sequence from which timestamps are in order up to this entry.
+		 */
+		private final long orderedFrom;
+
+		Entry() {
+			this.sequence = -1;
+			this.event = null;
+			this.timestamp = Long.MIN_VALUE;
+			this.orderedFrom = 0;
+		}
+
+		Entry(Entry previous, AuditEvent event) {
+			this.sequence = previous.sequence + 1;
+			this.event = event;
+			this.timestamp = event.getTimestamp().getTime();
+			this.orderedFrom = (this.timestamp >= previous.timestamp
+					? previous.orderedFrom : this.sequence);
+		}
+
 	}
 
-	private AuditEvent resolveTailEvent(int offset) {
-		int index = ((this.tail + this.events.length - offset) % this.events.length);
-		return this.events[index];
+	/**
+	 * Secondary index of live entries, in the order that they were added, keyed by an
+	 * event attribute.
+	 */
+	private static final class Index {
+
+		private final Function<AuditEvent, String> key;
+
+		private final ConcurrentMap<String, Deque<Entry>> entries = new ConcurrentHashMap<>();
+
+		Index(Function<AuditEvent, String> key) {
+			this.key = key;
+		}
+
+		public void add(Entry entry) {
+			String key = this.key.apply(entry.event);
+			Deque<Entry> entries;
+			do {
+				entries = this.entries.computeIfAbsent(key,
+						(k) -> new ConcurrentLinkedDeque<>());
+				entries.offerLast(entry);
+			}
+			while (this.entries.get(key) != entries);
+		}
+
+		public void evict(Entry entry, Predicate<Entry> live) {
+			String key = this.key.apply(entry.event);
+			Deque<Entry> entries = this.entries.get(key);
+			if (entries != null) {
+				Entry first = entries.peekFirst();
+				while (first != null && !live.test(first)) {
+					entries.removeFirstOccurrence(first);
+					first = entries.peekFirst();
+				}
+				this.entries.computeIfPresent(key,
+						(k, candidate) -> candidate.isEmpty() ? null : candidate);
+			}
+		}
+
+		public Iterable<Entry> get(String key) {
+			Deque<Entry> entries = this.entries.get(key);
+			return (entries != null ? entries : Collections.emptyList());
+		}
+
 	}
 
 }
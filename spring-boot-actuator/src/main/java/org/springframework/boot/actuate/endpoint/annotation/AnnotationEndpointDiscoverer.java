@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.endpoint.annotation;
 
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -39,8 +40,10 @@ import org.springframework.boot.actuate.endpoint.cache.CachingConfiguration;
 import org.springframework.boot.actuate.endpoint.cache.CachingConfigurationFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.ObjectUtils;
@@ -275,12 +278,34 @@ public abstract class AnnotationEndpointDiscoverer<T extends Operation, K>
 			OperationType operationType, Method method) {
 		if (cachingConfiguration != null && cachingConfiguration.getTimeToLive() > 0
 				&& operationType == OperationType.READ
-				&& method.getParameters().length == 0) {
+				&& !isSingleUse(ResolvableType.forMethodReturnType(method))) {
 			return cachingConfiguration.getTimeToLive();
 		}
 		return 0;
 	}
 
+	/**
+	 * Return whether the given type, or one of its generics, is a {@link Resource} or
+	 * an {@link InputStream}. Such responses may only be consumed once, for example
+	 * because the underlying file is deleted once it has been sent, so they must not
+	 * be cached.
+	 * @param type the type to check
+	 * @return {@code true} if the type may only be consumed once
+	 */
+	private boolean isSingleUse(ResolvableType type) {
+		Class<?> resolved = type.resolve(Object.class);
+		if (Resource.class.isAssignableFrom(resolved)
+				|| InputStream.class.isAssignableFrom(resolved)) {
+			return true;
+		}
+		for (ResolvableType generic : type.getGenerics()) {
+			if (isSingleUse(generic)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * An {@code EndpointOperationFactory} creates an {@link Operation} for an operation
 	 * on an endpoint.
@@ -16,25 +16,41 @@
 
 package org.springframework.boot.actuate.endpoint.cache;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.boot.actuate.endpoint.OperationInvoker;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * An {@link OperationInvoker} that caches the response of an operation with a
- * configurable time to live.
+ * configurable time to live. Responses are cached per distinct set of arguments, with
+ * the least recently used entry being evicted once the configured maximum number of
+ * entries is reached. Concurrent invocations with the same arguments that miss the
+ * cache share a single invocation of the target.
  *
  * @author Stephane Nicoll
  * @since 2.0.0
  */
 public class CachingOperationInvoker implements OperationInvoker {
 
+	private static final int DEFAULT_MAX_SIZE = 100;
+
 	private final OperationInvoker target;
 
 	private final long timeToLive;
 
-	private volatile CachedResponse cachedResponse;
+	private final Map<CacheKey, CachedResponse> cachedResponses;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
 
 	/**
 	 * Create a new instance with the target {@link OperationInvoker} to use to compute
@@ -43,9 +59,33 @@ public class CachingOperationInvoker implements OperationInvoker {
 	 * @param timeToLive the maximum time in milliseconds that a response can be cached
 	 */
 	public CachingOperationInvoker(OperationInvoker target, long timeToLive) {
+		this(target, timeToLive, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create a new instance with the target {@link OperationInvoker} to use to compute
+	 * the response, the time to live for the cache and the maximum number of distinct
+	 * responses to cache.
+	 * @param target the {@link OperationInvoker} this instance wraps
+	 * @param timeToLive the maximum time in milliseconds that a response can be cached
+	 * @param maxSize the maximum number of responses to cache
+	 */
+	public CachingOperationInvoker(OperationInvoker target, long timeToLive,
+			int maxSize) {
 		Assert.state(timeToLive > 0, "TimeToLive must be strictly positive");
+		Assert.state(maxSize > 0, "MaxSize must be strictly positive");
 		this.target = target;
 		this.timeToLive = timeToLive;
+		this.cachedResponses = new LinkedHashMap<CacheKey, CachedResponse>(16, 0.75f,
+				true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<CacheKey, CachedResponse> eldest) {
+				return size() > maxSize;
+			}
+
+		};
 	}
 
 	/**
@@ -56,30 +96,113 @@ public class CachingOperationInvoker implements OperationInvoker {
 		return this.timeToLive;
 	}
 
+	/**
+	 * Return the number of invocations that were served from the cache.
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of invocations that required the target to be invoked.
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
 	@Override
 	public Object invoke(Map<String, Object> arguments) {
 		long accessTime = System.currentTimeMillis();
-		CachedResponse cached = this.cachedResponse;
-		if (cached == null || cached.isStale(accessTime, this.timeToLive)) {
+		CacheKey key = new CacheKey(arguments);
+		CachedResponse cached;
+		boolean miss = false;
+		synchronized (this.cachedResponses) {
+			cached = this.cachedResponses.get(key);
+			if (cached == null || cached.isStale(accessTime, this.timeToLive)) {
+				cached = new CachedResponse(accessTime);
+				this.cachedResponses.put(key, cached);
+				miss = true;
+			}
+		}
+		if (!miss) {
+			this.hitCount.increment();
+			return cached.getResponse();
+		}
+		this.missCount.increment();
+		try {
 			Object response = this.target.invoke(arguments);
-			this.cachedResponse = new CachedResponse(response, accessTime);
+			cached.complete(response);
 			return response;
 		}
-		return cached.getResponse();
+		catch (RuntimeException | Error ex) {
+			synchronized (this.cachedResponses) {
+				this.cachedResponses.remove(key, cached);
+			}
+			cached.fail(ex);
+			throw ex;
+		}
+	}
+
+	/**
+	 * The key of a cached response. Arguments are compared by value, including the
+	 * content of any array arguments.
+	 */
+	private static final class CacheKey {
+
+		private final Map<String, Object> arguments;
+
+		CacheKey(Map<String, Object> arguments) {
+			this.arguments = (arguments == null || arguments.isEmpty()
+					? Collections.emptyMap() : new HashMap<>(arguments));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Map<String, Object> other = ((CacheKey) obj).arguments;
+			if (!this.arguments.keySet().equals(other.keySet())) {
+				return false;
+			}
+			for (Map.Entry<String, Object> entry : this.arguments.entrySet()) {
+				if (!ObjectUtils.nullSafeEquals(entry.getValue(),
+						other.get(entry.getKey()))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 0;
+			for (Map.Entry<String, Object> entry : this.arguments.entrySet()) {
+				hashCode += entry.getKey().hashCode()
+						^ ObjectUtils.nullSafeHashCode(entry.getValue());
+			}
+			return hashCode;
+		}
+
 	}
 
 	/**
 	 * A cached response that encapsulates the response itself and the time at which it
-	 * was created.
+	 * was created. The response may still be being computed, in which case callers
+	 * wait for it to complete.
 	 */
 	static class CachedResponse {
 
-		private final Object response;
+		private final CompletableFuture<Object> response = new CompletableFuture<>();
 
 		private final long creationTime;
 
-		CachedResponse(Object response, long creationTime) {
-			this.response = response;
+		CachedResponse(long creationTime) {
 			this.creationTime = creationTime;
 		}
 
@@ -87,8 +210,28 @@ public class CachingOperationInvoker implements OperationInvoker {
 			return (accessTime - this.creationTime) >= timeToLive;
 		}
 
+		public void complete(Object response) {
+			this.response.complete(response);
+		}
+
+		public void fail(Throwable ex) {
+			this.response.completeExceptionally(ex);
+		}
+
 		public Object getResponse() {
-			return this.response;
+			try {
+				return this.response.join();
+			}
+			catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw ex;
+			}
 		}
 
 	}
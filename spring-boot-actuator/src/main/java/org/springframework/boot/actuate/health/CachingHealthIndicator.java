@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link HealthIndicator} that caches the {@link Health} of a delegate with a
+ * configurable time to live. Concurrent calls that find no cached health share a single
+ * call to the delegate. When a {@link #setRefreshExecutor(Executor) refresh executor} is
+ * configured, a stale health is returned while a fresh one is obtained in the
+ * background so that callers never wait on the delegate once a first health is known.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ */
+public class CachingHealthIndicator implements HealthIndicator {
+
+	private final HealthIndicator delegate;
+
+	private final long timeToLive;
+
+	private final Object monitor = new Object();
+
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	private volatile Executor refreshExecutor;
+
+	private volatile CachedHealth cached;
+
+	/**
+	 * Create a new instance with the delegate {@link HealthIndicator} and the time to
+	 * live of its health.
+	 * @param delegate the health indicator this instance wraps
+	 * @param timeToLive the maximum time in milliseconds that a health can be cached
+	 */
+	public CachingHealthIndicator(HealthIndicator delegate, long timeToLive) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.state(timeToLive > 0, "TimeToLive must be strictly positive");
+		this.delegate = delegate;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Set the {@link Executor} that should be used to refresh a stale health in the
+	 * background.
+	 * @param refreshExecutor the executor or {@code null} to refresh a stale health on
+	 * the calling thread
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Return the maximum time in milliseconds that a health can be cached.
+	 * @return the time to live of a health
+	 */
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	@Override
+	public Health health() {
+		CachedHealth cached = this.cached;
+		long accessTime = System.currentTimeMillis();
+		if (cached != null && !cached.isStale(accessTime, this.timeToLive)) {
+			return cached.getHealth();
+		}
+		Executor refreshExecutor = this.refreshExecutor;
+		if (cached != null && refreshExecutor != null) {
+			refreshInBackground(refreshExecutor);
+			return cached.getHealth();
+		}
+		synchronized (this.monitor) {
+			cached = this.cached;
+			if (cached == null || cached.isStale(accessTime, this.timeToLive)) {
+				cached = refresh();
+			}
+			return cached.getHealth();
+		}
+	}
+
+	private void refreshInBackground(Executor refreshExecutor) {
+		if (this.refreshing.compareAndSet(false, true)) {
+			try {
+				refreshExecutor.execute(() -> {
+					try {
+						refresh();
+					}
+					finally {
+						this.refreshing.set(false);
+					}
+				});
+			}
+			catch (RuntimeException ex) {
+				this.refreshing.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	private CachedHealth refresh() {
+		Health health;
+		try {
+			health = this.delegate.health();
+		}
+		catch (Exception ex) {
+			health = Health.down(ex).build();
+		}
+		CachedHealth cached = new CachedHealth(health, System.currentTimeMillis());
+		this.cached = cached;
+		return cached;
+	}
+
+	/**
+	 * A cached health and the time at which it was obtained.
+	 */
+	private static final class CachedHealth {
+
+		private final Health health;
+
+		private final long creationTime;
+
+		CachedHealth(Health health, long creationTime) {
+			this.health = health;
+			this.creationTime = creationTime;
+		}
+
+		boolean isStale(long accessTime, long timeToLive) {
+			return (accessTime - this.creationTime) >= timeToLive;
+		}
+
+		Health getHealth() {
+			return this.health;
+		}
+
+	}
+
+}
@@ -18,11 +18,24 @@ package org.springframework.boot.actuate.health;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.util.Assert;
 
 /**
  * {@link HealthIndicator} that returns health indications from all registered delegates.
+ * By default delegates are called in turn on the calling thread. When an
+ * {@link #executor(Executor) executor} is configured they are called in parallel and an
+ * optional {@link #timeoutStrategy(long, Health) timeout} provides an alternative
+ * {@link Health} for any delegate that does not reply in time. A delegate that is still
+ * being called, for example because it did not reply in time previously, is not called
+ * again until it replies.
  *
  * @author Tyler J. Frederick
  * @author Phillip Webb
@@ -35,6 +48,14 @@ public class CompositeHealthIndicator implements HealthIndicator {
 
 	private final HealthAggregator healthAggregator;
 
+	private final Map<String, Future<Health>> calls = new ConcurrentHashMap<>();
+
+	private Executor executor;
+
+	private Long timeout;
+
+	private Health timeoutHealth;
+
 	/**
 	 * Create a new {@link CompositeHealthIndicator}.
 	 * @param healthAggregator the health aggregator
@@ -61,8 +82,41 @@ public class CompositeHealthIndicator implements HealthIndicator {
 		this.indicators.put(name, indicator);
 	}
 
+	/**
+	 * Specify the {@link Executor} that should be used to call the delegates in parallel.
+	 * @param executor the executor or {@code null} to call the delegates in turn on the
+	 * calling thread
+	 * @return this instance
+	 * @since 2.0.0
+	 */
+	public CompositeHealthIndicator executor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Specify an alternative timeout {@link Health} if an {@link HealthIndicator} failed
+	 * to reply after specified {@code timeout}. Only applies when an
+	 * {@link #executor(Executor) executor} has been configured.
+	 * @param timeout number of milliseconds to wait before using the
+	 * {@code timeoutHealth}
+	 * @param timeoutHealth the {@link Health} to use if an health indicator reached the
+	 * {@code timeout}
+	 * @return this instance
+	 * @since 2.0.0
+	 */
+	public CompositeHealthIndicator timeoutStrategy(long timeout, Health timeoutHealth) {
+		this.timeout = timeout;
+		this.timeoutHealth = (timeoutHealth != null ? timeoutHealth
+				: Health.unknown().build());
+		return this;
+	}
+
 	@Override
 	public Health health() {
+		if (this.executor != null) {
+			return this.healthAggregator.aggregate(getHealthsInParallel());
+		}
 		Map<String, Health> healths = new LinkedHashMap<>();
 		for (Map.Entry<String, HealthIndicator> entry : this.indicators.entrySet()) {
 			healths.put(entry.getKey(), entry.getValue().health());
@@ -70,4 +124,44 @@ public class CompositeHealthIndicator implements HealthIndicator {
 		return this.healthAggregator.aggregate(healths);
 	}
 
+	private Map<String, Health> getHealthsInParallel() {
+		Map<String, Future<Health>> futures = new LinkedHashMap<>();
+		this.indicators.forEach(
+				(name, indicator) -> futures.put(name, call(name, indicator)));
+		long deadline = (this.timeout != null
+				? System.currentTimeMillis() + this.timeout : 0);
+		Map<String, Health> healths = new LinkedHashMap<>();
+		futures.forEach((name, future) -> healths.put(name, getHealth(future, deadline)));
+		return healths;
+	}
+
+	private Future<Health> call(String name, HealthIndicator indicator) {
+		return this.calls.compute(name, (key, call) -> {
+			if (call != null && !call.isDone()) {
+				return call;
+			}
+			return CompletableFuture.supplyAsync(indicator::health, this.executor);
+		});
+	}
+
+	private Health getHealth(Future<Health> future, long deadline) {
+		try {
+			if (this.timeout == null) {
+				return future.get();
+			}
+			long remaining = Math.max(0, deadline - System.currentTimeMillis());
+			return future.get(remaining, TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException ex) {
+			return this.timeoutHealth;
+		}
+		catch (ExecutionException ex) {
+			return Health.down().withException(ex.getCause()).build();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return Health.down().withException(ex).build();
+		}
+	}
+
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * {@link Endpoint} to expose a histogram of the classes of the objects on the heap. The
+ * histogram is a lightweight alternative to a heap dump that is obtained using the
+ * {@code GC.class_histogram} diagnostic command available on Oracle and OpenJDK.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ */
+@Endpoint(id = "classhistogram")
+public class ClassHistogramEndpoint {
+
+	private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+
+	private static final int DEFAULT_LIMIT = 100;
+
+	private static final Pattern ENTRY_PATTERN = Pattern
+			.compile("^\\s*\\d+:\\s+(\\d+)\\s+(\\d+)\\s+(\\S+).*$");
+
+	private static final Pattern TOTAL_PATTERN = Pattern
+			.compile("^\\s*Total\\s+(\\d+)\\s+(\\d+).*$");
+
+	/**
+	 * Return a histogram of the classes of the objects on the heap, ordered by the number
+	 * of bytes that they occupy.
+	 * @param live if only <em>live</em> objects (i.e. objects that are reachable from
+	 * others) should be included. Doing so triggers a full garbage collection so, by
+	 * default, all objects are included
+	 * @param limit the maximum number of classes to include
+	 * @return the class histogram
+	 */
+	@ReadOperation
+	public ClassHistogramDescriptor classHistogram(Boolean live, Integer limit) {
+		String histogram = getClassHistogram(live != null && live);
+		return parse(histogram, limit == null ? DEFAULT_LIMIT : limit);
+	}
+
+	/**
+	 * Return the class histogram in the format of the {@code GC.class_histogram}
+	 * diagnostic command.
+	 * @param live if only <em>live</em> objects should be included
+	 * @return the class histogram
+	 */
+	protected String getClassHistogram(boolean live) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			String[] arguments = (live ? new String[0] : new String[] { "-all" });
+			return (String) server.invoke(new ObjectName(DIAGNOSTIC_COMMAND),
+					"gcClassHistogram", new Object[] { arguments },
+					new String[] { String[].class.getName() });
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Unable to obtain class histogram", ex);
+		}
+	}
+
+	private ClassHistogramDescriptor parse(String histogram, int limit) {
+		List<ClassDescriptor> classes = new ArrayList<>();
+		long totalInstances = 0;
+		long totalBytes = 0;
+		for (String line : histogram.split("\\r?\\n")) {
+			Matcher matcher = ENTRY_PATTERN.matcher(line);
+			if (matcher.matches()) {
+				if (classes.size() < limit) {
+					classes.add(new ClassDescriptor(matcher.group(3),
+							Long.parseLong(matcher.group(1)),
+							Long.parseLong(matcher.group(2))));
+				}
+				continue;
+			}
+			matcher = TOTAL_PATTERN.matcher(line);
+			if (matcher.matches()) {
+				totalInstances = Long.parseLong(matcher.group(1));
+				totalBytes = Long.parseLong(matcher.group(2));
+			}
+		}
+		return new ClassHistogramDescriptor(totalInstances, totalBytes,
+				Collections.unmodifiableList(classes));
+	}
+
+	/**
+	 * A description of a class histogram. Primarily intended for serialization to JSON.
+	 */
+	public static final class ClassHistogramDescriptor {
+
+		private final long instances;
+
+		private final long bytes;
+
+		private final List<ClassDescriptor> classes;
+
+		private ClassHistogramDescriptor(long instances, long bytes,
+				List<ClassDescriptor> classes) {
+			this.instances = instances;
+			this.bytes = bytes;
+			this.classes = classes;
+		}
+
+		public long getInstances() {
+			return this.instances;
+		}
+
+		public long getBytes() {
+			return this.bytes;
+		}
+
+		public List<ClassDescriptor> getClasses() {
+			return this.classes;
+		}
+
+	}
+
+	/**
+	 * A description of a class in a class histogram. Primarily intended for serialization
+	 * to JSON.
+	 */
+	public static final class ClassDescriptor {
+
+		private final String name;
+
+		private final long instances;
+
+		private final long bytes;
+
+		private ClassDescriptor(String name, long instances, long bytes) {
+			this.name = name;
+			this.instances = instances;
+			this.bytes = bytes;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public long getInstances() {
+			return this.instances;
+		}
+
+		public long getBytes() {
+			return this.bytes;
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.management;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link InputStream} that provides the content of a source {@link InputStream}
+ * compressed using gzip. The source is compressed in chunks as the stream is read so
+ * that only a small amount of compressed data is ever held in memory.
+ *
+ * @author Phillip Webb
+ */
+class GzipCompressingInputStream extends InputStream {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final InputStream source;
+
+	private final Buffer buffer = new Buffer();
+
+	private final GZIPOutputStream gzip;
+
+	private final byte[] chunk = new byte[BUFFER_SIZE];
+
+	private int position;
+
+	private boolean finished;
+
+	GzipCompressingInputStream(InputStream source) throws IOException {
+		this.source = source;
+		this.gzip = new GZIPOutputStream(this.buffer, BUFFER_SIZE);
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return this.buffer.getBytes()[this.position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int count = Math.min(len, this.buffer.size() - this.position);
+		System.arraycopy(this.buffer.getBytes(), this.position, b, off, count);
+		this.position += count;
+		return count;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return this.buffer.size() - this.position;
+	}
+
+	private boolean fill() throws IOException {
+		while (this.position >= this.buffer.size()) {
+			if (this.finished) {
+				return false;
+			}
+			this.buffer.reset();
+			this.position = 0;
+			int read = this.source.read(this.chunk);
+			if (read == -1) {
+				this.gzip.finish();
+				this.finished = true;
+			}
+			else {
+				this.gzip.write(this.chunk, 0, read);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			this.source.close();
+		}
+		finally {
+			this.finished = true;
+			this.gzip.close();
+		}
+	}
+
+	/**
+	 * {@link ByteArrayOutputStream} that provides direct access to its buffer.
+	 */
+	private static final class Buffer extends ByteArrayOutputStream {
+
+		byte[] getBytes() {
+			return this.buf;
+		}
+
+	}
+
+}
@@ -41,13 +41,16 @@ import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
- * Web {@link Endpoint} to expose heap dumps.
+ * Web {@link Endpoint} to expose heap dumps. Heap dumps are written to a temporary file
+ * that is deleted once it has been sent. When requested, the dump is compressed using
+ * gzip as it is sent.
  *
  * @author Lari Hotari
  * @author Phillip Webb
@@ -60,25 +63,43 @@ public class HeapDumpWebEndpoint {
 
 	private final long timeout;
 
+	private final File dumpDirectory;
+
 	private final Lock lock = new ReentrantLock();
 
 	private HeapDumper heapDumper;
 
 	public HeapDumpWebEndpoint() {
-		this(TimeUnit.SECONDS.toMillis(10));
+		this((File) null);
+	}
+
+	/**
+	 * Create a new {@link HeapDumpWebEndpoint} that writes heap dumps to the given
+	 * directory.
+	 * @param dumpDirectory the directory to which heap dumps are written or {@code null}
+	 * to use the default temporary directory
+	 */
+	public HeapDumpWebEndpoint(File dumpDirectory) {
+		this(TimeUnit.SECONDS.toMillis(10), dumpDirectory);
 	}
 
 	protected HeapDumpWebEndpoint(long timeout) {
+		this(timeout, null);
+	}
+
+	protected HeapDumpWebEndpoint(long timeout, File dumpDirectory) {
 		this.timeout = timeout;
+		this.dumpDirectory = dumpDirectory;
 	}
 
 	@ReadOperation
-	public WebEndpointResponse<Resource> heapDump(Boolean live) {
+	public WebEndpointResponse<Resource> heapDump(Boolean live, Boolean compress) {
 		try {
 			if (this.lock.tryLock(this.timeout, TimeUnit.MILLISECONDS)) {
 				try {
-					return new WebEndpointResponse<>(
-							dumpHeap(live == null ? true : live));
+					return new WebEndpointResponse<>(dumpHeap(
+							live == null ? true : live,
+							compress == null ? false : compress));
 				}
 				finally {
 					this.lock.unlock();
@@ -97,19 +118,24 @@ public class HeapDumpWebEndpoint {
 		return new WebEndpointResponse<>(HttpStatus.TOO_MANY_REQUESTS.value());
 	}
 
-	private Resource dumpHeap(boolean live) throws IOException, InterruptedException {
+	private Resource dumpHeap(boolean live, boolean compress)
+			throws IOException, InterruptedException {
 		if (this.heapDumper == null) {
 			this.heapDumper = createHeapDumper();
 		}
 		File file = createTempFile(live);
 		this.heapDumper.dumpHeap(file, live);
-		return new TemporaryFileSystemResource(file);
+		Resource resource = new TemporaryFileSystemResource(file);
+		if (compress) {
+			return new CompressedResource(resource);
+		}
+		return resource;
 	}
 
 	private File createTempFile(boolean live) throws IOException {
 		String date = new SimpleDateFormat("yyyy-MM-dd-HH-mm").format(new Date());
 		File file = File.createTempFile("heapdump" + date + (live ? "-live" : ""),
-				".hprof");
+				".hprof", this.dumpDirectory);
 		file.delete();
 		return file;
 	}
@@ -186,6 +212,33 @@ public class HeapDumpWebEndpoint {
 
 	}
 
+	/**
+	 * {@link InputStreamResource} that compresses a heap dump using gzip as it is read.
+	 * Its filename ends with {@code .gz} to indicate that the heap dump is compressed.
+	 */
+	private static final class CompressedResource extends InputStreamResource {
+
+		private final String filename;
+
+		private CompressedResource(Resource resource) throws IOException {
+			super(new GzipCompressingInputStream(resource.getInputStream()),
+					"Compressed " + resource.getDescription());
+			this.filename = resource.getFilename() + ".gz";
+		}
+
+		@Override
+		public String getFilename() {
+			return this.filename;
+		}
+
+		@Override
+		public long contentLength() {
+			// Prevent the stream from being read to determine the content length
+			return -1;
+		}
+
+	}
+
 	private static final class TemporaryFileSystemResource extends FileSystemResource {
 
 		private final Log logger = LogFactory.getLog(getClass());
@@ -16,20 +16,29 @@
 
 package org.springframework.boot.actuate.metrics.export.prometheus;
 
-import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
 
+import io.prometheus.client.Collector.MetricFamilySamples;
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
 
 import org.springframework.boot.actuate.endpoint.EndpointExposure;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link Endpoint} that outputs metrics in a format that can be scraped by the Prometheus
- * server.
+ * server. The metrics are streamed as the response is written rather than being
+ * collected up front.
  *
  * @author Jon Schneider
  * @since 2.0.0
@@ -43,18 +52,36 @@ public class PrometheusScrapeEndpoint {
 		this.collectorRegistry = collectorRegistry;
 	}
 
+	/**
+	 * Scrape the metrics, optionally only including those with a name that starts with
+	 * one of the given prefixes. The returned resource streams the metrics and can only
+	 * be read once so, like other operations that return a {@link Resource}, its
+	 * response is never cached.
+	 * @param includedNames the prefixes of the names of the metrics to include or
+	 * {@code null} to include all metrics
+	 * @return a resource that provides the metrics in the Prometheus text format
+	 */
 	@ReadOperation(produces = TextFormat.CONTENT_TYPE_004)
-	public String scrape() {
-		try {
-			Writer writer = new StringWriter();
-			TextFormat.write004(writer, this.collectorRegistry.metricFamilySamples());
-			return writer.toString();
-		}
-		catch (IOException e) {
-			// This actually never happens since StringWriter::write() doesn't throw any
-			// IOException
-			throw new RuntimeException("Writing metrics failed", e);
+	public Resource scrape(String[] includedNames) {
+		return new InputStreamResource(
+				new TextFormatInputStream(getMetricFamilySamples(includedNames)));
+	}
+
+	private Iterator<MetricFamilySamples> getMetricFamilySamples(
+			String[] includedNames) {
+		Enumeration<MetricFamilySamples> samples = this.collectorRegistry
+				.metricFamilySamples();
+		if (ObjectUtils.isEmpty(includedNames)) {
+			return CollectionUtils.toIterator(samples);
 		}
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(
+						CollectionUtils.toIterator(samples), Spliterator.ORDERED), false)
+				.filter((sample) -> isIncluded(sample.name, includedNames)).iterator();
+	}
+
+	private boolean isIncluded(String name, String[] includedNames) {
+		return Arrays.stream(includedNames).anyMatch(name::startsWith);
 	}
 
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.exporter.common.TextFormat;
+
+/**
+ * {@link InputStream} that provides {@link MetricFamilySamples} in the Prometheus text
+ * format. Samples are formatted one family at a time as the stream is read so that the
+ * complete output is never held in memory.
+ *
+ * @author Phillip Webb
+ */
+class TextFormatInputStream extends InputStream {
+
+	private final Iterator<MetricFamilySamples> samples;
+
+	private final Buffer buffer = new Buffer();
+
+	private final Writer writer = new OutputStreamWriter(this.buffer,
+			StandardCharsets.UTF_8);
+
+	private int position;
+
+	TextFormatInputStream(Iterator<MetricFamilySamples> samples) {
+		this.samples = samples;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return this.buffer.getBytes()[this.position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int count = Math.min(len, this.buffer.size() - this.position);
+		System.arraycopy(this.buffer.getBytes(), this.position, b, off, count);
+		this.position += count;
+		return count;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return this.buffer.size() - this.position;
+	}
+
+	private boolean fill() throws IOException {
+		while (this.position >= this.buffer.size()) {
+			if (!this.samples.hasNext()) {
+				return false;
+			}
+			this.buffer.reset();
+			this.position = 0;
+			TextFormat.write004(this.writer,
+					Collections.enumeration(Collections.singleton(this.samples.next())));
+			this.writer.flush();
+		}
+		return true;
+	}
+
+	/**
+	 * {@link ByteArrayOutputStream} that provides direct access to its buffer.
+	 */
+	private static final class Buffer extends ByteArrayOutputStream {
+
+		byte[] getBytes() {
+			return this.buf;
+		}
+
+	}
+
+}
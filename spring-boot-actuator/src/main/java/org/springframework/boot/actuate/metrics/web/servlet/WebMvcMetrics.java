@@ -18,10 +18,12 @@ package org.springframework.boot.actuate.metrics.web.servlet;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -42,6 +44,7 @@ import io.micrometer.core.instrument.util.AnnotationUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -61,10 +64,20 @@ public class WebMvcMetrics {
 
 	private static final String EXCEPTION_ATTRIBUTE = "micrometer.requestException";
 
+	private static final String LONG_TASK_TIMINGS_REQUEST_ATTRIBUTE = "micrometer.requestLongTaskTimings";
+
+	/**
+	 * Maximum number of timers held in the local cache. Once reached, timers for new
+	 * tag combinations, for example from high-cardinality URIs, are looked up in the
+	 * registry on each request rather than being cached.
+	 */
+	private static final int MAX_CACHED_TIMERS = 1000;
+
 	private static final Log logger = LogFactory.getLog(WebMvcMetrics.class);
 
-	private final Map<HttpServletRequest, Long> longTaskTimerIds = Collections
-			.synchronizedMap(new IdentityHashMap<>());
+	private final Map<HandlerMethod, HandlerTimerConfigs> handlerTimerConfigs = new ConcurrentReferenceHashMap<>();
+
+	private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
 
 	private final MeterRegistry registry;
 
@@ -94,14 +107,24 @@ public class WebMvcMetrics {
 	void preHandle(HttpServletRequest request, Object handler) {
 		request.setAttribute(TIMING_REQUEST_ATTRIBUTE, System.nanoTime());
 		request.setAttribute(HANDLER_REQUEST_ATTRIBUTE, handler);
-		longTaskTimed(handler).forEach((config) -> {
+		if (request.getAttribute(LONG_TASK_TIMINGS_REQUEST_ATTRIBUTE) != null) {
+			// Already started by the initial dispatch of an async request
+			return;
+		}
+		Set<TimerConfig> longTaskTimed = longTaskTimed(handler);
+		if (longTaskTimed.isEmpty()) {
+			return;
+		}
+		List<LongTaskTiming> timings = new ArrayList<>(longTaskTimed.size());
+		longTaskTimed.forEach((config) -> {
 			if (config.getName() == null) {
 				logWarning(request, handler);
 				return;
 			}
-			this.longTaskTimerIds.put(request,
-					longTaskTimer(config, request, handler).start());
+			LongTaskTimer timer = longTaskTimer(config, request, handler);
+			timings.add(new LongTaskTiming(timer, timer.start()));
 		});
+		request.setAttribute(LONG_TASK_TIMINGS_REQUEST_ATTRIBUTE, timings);
 	}
 
 	private void logWarning(HttpServletRequest request, Object handler) {
@@ -120,22 +143,19 @@ public class WebMvcMetrics {
 		Object handler = request.getAttribute(HANDLER_REQUEST_ATTRIBUTE);
 		Long startTime = (Long) request.getAttribute(TIMING_REQUEST_ATTRIBUTE);
 		long endTime = System.nanoTime();
-		completeLongTimerTasks(request, handler);
+		completeLongTimerTasks(request);
 		Throwable thrown = (ex != null ? ex
 				: (Throwable) request.getAttribute(EXCEPTION_ATTRIBUTE));
 		recordTimerTasks(request, response, handler, startTime, endTime, thrown);
 	}
 
-	private void completeLongTimerTasks(HttpServletRequest request, Object handler) {
-		longTaskTimed(handler)
-				.forEach((config) -> completeLongTimerTask(request, handler, config));
-	}
-
-	private void completeLongTimerTask(HttpServletRequest request, Object handler,
-			TimerConfig config) {
-		if (config.getName() != null) {
-			longTaskTimer(config, request, handler)
-					.stop(this.longTaskTimerIds.remove(request));
+	@SuppressWarnings("unchecked")
+	private void completeLongTimerTasks(HttpServletRequest request) {
+		List<LongTaskTiming> timings = (List<LongTaskTiming>) request
+				.getAttribute(LONG_TASK_TIMINGS_REQUEST_ATTRIBUTE);
+		if (timings != null) {
+			request.removeAttribute(LONG_TASK_TIMINGS_REQUEST_ATTRIBUTE);
+			timings.forEach(LongTaskTiming::stop);
 		}
 	}
 
@@ -143,18 +163,34 @@ public class WebMvcMetrics {
 			HttpServletResponse response, Object handler, Long startTime, long endTime,
 			Throwable thrown) {
 		// record Timer values
-		timed(handler).forEach((config) -> {
-			Timer.Builder builder = getTimerBuilder(request, response, thrown, config);
-			long amount = endTime - startTime;
-			builder.register(this.registry).record(amount, TimeUnit.NANOSECONDS);
-		});
+		Set<TimerConfig> timed = timed(handler);
+		if (timed.isEmpty()) {
+			return;
+		}
+		Iterable<Tag> requestTags = this.tagsProvider.httpRequestTags(request, response,
+				thrown);
+		long amount = endTime - startTime;
+		timed.forEach((config) -> getTimer(config, requestTags).record(amount,
+				TimeUnit.NANOSECONDS));
+	}
+
+	private Timer getTimer(TimerConfig config, Iterable<Tag> requestTags) {
+		TimerKey key = new TimerKey(config.getName(),
+				Tags.concat(requestTags, config.getExtraTags()));
+		Timer timer = this.timers.get(key);
+		if (timer != null) {
+			return timer;
+		}
+		if (this.timers.size() >= MAX_CACHED_TIMERS) {
+			return getTimerBuilder(config, key.getTags()).register(this.registry);
+		}
+		return this.timers.computeIfAbsent(key,
+				(k) -> getTimerBuilder(config, k.getTags()).register(this.registry));
 	}
 
-	private Timer.Builder getTimerBuilder(HttpServletRequest request,
-			HttpServletResponse response, Throwable thrown, TimerConfig config) {
-		Timer.Builder builder = Timer.builder(config.getName())
-				.tags(this.tagsProvider.httpRequestTags(request, response, thrown))
-				.tags(config.getExtraTags()).description("Timer of servlet request");
+	private Timer.Builder getTimerBuilder(TimerConfig config, Iterable<Tag> tags) {
+		Timer.Builder builder = Timer.builder(config.getName()).tags(tags)
+				.description("Timer of servlet request");
 		if (config.getQuantiles().length > 0) {
 			WindowSketchQuantiles quantiles = WindowSketchQuantiles
 					.quantiles(config.getQuantiles()).create();
@@ -177,7 +213,7 @@ public class WebMvcMetrics {
 
 	private Set<TimerConfig> longTaskTimed(Object handler) {
 		if (handler instanceof HandlerMethod) {
-			return longTaskTimed((HandlerMethod) handler);
+			return getHandlerTimerConfigs((HandlerMethod) handler).getLongTaskTimed();
 		}
 		return Collections.emptySet();
 	}
@@ -192,11 +228,20 @@ public class WebMvcMetrics {
 
 	private Set<TimerConfig> timed(Object handler) {
 		if (handler instanceof HandlerMethod) {
-			return timed((HandlerMethod) handler);
+			return getHandlerTimerConfigs((HandlerMethod) handler).getTimed();
 		}
 		return Collections.emptySet();
 	}
 
+	private HandlerTimerConfigs getHandlerTimerConfigs(HandlerMethod handler) {
+		HandlerTimerConfigs configs = this.handlerTimerConfigs.get(handler);
+		if (configs == null) {
+			configs = new HandlerTimerConfigs(timed(handler), longTaskTimed(handler));
+			this.handlerTimerConfigs.put(handler, configs);
+		}
+		return configs;
+	}
+
 	private Set<TimerConfig> timed(HandlerMethod handler) {
 		Set<TimerConfig> config = getNonLongTaskAnnotationConfig(handler.getMethod());
 		if (config.isEmpty()) {
@@ -234,6 +279,110 @@ public class WebMvcMetrics {
 		return this.metricName;
 	}
 
+	/**
+	 * The {@link TimerConfig timer configurations} that apply to a handler.
+	 */
+	private static final class HandlerTimerConfigs {
+
+		private final Set<TimerConfig> timed;
+
+		private final Set<TimerConfig> longTaskTimed;
+
+		HandlerTimerConfigs(Set<TimerConfig> timed, Set<TimerConfig> longTaskTimed) {
+			this.timed = timed;
+			this.longTaskTimed = longTaskTimed;
+		}
+
+		public Set<TimerConfig> getTimed() {
+			return this.timed;
+		}
+
+		public Set<TimerConfig> getLongTaskTimed() {
+			return this.longTaskTimed;
+		}
+
+	}
+
+	/**
+	 * Key used to cache a {@link Timer} by its name and tags. Tags are compared using
+	 * their keys and values.
+	 */
+	private static final class TimerKey {
+
+		private final String name;
+
+		private final List<Tag> tags;
+
+		private final int hashCode;
+
+		TimerKey(String name, Iterable<Tag> tags) {
+			this.name = name;
+			this.tags = new ArrayList<>();
+			int hashCode = name.hashCode();
+			for (Tag tag : tags) {
+				this.tags.add(tag);
+				hashCode = 31 * (31 * hashCode + tag.getKey().hashCode())
+						+ tag.getValue().hashCode();
+			}
+			this.hashCode = hashCode;
+		}
+
+		public List<Tag> getTags() {
+			return this.tags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TimerKey other = (TimerKey) obj;
+			if (this.hashCode != other.hashCode || !this.name.equals(other.name)
+					|| this.tags.size() != other.tags.size()) {
+				return false;
+			}
+			for (int i = 0; i < this.tags.size(); i++) {
+				Tag tag = this.tags.get(i);
+				Tag otherTag = other.tags.get(i);
+				if (!tag.getKey().equals(otherTag.getKey())
+						|| !tag.getValue().equals(otherTag.getValue())) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
+	/**
+	 * A started {@link LongTaskTimer} task, held as a request attribute until the
+	 * request completes.
+	 */
+	private static final class LongTaskTiming {
+
+		private final LongTaskTimer timer;
+
+		private final long taskId;
+
+		LongTaskTiming(LongTaskTimer timer, long taskId) {
+			this.timer = timer;
+			this.taskId = taskId;
+		}
+
+		public void stop() {
+			this.timer.stop(this.taskId);
+		}
+
+	}
+
 	private static class TimerConfig {
 
 		private final String name;
@@ -19,65 +19,143 @@ package org.springframework.boot.actuate.trace;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.util.Assert;
 
 /**
- * In-memory implementation of {@link TraceRepository}.
+ * In-memory implementation of {@link TraceRepository}. Traces are held in a bounded
+ * ring buffer so that adding a trace never blocks and {@link #findAll()} returns a
+ * snapshot without holding up concurrent writers.
  *
  * @author Dave Syer
  * @author Olivier Bourgain
  */
 public class InMemoryTraceRepository implements TraceRepository {
 
-	private int capacity = 100;
+	private static final int DEFAULT_CAPACITY = 100;
+
+	private volatile boolean reverse = true;
 
-	private boolean reverse = true;
+	private volatile RingBuffer traces;
+
+	public InMemoryTraceRepository() {
+		this(DEFAULT_CAPACITY);
+	}
 
-	private final List<Trace> traces = new LinkedList<>();
+	public InMemoryTraceRepository(int capacity) {
+		this.traces = new RingBuffer(capacity);
+	}
 
 	/**
 	 * Flag to say that the repository lists traces in reverse order.
 	 * @param reverse flag value (default true)
 	 */
 	public void setReverse(boolean reverse) {
-		synchronized (this.traces) {
-			this.reverse = reverse;
-		}
+		this.reverse = reverse;
 	}
 
 	/**
-	 * Set the capacity of the in-memory repository.
+	 * Set the capacity of the in-memory repository. The most recent traces that have
+	 * already been recorded are retained, up to the new capacity.
 	 * @param capacity the capacity
 	 */
-	public void setCapacity(int capacity) {
-		synchronized (this.traces) {
-			this.capacity = capacity;
+	public synchronized void setCapacity(int capacity) {
+		RingBuffer traces = new RingBuffer(capacity);
+		List<Trace> existing = this.traces.snapshot();
+		for (Trace trace : existing.subList(Math.max(0, existing.size() - capacity),
+				existing.size())) {
+			traces.add(trace);
 		}
+		this.traces = traces;
 	}
 
 	@Override
 	public List<Trace> findAll() {
-		synchronized (this.traces) {
-			return Collections.unmodifiableList(new ArrayList<>(this.traces));
+		List<Trace> traces = this.traces.snapshot();
+		if (this.reverse) {
+			Collections.reverse(traces);
 		}
+		return Collections.unmodifiableList(traces);
 	}
 
 	@Override
 	public void add(Map<String, Object> map) {
-		Trace trace = new Trace(new Date(), map);
-		synchronized (this.traces) {
-			while (this.traces.size() >= this.capacity) {
-				this.traces.remove(this.reverse ? this.capacity - 1 : 0);
-			}
-			if (this.reverse) {
-				this.traces.add(0, trace);
+		this.traces.add(new Trace(new Date(), map));
+	}
+
+	/**
+	 * Fixed size buffer of {@link Trace traces}. Writers claim a sequence number and
+	 * publish into the corresponding slot, overwriting the oldest entry once the buffer
+	 * is full. A slot is never overwritten by a writer holding an older sequence, so a
+	 * slow writer cannot replace a more recent trace.
+	 */
+	private static final class RingBuffer {
+
+		private final AtomicReferenceArray<Slot> slots;
+
+		private final AtomicLong sequence = new AtomicLong();
+
+		RingBuffer(int capacity) {
+			Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+			this.slots = new AtomicReferenceArray<>(capacity);
+		}
+
+		public void add(Trace trace) {
+			long sequence = this.sequence.getAndIncrement();
+			int index = index(sequence);
+			Slot slot = new Slot(sequence, trace);
+			Slot current = this.slots.get(index);
+			while (current == null || current.sequence < sequence) {
+				if (this.slots.compareAndSet(index, current, slot)) {
+					return;
+				}
+				current = this.slots.get(index);
 			}
-			else {
-				this.traces.add(trace);
+		}
+
+		/**
+		 * Return the traces currently in the buffer, oldest first. Slots that have been
+		 * claimed but not yet published, or that have been overwritten since the
+		 * snapshot started, are skipped.
+		 * @return a snapshot of the traces
+		 */
+		public List<Trace> snapshot() {
+			long end = this.sequence.get();
+			long start = Math.max(0, end - this.slots.length());
+			List<Trace> traces = new ArrayList<>((int) (end - start));
+			for (long sequence = start; sequence < end; sequence++) {
+				Slot slot = this.slots.get(index(sequence));
+				if (slot != null && slot.sequence == sequence) {
+					traces.add(slot.trace);
+				}
 			}
+			return traces;
+		}
+
+		private int index(long sequence) {
+			return (int) (sequence % this.slots.length());
 		}
+
+	}
+
+	/**
+	 * A published {@link Trace} along with the sequence number it was written at.
+	 */
+	private static final class Slot {
+
+		private final long sequence;
+
+		private final Trace trace;
+
+		Slot(long sequence, Trace trace) {
+			this.sequence = sequence;
+			this.trace = trace;
+		}
+
 	}
 
 }
@@ -16,11 +16,16 @@
 
 package org.springframework.boot.actuate.audit;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -122,4 +127,97 @@ public class InMemoryAuditEventRepositoryTests {
 		assertThat(events.get(0).getType()).isEqualTo("c");
 	}
 
+	@Test
+	public void findByType() throws Exception {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent("dave", "a"));
+		repository.add(new AuditEvent("phil", "b"));
+		repository.add(new AuditEvent("phil", "a"));
+		List<AuditEvent> events = repository.find(null, null, "a");
+		assertThat(events.size()).isEqualTo(2);
+		assertThat(events.get(0).getPrincipal()).isEqualTo("dave");
+		assertThat(events.get(1).getPrincipal()).isEqualTo("phil");
+	}
+
+	@Test
+	public void findByDateWhenCapacityExceeded() throws Exception {
+		Map<String, Object> data = new HashMap<>();
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository(10);
+		for (int i = 0; i < 25; i++) {
+			repository.add(new AuditEvent(new Date(i * 1000), "dave", "" + i, data));
+		}
+		assertThat(repository.find(new Date(0)).size()).isEqualTo(10);
+		List<AuditEvent> events = repository.find(new Date(20000));
+		assertThat(events.size()).isEqualTo(5);
+		assertThat(events.get(0).getType()).isEqualTo("20");
+		assertThat(events.get(4).getType()).isEqualTo("24");
+	}
+
+	@Test
+	public void findByDateWhenEventsAreOutOfOrder() throws Exception {
+		Map<String, Object> data = new HashMap<>();
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent(new Date(3000), "dave", "a", data));
+		repository.add(new AuditEvent(new Date(1000), "dave", "b", data));
+		repository.add(new AuditEvent(new Date(2000), "dave", "c", data));
+		repository.add(new AuditEvent(new Date(4000), "dave", "d", data));
+		List<AuditEvent> events = repository.find(new Date(2000));
+		assertThat(events.size()).isEqualTo(3);
+		assertThat(events.get(0).getType()).isEqualTo("a");
+		assertThat(events.get(1).getType()).isEqualTo("c");
+		assertThat(events.get(2).getType()).isEqualTo("d");
+	}
+
+	@Test
+	public void setCapacityClearsEvents() throws Exception {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent("dave", "a"));
+		repository.setCapacity(2);
+		assertThat(repository.find(null)).isEmpty();
+		repository.add(new AuditEvent("dave", "b"));
+		assertThat(repository.find("dave", null).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void concurrentAddAndFind() throws Exception {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository(100);
+		int threads = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch latch = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				String type = "type" + i;
+				futures.add(executor.submit(() -> {
+					latch.await();
+					for (int j = 0; j < 10000; j++) {
+						String principal = "user" + (j % 10);
+						repository.add(new AuditEvent(principal, type));
+						assertThat(repository.find(principal, null).size())
+								.isLessThanOrEqualTo(100);
+					}
+					return null;
+				}));
+			}
+			latch.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat(repository.find(null)).hasSize(100);
+		int principals = 0;
+		for (int i = 0; i < 10; i++) {
+			principals += repository.find("user" + i, null).size();
+		}
+		assertThat(principals).isEqualTo(100);
+		int types = 0;
+		for (int i = 0; i < threads; i++) {
+			types += repository.find(null, null, "type" + i).size();
+		}
+		assertThat(types).isEqualTo(100);
+	}
+
 }
@@ -16,11 +16,13 @@
 
 package org.springframework.boot.actuate.endpoint.annotation;
 
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -40,6 +42,7 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.io.Resource;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -160,7 +163,7 @@ public class AnnotationEndpointDiscovererTests {
 	}
 
 	@Test
-	public void endpointMainReadOperationIsCachedWithMatchingId() {
+	public void endpointReadOperationsAreCachedWithMatchingId() {
 		CachingConfigurationFactory cachingConfigurationFactory = (
 				endpointId) -> (endpointId.equals("test") ? new CachingConfiguration(500)
 						: new CachingConfiguration(0));
@@ -180,13 +183,29 @@ public class AnnotationEndpointDiscovererTests {
 					.isEqualTo(500);
 			assertThat(operations.get(ReflectionUtils.findMethod(TestEndpoint.class,
 					"getOne", String.class)).getInvoker())
-							.isNotInstanceOf(CachingOperationInvoker.class);
+							.isInstanceOf(CachingOperationInvoker.class);
 			assertThat(operations.get(ReflectionUtils.findMethod(TestEndpoint.class,
 					"update", String.class, String.class)).getInvoker())
 							.isNotInstanceOf(CachingOperationInvoker.class);
 		});
 	}
 
+	@Test
+	public void endpointReadOperationsThatReturnSingleUseResponsesAreNotCached() {
+		load(SingleUseResponseEndpointConfiguration.class, (context) -> {
+			Map<String, EndpointInfo<TestEndpointOperation>> endpoints = mapEndpoints(
+					new TestAnnotationEndpointDiscoverer(context,
+							(endpointId) -> new CachingConfiguration(500))
+									.discoverEndpoints());
+			assertThat(endpoints).containsOnlyKeys("singleuse");
+			Map<Method, TestEndpointOperation> operations = mapOperations(
+					endpoints.get("singleuse"));
+			assertThat(operations).hasSize(3);
+			operations.values().forEach(operation -> assertThat(operation.getInvoker())
+					.isNotInstanceOf(CachingOperationInvoker.class));
+		});
+	}
+
 	private Map<String, EndpointInfo<TestEndpointOperation>> mapEndpoints(
 			Collection<EndpointInfo<TestEndpointOperation>> endpoints) {
 		Map<String, EndpointInfo<TestEndpointOperation>> endpointById = new LinkedHashMap<>();
@@ -276,6 +295,26 @@ public class AnnotationEndpointDiscovererTests {
 
 	}
 
+	@Endpoint(id = "singleuse")
+	static class SingleUseResponseEndpoint {
+
+		@ReadOperation
+		public Resource resource() {
+			return null;
+		}
+
+		@ReadOperation
+		public InputStream stream(@Selector String name) {
+			return null;
+		}
+
+		@ReadOperation
+		public Optional<Resource> wrapped(@Selector String id, String name) {
+			return null;
+		}
+
+	}
+
 	static class TestEndpointSubclass extends TestEndpoint {
 
 		@WriteOperation
@@ -305,6 +344,16 @@ public class AnnotationEndpointDiscovererTests {
 
 	}
 
+	@Configuration
+	static class SingleUseResponseEndpointConfiguration {
+
+		@Bean
+		public SingleUseResponseEndpoint singleUseResponseEndpoint() {
+			return new SingleUseResponseEndpoint();
+		}
+
+	}
+
 	@Configuration
 	static class ClashingEndpointConfiguration {
 
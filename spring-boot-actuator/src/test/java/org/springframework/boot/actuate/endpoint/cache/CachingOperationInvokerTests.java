@@ -16,8 +16,15 @@
 
 package org.springframework.boot.actuate.endpoint.cache;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -26,6 +33,7 @@ import org.junit.rules.ExpectedException;
 import org.springframework.boot.actuate.endpoint.OperationInvoker;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -76,4 +84,108 @@ public class CachingOperationInvokerTests {
 		verify(target, times(2)).invoke(parameters);
 	}
 
+	@Test
+	public void createInstanceWithMaxSizeSetToZero() {
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("MaxSize");
+		new CachingOperationInvoker(mock(OperationInvoker.class), 500L, 0);
+	}
+
+	@Test
+	public void cacheIsKeyedOnArguments() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		Map<String, Object> foo = Collections.singletonMap("name", "foo");
+		Map<String, Object> bar = Collections.singletonMap("name", "bar");
+		given(target.invoke(foo)).willReturn("foo");
+		given(target.invoke(bar)).willReturn("bar");
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 500L);
+		assertThat(invoker.invoke(foo)).isEqualTo("foo");
+		assertThat(invoker.invoke(bar)).isEqualTo("bar");
+		assertThat(invoker.invoke(new HashMap<>(foo))).isEqualTo("foo");
+		assertThat(invoker.invoke(bar)).isEqualTo("bar");
+		verify(target, times(1)).invoke(foo);
+		verify(target, times(1)).invoke(bar);
+		assertThat(invoker.getHitCount()).isEqualTo(2);
+		assertThat(invoker.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void cacheIsKeyedOnContentOfArrayArguments() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		given(target.invoke(any())).willReturn("names");
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 500L);
+		invoker.invoke(Collections.singletonMap("names", new String[] { "a", "b" }));
+		invoker.invoke(Collections.singletonMap("names", new String[] { "a", "b" }));
+		invoker.invoke(Collections.singletonMap("names", new String[] { "a", "c" }));
+		verify(target, times(2)).invoke(any());
+		assertThat(invoker.getHitCount()).isEqualTo(1);
+		assertThat(invoker.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void leastRecentlyUsedResponseIsEvicted() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		Map<String, Object> one = Collections.singletonMap("name", "one");
+		Map<String, Object> two = Collections.singletonMap("name", "two");
+		Map<String, Object> three = Collections.singletonMap("name", "three");
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 500L, 2);
+		invoker.invoke(one);
+		invoker.invoke(two);
+		invoker.invoke(one);
+		invoker.invoke(three);
+		invoker.invoke(one);
+		invoker.invoke(two);
+		verify(target, times(1)).invoke(one);
+		verify(target, times(2)).invoke(two);
+		verify(target, times(1)).invoke(three);
+	}
+
+	@Test
+	public void failedInvocationIsNotCached() {
+		OperationInvoker target = mock(OperationInvoker.class);
+		Map<String, Object> parameters = new HashMap<>();
+		given(target.invoke(parameters)).willThrow(new IllegalStateException("test"))
+				.willReturn("test");
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 500L);
+		try {
+			invoker.invoke(parameters);
+		}
+		catch (IllegalStateException ex) {
+			// Expected
+		}
+		assertThat(invoker.invoke(parameters)).isEqualTo("test");
+		verify(target, times(2)).invoke(parameters);
+	}
+
+	@Test
+	public void concurrentMissesInvokeTargetOnce() throws Exception {
+		CountDownLatch invoked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger invocations = new AtomicInteger();
+		OperationInvoker target = mock(OperationInvoker.class);
+		given(target.invoke(any())).willAnswer((invocation) -> {
+			invocations.incrementAndGet();
+			invoked.countDown();
+			release.await();
+			return "test";
+		});
+		CachingOperationInvoker invoker = new CachingOperationInvoker(target, 5000L);
+		Map<String, Object> parameters = Collections.singletonMap("name", "test");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<Object> first = executor.submit(() -> invoker.invoke(parameters));
+			assertThat(invoked.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<Object> second = executor.submit(() -> invoker.invoke(parameters));
+			Future<Object> third = executor.submit(() -> invoker.invoke(parameters));
+			release.countDown();
+			assertThat(first.get()).isEqualTo("test");
+			assertThat(second.get()).isEqualTo("test");
+			assertThat(third.get()).isEqualTo("test");
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
 }
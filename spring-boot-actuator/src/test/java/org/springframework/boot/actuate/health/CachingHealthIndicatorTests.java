@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CachingHealthIndicator}.
+ *
+ * @author Phillip Webb
+ */
+public class CachingHealthIndicatorTests {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void createWhenTimeToLiveIsNotPositiveShouldThrowException() {
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("TimeToLive must be strictly positive");
+		new CachingHealthIndicator(mock(HealthIndicator.class), 0);
+	}
+
+	@Test
+	public void healthWhenCachedShouldNotCallDelegate() {
+		HealthIndicator delegate = mock(HealthIndicator.class);
+		given(delegate.health()).willReturn(Health.up().build());
+		CachingHealthIndicator indicator = new CachingHealthIndicator(delegate, 60000);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		verify(delegate, times(1)).health();
+	}
+
+	@Test
+	public void healthWhenStaleShouldCallDelegate() throws Exception {
+		HealthIndicator delegate = mock(HealthIndicator.class);
+		given(delegate.health()).willReturn(Health.up().build(),
+				Health.down().build());
+		CachingHealthIndicator indicator = new CachingHealthIndicator(delegate, 10);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		Thread.sleep(20);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+		verify(delegate, times(2)).health();
+	}
+
+	@Test
+	public void healthWhenDelegateFailsShouldBeDown() {
+		CachingHealthIndicator indicator = new CachingHealthIndicator(() -> {
+			throw new IllegalStateException("Failed");
+		}, 60000);
+		Health health = indicator.health();
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error",
+				"java.lang.IllegalStateException: Failed");
+	}
+
+	@Test
+	public void healthWhenStaleWithRefreshExecutorShouldReturnStaleHealth()
+			throws Exception {
+		HealthIndicator delegate = mock(HealthIndicator.class);
+		given(delegate.health()).willReturn(Health.up().build(),
+				Health.down().build());
+		List<Runnable> tasks = new ArrayList<>();
+		CachingHealthIndicator indicator = new CachingHealthIndicator(delegate, 10);
+		indicator.setRefreshExecutor(tasks::add);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(tasks).isEmpty();
+		Thread.sleep(20);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(tasks).hasSize(1);
+		tasks.get(0).run();
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+		verify(delegate, times(2)).health();
+	}
+
+}
@@ -18,8 +18,13 @@ package org.springframework.boot.actuate.health;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -39,6 +44,8 @@ public class CompositeHealthIndicatorTests {
 
 	private HealthAggregator healthAggregator;
 
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
 	@Mock
 	private HealthIndicator one;
 
@@ -61,6 +68,11 @@ public class CompositeHealthIndicatorTests {
 		this.healthAggregator = new OrderedHealthAggregator();
 	}
 
+	@After
+	public void shutdown() {
+		this.executor.shutdownNow();
+	}
+
 	@Test
 	public void createWithIndicators() throws Exception {
 		Map<String, HealthIndicator> indicators = new HashMap<>();
@@ -108,6 +120,110 @@ public class CompositeHealthIndicatorTests {
 				new Health.Builder().unknown().withDetail("2", "2").build());
 	}
 
+	@Test
+	public void healthWithExecutorCallsIndicatorsInParallel() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		HealthIndicator awaiting = () -> {
+			latch.countDown();
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return Health.up().build();
+		};
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator).executor(this.executor)
+						.timeoutStrategy(10000, null);
+		composite.addHealthIndicator("one", awaiting);
+		composite.addHealthIndicator("two", awaiting);
+		Health result = composite.health();
+		assertThat(result.getStatus()).isEqualTo(Status.UP);
+		assertThat(result.getDetails()).containsOnlyKeys("one", "two");
+	}
+
+	@Test
+	public void healthWithExecutorAndTimeoutUsesTimeoutHealth() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		HealthIndicator slow = () -> {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return Health.up().build();
+		};
+		Health timeoutHealth = Health.down().withDetail("timeout", true).build();
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator).executor(this.executor).timeoutStrategy(100,
+						timeoutHealth);
+		composite.addHealthIndicator("one", this.one);
+		composite.addHealthIndicator("slow", slow);
+		try {
+			Health result = composite.health();
+			assertThat(result.getStatus()).isEqualTo(Status.DOWN);
+			assertThat(result.getDetails()).containsEntry("one",
+					new Health.Builder().unknown().withDetail("1", "1").build());
+			assertThat(result.getDetails()).containsEntry("slow", timeoutHealth);
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	public void healthWithExecutorDoesNotCallIndicatorThatIsStillRunning()
+			throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		HealthIndicator slow = () -> {
+			calls.incrementAndGet();
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return Health.up().build();
+		};
+		Health timeoutHealth = Health.down().withDetail("timeout", true).build();
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator).executor(this.executor).timeoutStrategy(100,
+						timeoutHealth);
+		composite.addHealthIndicator("slow", slow);
+		try {
+			assertThat(composite.health().getDetails()).containsEntry("slow",
+					timeoutHealth);
+			assertThat(composite.health().getDetails()).containsEntry("slow",
+					timeoutHealth);
+			assertThat(calls.get()).isEqualTo(1);
+		}
+		finally {
+			latch.countDown();
+		}
+		composite.timeoutStrategy(5000, timeoutHealth);
+		assertThat(composite.health().getDetails()).containsEntry("slow",
+				Health.up().build());
+	}
+
+	@Test
+	public void healthWithExecutorWhenIndicatorFailsIsDown() throws Exception {
+		CompositeHealthIndicator composite = new CompositeHealthIndicator(
+				this.healthAggregator).executor(this.executor);
+		composite.addHealthIndicator("one", this.one);
+		composite.addHealthIndicator("failing", () -> {
+			throw new IllegalStateException("Failed");
+		});
+		Health result = composite.health();
+		assertThat(result.getStatus()).isEqualTo(Status.DOWN);
+		Health failing = (Health) result.getDetails().get("failing");
+		assertThat(failing.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(failing.getDetails()).containsEntry("error",
+				"java.lang.IllegalStateException: Failed");
+	}
+
 	@Test
 	public void testSerialization() throws Exception {
 		Map<String, HealthIndicator> indicators = new HashMap<>();
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.management;
+
+import org.junit.Test;
+
+import org.springframework.boot.actuate.management.ClassHistogramEndpoint.ClassDescriptor;
+import org.springframework.boot.actuate.management.ClassHistogramEndpoint.ClassHistogramDescriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassHistogramEndpoint}.
+ *
+ * @author Phillip Webb
+ */
+public class ClassHistogramEndpointTests {
+
+	private static final String HISTOGRAM = String.format(
+			" num     #instances         #bytes  class name (module)%n"
+					+ "-------------------------------------------------------%n"
+					+ "   1:         12199       16006528  [B (java.base@9)%n"
+					+ "   2:          3000          72000  java.lang.String%n"
+					+ "   3:            10            160  com.example.Foo%n"
+					+ "Total         15209       16078688%n");
+
+	@Test
+	public void classHistogram() throws Exception {
+		ClassHistogramDescriptor histogram = new ClassHistogramEndpoint()
+				.classHistogram(false, null);
+		assertThat(histogram.getClasses()).isNotEmpty();
+		assertThat(histogram.getInstances()).isGreaterThan(0);
+		assertThat(histogram.getBytes()).isGreaterThan(0);
+	}
+
+	@Test
+	public void classHistogramIsParsed() throws Exception {
+		ClassHistogramDescriptor histogram = new TestClassHistogramEndpoint()
+				.classHistogram(null, null);
+		assertThat(histogram.getInstances()).isEqualTo(15209);
+		assertThat(histogram.getBytes()).isEqualTo(16078688);
+		assertThat(histogram.getClasses()).extracting(ClassDescriptor::getName)
+				.containsExactly("[B", "java.lang.String", "com.example.Foo");
+		ClassDescriptor string = histogram.getClasses().get(1);
+		assertThat(string.getInstances()).isEqualTo(3000);
+		assertThat(string.getBytes()).isEqualTo(72000);
+	}
+
+	@Test
+	public void classHistogramWithLimitIncludesLargestClasses() throws Exception {
+		ClassHistogramDescriptor histogram = new TestClassHistogramEndpoint()
+				.classHistogram(null, 2);
+		assertThat(histogram.getInstances()).isEqualTo(15209);
+		assertThat(histogram.getClasses()).extracting(ClassDescriptor::getName)
+				.containsExactly("[B", "java.lang.String");
+	}
+
+	@Test
+	public void classHistogramIncludesAllObjectsByDefault() throws Exception {
+		TestClassHistogramEndpoint endpoint = new TestClassHistogramEndpoint();
+		endpoint.classHistogram(null, null);
+		assertThat(endpoint.live).isFalse();
+	}
+
+	@Test
+	public void classHistogramCanIncludeOnlyLiveObjects() throws Exception {
+		TestClassHistogramEndpoint endpoint = new TestClassHistogramEndpoint();
+		endpoint.classHistogram(true, null);
+		assertThat(endpoint.live).isTrue();
+	}
+
+	private static class TestClassHistogramEndpoint extends ClassHistogramEndpoint {
+
+		private Boolean live;
+
+		@Override
+		protected String getClassHistogram(boolean live) {
+			this.live = live;
+			return HISTOGRAM;
+		}
+
+	}
+
+}
@@ -16,9 +16,26 @@
 
 package org.springframework.boot.actuate.management;
 
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPInputStream;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.boot.actuate.endpoint.OperationInvoker;
+import org.springframework.boot.actuate.endpoint.cache.CachingConfiguration;
+import org.springframework.boot.actuate.endpoint.cache.CachingOperationInvoker;
+import org.springframework.boot.actuate.endpoint.convert.ConversionServiceOperationParameterMapper;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebAnnotationEndpointDiscoverer;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,6 +46,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class HeapDumpWebEndpointTests {
 
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
 	@Test
 	public void parallelRequestProducesTooManyRequestsResponse()
 			throws InterruptedException {
@@ -46,12 +66,103 @@ public class HeapDumpWebEndpointTests {
 			}
 
 		};
-		Thread thread = new Thread(() -> slowEndpoint.heapDump(true));
+		Thread thread = new Thread(() -> slowEndpoint.heapDump(true, false));
 		thread.start();
 		dumpingLatch.await();
-		assertThat(slowEndpoint.heapDump(true).getStatus()).isEqualTo(429);
+		assertThat(slowEndpoint.heapDump(true, false).getStatus()).isEqualTo(429);
 		blockingLatch.countDown();
 		thread.join();
 	}
 
+	@Test
+	public void heapDumpWithDumpDirectoryWritesToDumpDirectory() throws Exception {
+		File dumpDirectory = this.temp.newFolder();
+		File[] dumpedFile = new File[1];
+		HeapDumpWebEndpoint endpoint = new HeapDumpWebEndpoint(1000, dumpDirectory) {
+
+			@Override
+			protected HeapDumper createHeapDumper()
+					throws HeapDumperUnavailableException {
+				return (file, live) -> {
+					dumpedFile[0] = file;
+					FileCopyUtils.copy("HEAPDUMP".getBytes(), file);
+				};
+			}
+
+		};
+		Resource resource = endpoint.heapDump(true, false).getBody();
+		assertThat(dumpedFile[0].getParentFile()).isEqualTo(dumpDirectory);
+		try (InputStream inputStream = resource.getInputStream()) {
+			assertThat(FileCopyUtils.copyToByteArray(inputStream))
+					.isEqualTo("HEAPDUMP".getBytes());
+		}
+		assertThat(dumpedFile[0]).doesNotExist();
+	}
+
+	@Test
+	public void heapDumpWhenCompressedProvidesGzippedDump() throws Exception {
+		File[] dumpedFile = new File[1];
+		HeapDumpWebEndpoint endpoint = new HeapDumpWebEndpoint(1000) {
+
+			@Override
+			protected HeapDumper createHeapDumper()
+					throws HeapDumperUnavailableException {
+				return (file, live) -> {
+					dumpedFile[0] = file;
+					FileCopyUtils.copy("HEAPDUMP".getBytes(), file);
+				};
+			}
+
+		};
+		Resource resource = endpoint.heapDump(true, true).getBody();
+		assertThat(resource.getFilename()).endsWith(".hprof.gz");
+		assertThat(resource.contentLength()).isEqualTo(-1);
+		try (InputStream inputStream = new GZIPInputStream(
+				resource.getInputStream())) {
+			assertThat(FileCopyUtils.copyToByteArray(inputStream))
+					.isEqualTo("HEAPDUMP".getBytes());
+		}
+		assertThat(dumpedFile[0]).doesNotExist();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void heapDumpCanBeInvokedRepeatedlyWhenCachingIsEnabled() throws Exception {
+		HeapDumpWebEndpoint endpoint = new HeapDumpWebEndpoint(1000) {
+
+			@Override
+			protected HeapDumper createHeapDumper()
+					throws HeapDumperUnavailableException {
+				return (file, live) -> FileCopyUtils.copy("HEAPDUMP".getBytes(), file);
+			}
+
+		};
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.getBeanFactory().registerSingleton("heapDumpWebEndpoint", endpoint);
+		context.refresh();
+		try {
+			WebAnnotationEndpointDiscoverer discoverer = new WebAnnotationEndpointDiscoverer(
+					context,
+					new ConversionServiceOperationParameterMapper(
+							DefaultConversionService.getSharedInstance()),
+					(id) -> new CachingConfiguration(500),
+					Collections.singletonList("application/json"),
+					Collections.singletonList("application/json"));
+			OperationInvoker invoker = discoverer.discoverEndpoints().iterator().next()
+					.getOperations().iterator().next().getInvoker();
+			assertThat(invoker).isNotInstanceOf(CachingOperationInvoker.class);
+			for (int i = 0; i < 2; i++) {
+				Resource resource = ((WebEndpointResponse<Resource>) invoker
+						.invoke(Collections.emptyMap())).getBody();
+				try (InputStream inputStream = resource.getInputStream()) {
+					assertThat(FileCopyUtils.copyToByteArray(inputStream))
+							.isEqualTo("HEAPDUMP".getBytes());
+				}
+			}
+		}
+		finally {
+			context.close();
+		}
+	}
+
 }
@@ -30,6 +30,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Tests for {@link PrometheusScrapeEndpoint}.
  *
@@ -47,6 +49,25 @@ public class PrometheusScrapeEndpointIntegrationTests {
 				.contentType(MediaType.parseMediaType(TextFormat.CONTENT_TYPE_004));
 	}
 
+	@Test
+	public void scrapeHasAllMetrics() {
+		String body = client.get().uri("/application/prometheus").exchange()
+				.expectStatus().isOk().expectBody(String.class).returnResult()
+				.getResponseBody();
+		assertThat(body).contains("counter1").contains("counter2")
+				.contains("another_counter");
+	}
+
+	@Test
+	public void scrapeWithIncludedNamesHasOnlyMatchingMetrics() {
+		String body = client.get()
+				.uri("/application/prometheus?includedNames=counter1,another")
+				.exchange().expectStatus().isOk().expectBody(String.class)
+				.returnResult().getResponseBody();
+		assertThat(body).contains("counter1").contains("another_counter")
+				.doesNotContain("counter2");
+	}
+
 	@Configuration
 	static class TestConfiguration {
 
@@ -63,7 +84,12 @@ public class PrometheusScrapeEndpointIntegrationTests {
 
 		@Bean
 		public MeterRegistry registry(CollectorRegistry registry) {
-			return new PrometheusMeterRegistry((k) -> null, registry, Clock.SYSTEM);
+			PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(
+					(k) -> null, registry, Clock.SYSTEM);
+			meterRegistry.counter("counter1");
+			meterRegistry.counter("counter2");
+			meterRegistry.counter("another.counter");
+			return meterRegistry;
 		}
 
 	}
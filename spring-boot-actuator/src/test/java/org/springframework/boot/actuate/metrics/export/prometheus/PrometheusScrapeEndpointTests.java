@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Test;
+
+import org.springframework.boot.actuate.endpoint.OperationInvoker;
+import org.springframework.boot.actuate.endpoint.cache.CachingConfiguration;
+import org.springframework.boot.actuate.endpoint.cache.CachingOperationInvoker;
+import org.springframework.boot.actuate.endpoint.convert.ConversionServiceOperationParameterMapper;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebAnnotationEndpointDiscoverer;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PrometheusScrapeEndpoint}.
+ *
+ * @author Phillip Webb
+ */
+public class PrometheusScrapeEndpointTests {
+
+	@Test
+	public void scrapeCanBeInvokedRepeatedlyWhenCachingIsEnabled() throws Exception {
+		CollectorRegistry collectorRegistry = new CollectorRegistry(true);
+		PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(
+				(k) -> null, collectorRegistry, Clock.SYSTEM);
+		Counter counter = meterRegistry.counter("counter1");
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.getBeanFactory().registerSingleton("prometheusScrapeEndpoint",
+				new PrometheusScrapeEndpoint(collectorRegistry));
+		context.refresh();
+		try {
+			WebAnnotationEndpointDiscoverer discoverer = new WebAnnotationEndpointDiscoverer(
+					context,
+					new ConversionServiceOperationParameterMapper(
+							DefaultConversionService.getSharedInstance()),
+					(id) -> new CachingConfiguration(500),
+					Collections.singletonList("application/json"),
+					Collections.singletonList("application/json"));
+			OperationInvoker invoker = discoverer.discoverEndpoints().iterator().next()
+					.getOperations().iterator().next().getInvoker();
+			assertThat(invoker).isNotInstanceOf(CachingOperationInvoker.class);
+			counter.increment();
+			assertThat(scrape(invoker)).containsPattern("counter1\\S* 1\\.0");
+			counter.increment();
+			assertThat(scrape(invoker)).containsPattern("counter1\\S* 2\\.0");
+		}
+		finally {
+			context.close();
+		}
+	}
+
+	private String scrape(OperationInvoker invoker) throws IOException {
+		Resource resource = (Resource) invoker.invoke(Collections.emptyMap());
+		try (InputStream inputStream = resource.getInputStream()) {
+			return FileCopyUtils.copyToString(
+					new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		}
+	}
+
+}
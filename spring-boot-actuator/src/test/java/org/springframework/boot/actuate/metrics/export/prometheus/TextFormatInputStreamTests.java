@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Counter;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TextFormatInputStream}.
+ *
+ * @author Phillip Webb
+ */
+public class TextFormatInputStreamTests {
+
+	private CollectorRegistry registry;
+
+	@Before
+	public void setup() {
+		this.registry = new CollectorRegistry(true);
+		Counter.build("first", "First help").labelNames("name").register(this.registry)
+				.labels("\u00e9t\u00e9").inc();
+		Counter.build("second", "Second help").register(this.registry).inc(2);
+		Counter.build("third", "Third help").register(this.registry);
+	}
+
+	@Test
+	public void readProvidesSameOutputAsTextFormat() throws Exception {
+		StringWriter expected = new StringWriter();
+		TextFormat.write004(expected, this.registry.metricFamilySamples());
+		String actual = StreamUtils.copyToString(createInputStream(),
+				StandardCharsets.UTF_8);
+		assertThat(actual).isEqualTo(expected.toString());
+	}
+
+	@Test
+	public void readSingleBytesProvidesSameOutputAsReadArray() throws Exception {
+		byte[] expected = StreamUtils.copyToByteArray(createInputStream());
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		InputStream inputStream = createInputStream();
+		int b;
+		while ((b = inputStream.read()) != -1) {
+			actual.write(b);
+		}
+		assertThat(actual.toByteArray()).isEqualTo(expected);
+	}
+
+	@Test
+	public void readWhenNoSamplesReturnsEndOfStream() throws Exception {
+		InputStream inputStream = new TextFormatInputStream(
+				Collections.emptyIterator());
+		assertThat(inputStream.read()).isEqualTo(-1);
+		assertThat(inputStream.read(new byte[8], 0, 8)).isEqualTo(-1);
+	}
+
+	private InputStream createInputStream() {
+		return new TextFormatInputStream(
+				CollectionUtils.toIterator(this.registry.metricFamilySamples()));
+	}
+
+}
@@ -92,6 +92,16 @@ public class MetricsHandlerInterceptorTests {
 				.value(Statistic.Count, 1.0).timer()).isPresent();
 	}
 
+	@Test
+	public void timedMethodCalledRepeatedly() throws Exception {
+		this.mvc.perform(get("/api/c1/10")).andExpect(status().isOk());
+		this.mvc.perform(get("/api/c1/20")).andExpect(status().isOk());
+		this.mvc.perform(get("/api/c1/30")).andExpect(status().isOk());
+		assertThat(this.registry.find("http.server.requests")
+				.tags("status", "200", "uri", "/api/c1/{id}", "public", "true")
+				.value(Statistic.Count, 3.0).timer()).isPresent();
+	}
+
 	@Test
 	public void untimedMethod() throws Exception {
 		this.mvc.perform(get("/api/c1/untimed/10")).andExpect(status().isOk());
@@ -140,6 +150,8 @@ public class MetricsHandlerInterceptorTests {
 
 		assertThat(this.registry.find("http.server.requests").tags("status", "200")
 				.value(Statistic.Count, 1.0).timer()).isPresent();
+		assertThat(this.registry.find("my.long.request").tags("region", "test")
+				.value(Statistic.Count, 0.0).longTaskTimer()).isPresent();
 	}
 
 	@Test
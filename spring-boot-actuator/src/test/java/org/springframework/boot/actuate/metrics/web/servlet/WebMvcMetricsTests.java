@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.servlet;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.micrometer.core.instrument.Statistic;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link WebMvcMetrics}.
+ *
+ * @author Phillip Webb
+ */
+public class WebMvcMetricsTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final WebMvcMetrics metrics = new WebMvcMetrics(this.registry,
+			new UriTagsProvider(), "http.server.requests", true, false);
+
+	@Test
+	public void timerIsReusedForSameTags() throws Exception {
+		HandlerMethod handler = new HandlerMethod(new TestController(), "handle");
+		handle(handler, "/test");
+		handle(handler, "/test");
+		assertThat(getCachedTimers()).hasSize(1);
+		assertThat(this.registry.find("http.server.requests").tags("uri", "/test")
+				.value(Statistic.Count, 2.0).timer()).isPresent();
+	}
+
+	@Test
+	public void timersForHighCardinalityTagsAreRecordedWithoutGrowingTheCache()
+			throws Exception {
+		HandlerMethod handler = new HandlerMethod(new TestController(), "handle");
+		for (int i = 0; i < 1500; i++) {
+			handle(handler, "/test/" + i);
+		}
+		handle(handler, "/test/1499");
+		assertThat(getCachedTimers()).hasSize(1000);
+		assertThat(this.registry.find("http.server.requests").tags("uri", "/test/0")
+				.value(Statistic.Count, 1.0).timer()).isPresent();
+		assertThat(this.registry.find("http.server.requests").tags("uri", "/test/1499")
+				.value(Statistic.Count, 2.0).timer()).isPresent();
+	}
+
+	private void handle(HandlerMethod handler, String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		this.metrics.preHandle(request, handler);
+		this.metrics.record(request, new MockHttpServletResponse(), null);
+	}
+
+	private Map<?, ?> getCachedTimers() {
+		return (Map<?, ?>) ReflectionTestUtils.getField(this.metrics, "timers");
+	}
+
+	static class TestController {
+
+		public void handle() {
+		}
+
+	}
+
+	static class UriTagsProvider implements WebMvcTagsProvider {
+
+		@Override
+		public Iterable<Tag> httpLongRequestTags(HttpServletRequest request,
+				Object handler) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Iterable<Tag> httpRequestTags(HttpServletRequest request,
+				HttpServletResponse response, Throwable ex) {
+			return Tags.zip("uri", request.getRequestURI());
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,22 @@
 
 package org.springframework.boot.actuate.trace;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,6 +42,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class InMemoryTraceRepositoryTests {
 
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
 	private final InMemoryTraceRepository repository = new InMemoryTraceRepository();
 
 	@Test
@@ -57,4 +72,85 @@ public class InMemoryTraceRepositoryTests {
 		assertThat(traces.get(0).getInfo().get("bar")).isEqualTo("foo");
 	}
 
+	@Test
+	public void capacityFromConstructor() {
+		InMemoryTraceRepository repository = new InMemoryTraceRepository(1);
+		repository.add(Collections.<String, Object>singletonMap("foo", "bar"));
+		repository.add(Collections.<String, Object>singletonMap("bar", "foo"));
+		List<Trace> traces = repository.findAll();
+		assertThat(traces).hasSize(1);
+		assertThat(traces.get(0).getInfo().get("bar")).isEqualTo("foo");
+	}
+
+	@Test
+	public void findAllIsUnmodifiable() {
+		this.repository.add(Collections.<String, Object>singletonMap("foo", "bar"));
+		this.thrown.expect(UnsupportedOperationException.class);
+		this.repository.findAll().clear();
+	}
+
+	@Test
+	public void setCapacityRetainsMostRecentTraces() {
+		this.repository.setReverse(false);
+		this.repository.setCapacity(3);
+		for (int i = 0; i < 3; i++) {
+			this.repository.add(Collections.<String, Object>singletonMap("index", i));
+		}
+		this.repository.setCapacity(2);
+		assertThat(this.repository.findAll()).extracting((trace) -> trace.getInfo()
+				.get("index")).containsExactly(1, 2);
+		this.repository.setCapacity(5);
+		this.repository.add(Collections.<String, Object>singletonMap("index", 3));
+		assertThat(this.repository.findAll()).extracting((trace) -> trace.getInfo()
+				.get("index")).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void concurrentAddsRetainMostRecentTraces() throws Exception {
+		this.repository.setReverse(false);
+		this.repository.setCapacity(50);
+		int threads = 8;
+		int tracesPerThread = 1000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				int thread = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int j = 0; j < tracesPerThread; j++) {
+						Map<String, Object> info = new HashMap<>();
+						info.put("thread", thread);
+						info.put("index", j);
+						this.repository.add(info);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		List<Trace> traces = this.repository.findAll();
+		assertThat(traces).hasSize(50);
+		MultiValueMap<Object, Object> indexesByThread = new LinkedMultiValueMap<>();
+		for (Trace trace : traces) {
+			indexesByThread.add(trace.getInfo().get("thread"),
+					trace.getInfo().get("index"));
+		}
+		// Each thread's traces are added in order, so the most recent 50 traces hold
+		// a run of each thread's latest traces, oldest first
+		indexesByThread.forEach((thread, indexes) -> {
+			for (int i = 0; i < indexes.size(); i++) {
+				assertThat(indexes.get(i))
+						.isEqualTo(tracesPerThread - indexes.size() + i);
+			}
+		});
+	}
+
 }
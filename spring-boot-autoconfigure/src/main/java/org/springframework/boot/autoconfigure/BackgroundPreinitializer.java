@@ -16,13 +16,22 @@
 
 package org.springframework.boot.autoconfigure;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.validation.Validation;
 
 import org.apache.catalina.mbeans.MBeanFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
 import org.springframework.boot.context.event.ApplicationFailedEvent;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -30,13 +39,20 @@ import org.springframework.boot.context.event.SpringApplicationEvent;
 import org.springframework.boot.context.logging.LoggingApplicationListener;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
+import org.springframework.util.ClassUtils;
 
 /**
- * {@link ApplicationListener} to trigger early initialization in a background thread of
- * time consuming tasks.
+ * {@link ApplicationListener} to trigger early initialization in background threads of
+ * time consuming tasks. In addition to a number of built-in tasks, any
+ * {@link PreinitializationTask} registered in {@code META-INF/spring.factories} is run.
+ * Tasks are run in parallel on a small number of threads. Once every task has completed,
+ * a summary of the time taken by each task is logged at {@code INFO} level by this
+ * class's logger. The time taken by each task, and any failure, is also logged at
+ * {@code DEBUG} level as the task completes.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -46,6 +62,10 @@ import org.springframework.http.converter.support.AllEncompassingFormHttpMessage
 public class BackgroundPreinitializer
 		implements ApplicationListener<SpringApplicationEvent> {
 
+	private static final Log logger = LogFactory.getLog(BackgroundPreinitializer.class);
+
+	private static final int MAX_THREADS = 4;
+
 	private static final AtomicBoolean preinitializationStarted = new AtomicBoolean(
 			false);
 
@@ -55,7 +75,7 @@ public class BackgroundPreinitializer
 	public void onApplicationEvent(SpringApplicationEvent event) {
 		if (event instanceof ApplicationEnvironmentPreparedEvent) {
 			if (preinitializationStarted.compareAndSet(false, true)) {
-				performPreinitialization();
+				performPreinitialization(event.getSpringApplication().getClassLoader());
 			}
 		}
 		if (event instanceof ApplicationReadyEvent
@@ -69,47 +89,159 @@ public class BackgroundPreinitializer
 		}
 	}
 
-	private void performPreinitialization() {
+	private void performPreinitialization(ClassLoader classLoader) {
+		run(getTasks(classLoader), getMaxThreads(), preinitializationComplete);
+	}
+
+	private int getMaxThreads() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		return Math.max(1, Math.min(MAX_THREADS, processors - 1));
+	}
+
+	/**
+	 * Return the built-in tasks followed by the tasks registered in
+	 * {@code META-INF/spring.factories}. Registered tasks that cannot be instantiated
+	 * are skipped.
+	 * @param classLoader the class loader used to load registered tasks
+	 * @return the tasks to run
+	 */
+	static List<PreinitializationTask> getTasks(ClassLoader classLoader) {
+		List<PreinitializationTask> tasks = new ArrayList<>();
+		tasks.add(new MessageConverterInitializer());
+		tasks.add(new MBeanFactoryInitializer());
+		tasks.add(new ValidationInitializer());
+		tasks.add(new JacksonInitializer());
+		tasks.add(new ConversionServiceInitializer());
+		for (String name : SpringFactoriesLoader
+				.loadFactoryNames(PreinitializationTask.class, classLoader)) {
+			try {
+				Class<?> type = ClassUtils.forName(name, classLoader);
+				tasks.add((PreinitializationTask) BeanUtils.instantiateClass(type));
+			}
+			catch (Throwable ex) {
+				logFailure(name, ex);
+			}
+		}
+		return tasks;
+	}
+
+	/**
+	 * Run the given tasks in parallel on up to {@code maxThreads} background threads.
+	 * The {@code complete} latch is counted down once every task has completed, whether
+	 * or not it failed, or immediately if no thread could be started.
+	 * @param tasks the tasks to run
+	 * @param maxThreads the maximum number of threads to use
+	 * @param complete the latch to count down on completion
+	 */
+	static void run(List<PreinitializationTask> tasks, int maxThreads,
+			CountDownLatch complete) {
+		Queue<PreinitializationTask> queue = new ConcurrentLinkedQueue<>(tasks);
+		Timings timings = new Timings(queue.size());
+		int threads = Math.min(queue.size(), maxThreads);
+		AtomicInteger running = new AtomicInteger(threads);
+		int started = 0;
 		try {
-			Thread thread = new Thread(new Runnable() {
-
-				@Override
-				public void run() {
-					runSafely(new MessageConverterInitializer());
-					runSafely(new MBeanFactoryInitializer());
-					runSafely(new ValidationInitializer());
-					runSafely(new JacksonInitializer());
-					runSafely(new ConversionServiceInitializer());
-					preinitializationComplete.countDown();
-				}
-
-				public void runSafely(Runnable runnable) {
-					try {
-						runnable.run();
+			for (int i = 0; i < threads; i++) {
+				Thread thread = new Thread(() -> {
+					runTasks(queue, timings);
+					if (running.decrementAndGet() == 0) {
+						logSummary(timings);
+						complete.countDown();
 					}
-					catch (Throwable ex) {
-						// Ignore
-					}
-				}
-
-			}, "background-preinit");
-			thread.start();
+				}, "background-preinit-" + (i + 1));
+				thread.start();
+				started++;
+			}
 		}
 		catch (Exception ex) {
 			// This will fail on GAE where creating threads is prohibited. We can safely
 			// continue but startup will be slightly slower as the initialization will now
 			// happen on the main thread.
-			preinitializationComplete.countDown();
 		}
+		if (started == 0) {
+			complete.countDown();
+		}
+		else if (started < threads && running.addAndGet(started - threads) == 0) {
+			logSummary(timings);
+			complete.countDown();
+		}
+	}
+
+	private static void runTasks(Queue<PreinitializationTask> tasks, Timings timings) {
+		PreinitializationTask task;
+		while ((task = tasks.poll()) != null) {
+			runSafely(task, timings);
+		}
+	}
+
+	private static void runSafely(PreinitializationTask task, Timings timings) {
+		long start = System.nanoTime();
+		try {
+			task.preinitialize();
+			long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			timings.completed(task, duration);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Preinitialization task " + task.getClass().getName()
+						+ " completed in " + duration + "ms");
+			}
+		}
+		catch (Throwable ex) {
+			timings.failed(task);
+			logFailure(task.getClass().getName(), ex);
+		}
+	}
+
+	private static void logSummary(Timings timings) {
+		if (logger.isInfoEnabled()) {
+			logger.info(timings);
+		}
+	}
+
+	private static void logFailure(String name, Throwable ex) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Ignoring failure of preinitialization task " + name, ex);
+		}
+	}
+
+	/**
+	 * The time taken by the tasks of a single run, in the order that they completed.
+	 */
+	private static final class Timings {
+
+		private final long start = System.nanoTime();
+
+		private final int tasks;
+
+		private final Queue<String> results = new ConcurrentLinkedQueue<>();
+
+		Timings(int tasks) {
+			this.tasks = tasks;
+		}
+
+		void completed(PreinitializationTask task, long duration) {
+			this.results.add(task.getClass().getSimpleName() + "=" + duration + "ms");
+		}
+
+		void failed(PreinitializationTask task) {
+			this.results.add(task.getClass().getSimpleName() + "=failed");
+		}
+
+		@Override
+		public String toString() {
+			long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start);
+			return "Background preinitialization of " + this.tasks
+					+ " tasks completed in " + duration + "ms " + this.results;
+		}
+
 	}
 
 	/**
 	 * Early initializer for Spring MessageConverters.
 	 */
-	private static class MessageConverterInitializer implements Runnable {
+	private static class MessageConverterInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			new AllEncompassingFormHttpMessageConverter();
 		}
 
@@ -118,10 +250,10 @@ public class BackgroundPreinitializer
 	/**
 	 * Early initializer to load Tomcat MBean XML.
 	 */
-	private static class MBeanFactoryInitializer implements Runnable {
+	private static class MBeanFactoryInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			new MBeanFactory();
 		}
 
@@ -130,10 +262,10 @@ public class BackgroundPreinitializer
 	/**
 	 * Early initializer for javax.validation.
 	 */
-	private static class ValidationInitializer implements Runnable {
+	private static class ValidationInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			Validation.byDefaultProvider().configure();
 		}
 
@@ -142,10 +274,10 @@ public class BackgroundPreinitializer
 	/**
 	 * Early initializer for Jackson.
 	 */
-	private static class JacksonInitializer implements Runnable {
+	private static class JacksonInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			Jackson2ObjectMapperBuilder.json().build();
 		}
 
@@ -154,10 +286,10 @@ public class BackgroundPreinitializer
 	/**
 	 * Early initializer for Spring's ConversionService.
 	 */
-	private static class ConversionServiceInitializer implements Runnable {
+	private static class ConversionServiceInitializer implements PreinitializationTask {
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			new DefaultFormattingConversionService();
 		}
 
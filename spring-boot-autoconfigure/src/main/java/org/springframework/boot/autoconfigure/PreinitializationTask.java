@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+/**
+ * A time consuming task that can be run early, in the background, to warm up a library
+ * before it is used during application startup. Tasks are run by the
+ * {@link BackgroundPreinitializer} in parallel with each other and with the refresh of
+ * the application context.
+ * <p>
+ * Implementations should be registered in {@code META-INF/spring.factories} and must
+ * have a default constructor. Tasks may refer to classes that are not on the classpath,
+ * any failure is ignored.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface PreinitializationTask {
+
+	/**
+	 * Perform preinitialization.
+	 * @throws Exception on error
+	 */
+	void preinitialize() throws Exception;
+
+}
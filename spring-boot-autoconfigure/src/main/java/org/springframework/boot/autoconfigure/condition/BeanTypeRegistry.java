@@ -17,6 +17,7 @@
 package org.springframework.boot.autoconfigure.condition;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -59,6 +60,9 @@ import org.springframework.util.StringUtils;
  * <li>Beans definitions will not be removed.</li>
  * <li>Beans will not be created in parallel.</li>
  * </ul>
+ * Bean names are indexed by every type that they can be assigned to as definitions are
+ * added so that a type lookup does not need to check every bean. Lookups by annotation
+ * are cached and the cached results are updated as further definitions are added.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -76,6 +80,10 @@ final class BeanTypeRegistry implements SmartInitializingSingleton {
 
 	private final Map<String, Class<?>> beanTypes = new HashMap<>();
 
+	private final Map<Class<?>, Set<String>> namesByType = new HashMap<>();
+
+	private final Map<Class<? extends Annotation>, Set<String>> namesByAnnotation = new HashMap<>();
+
 	private int lastBeanDefinitionCount = 0;
 
 	private BeanTypeRegistry(DefaultListableBeanFactory beanFactory) {
@@ -112,13 +120,8 @@ final class BeanTypeRegistry implements SmartInitializingSingleton {
 	 */
 	Set<String> getNamesForType(Class<?> type) {
 		updateTypesIfNecessary();
-		Set<String> matches = new LinkedHashSet<>();
-		for (Map.Entry<String, Class<?>> entry : this.beanTypes.entrySet()) {
-			if (entry.getValue() != null && type.isAssignableFrom(entry.getValue())) {
-				matches.add(entry.getKey());
-			}
-		}
-		return matches;
+		Set<String> names = this.namesByType.get(type);
+		return (names != null ? new LinkedHashSet<>(names) : new LinkedHashSet<>());
 	}
 
 	/**
@@ -132,26 +135,37 @@ final class BeanTypeRegistry implements SmartInitializingSingleton {
 	 */
 	Set<String> getNamesForAnnotation(Class<? extends Annotation> annotation) {
 		updateTypesIfNecessary();
+		Set<String> names = this.namesByAnnotation.computeIfAbsent(annotation,
+				this::findNamesForAnnotation);
+		return new LinkedHashSet<>(names);
+	}
+
+	private Set<String> findNamesForAnnotation(Class<? extends Annotation> annotation) {
 		Set<String> matches = new LinkedHashSet<>();
 		for (Map.Entry<String, Class<?>> entry : this.beanTypes.entrySet()) {
-			if (entry.getValue() != null && AnnotationUtils
-					.findAnnotation(entry.getValue(), annotation) != null) {
+			if (entry.getValue() != null && isAnnotated(entry.getValue(), annotation)) {
 				matches.add(entry.getKey());
 			}
 		}
 		return matches;
 	}
 
+	private boolean isAnnotated(Class<?> type, Class<? extends Annotation> annotation) {
+		return AnnotationUtils.findAnnotation(type, annotation) != null;
+	}
+
 	@Override
 	public void afterSingletonsInstantiated() {
 		// We're done at this point, free up some memory
 		this.beanTypes.clear();
+		this.namesByType.clear();
+		this.namesByAnnotation.clear();
 		this.lastBeanDefinitionCount = 0;
 	}
 
 	private void addBeanType(String name) {
 		if (this.beanFactory.containsSingleton(name)) {
-			this.beanTypes.put(name, this.beanFactory.getType(name));
+			addBeanType(name, this.beanFactory.getType(name));
 		}
 		else if (!this.beanFactory.isAlias(name)) {
 			addBeanTypeForNonAliasDefinition(name);
@@ -168,12 +182,11 @@ final class BeanTypeRegistry implements SmartInitializingSingleton {
 				if (this.beanFactory.isFactoryBean(factoryName)) {
 					Class<?> factoryBeanGeneric = getFactoryBeanGeneric(this.beanFactory,
 							beanDefinition, name);
-					this.beanTypes.put(name, factoryBeanGeneric);
-					this.beanTypes.put(factoryName,
-							this.beanFactory.getType(factoryName));
+					addBeanType(name, factoryBeanGeneric);
+					addBeanType(factoryName, this.beanFactory.getType(factoryName));
 				}
 				else {
-					this.beanTypes.put(name, this.beanFactory.getType(name));
+					addBeanType(name, this.beanFactory.getType(name));
 				}
 			}
 		}
@@ -187,6 +200,49 @@ final class BeanTypeRegistry implements SmartInitializingSingleton {
 		}
 	}
 
+	private void addBeanType(String name, Class<?> type) {
+		Class<?> previousType = this.beanTypes.put(name, type);
+		if (previousType != null || type == null) {
+			return;
+		}
+		Set<Class<?>> hierarchy = new LinkedHashSet<>();
+		addTypeHierarchy(type, hierarchy);
+		for (Class<?> candidate : hierarchy) {
+			this.namesByType.computeIfAbsent(candidate, (key) -> new LinkedHashSet<>())
+					.add(name);
+		}
+		this.namesByAnnotation.forEach((annotation, names) -> {
+			if (isAnnotated(type, annotation)) {
+				names.add(name);
+			}
+		});
+	}
+
+	/**
+	 * Add all of the types that the given type can be assigned to.
+	 * @param type the type
+	 * @param hierarchy the types collected so far
+	 */
+	private void addTypeHierarchy(Class<?> type, Set<Class<?>> hierarchy) {
+		if (type == null || !hierarchy.add(type)) {
+			return;
+		}
+		if (type.isArray()) {
+			Set<Class<?>> componentHierarchy = new LinkedHashSet<>();
+			addTypeHierarchy(type.getComponentType(), componentHierarchy);
+			for (Class<?> componentType : componentHierarchy) {
+				hierarchy.add(Array.newInstance(componentType, 0).getClass());
+			}
+		}
+		addTypeHierarchy(type.getSuperclass(), hierarchy);
+		for (Class<?> interfaceType : type.getInterfaces()) {
+			addTypeHierarchy(interfaceType, hierarchy);
+		}
+		if (!type.isPrimitive()) {
+			hierarchy.add(Object.class);
+		}
+	}
+
 	private void logIgnoredError(String message, String name, Exception ex) {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Ignoring " + message + " '" + name + "'", ex);
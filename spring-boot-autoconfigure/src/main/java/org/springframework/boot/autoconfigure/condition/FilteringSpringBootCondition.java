@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.condition;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+
+/**
+ * Abstract base class for a {@link SpringBootCondition} that also implements
+ * {@link AutoConfigurationImportFilter}. Outcomes are determined from the
+ * {@link AutoConfigurationMetadata} so that auto-configuration classes that cannot match
+ * are filtered before they are loaded.
+ *
+ * @author Phillip Webb
+ */
+abstract class FilteringSpringBootCondition extends SpringBootCondition
+		implements AutoConfigurationImportFilter, BeanFactoryAware, BeanClassLoaderAware {
+
+	private BeanFactory beanFactory;
+
+	private ClassLoader beanClassLoader;
+
+	@Override
+	public boolean[] match(String[] autoConfigurationClasses,
+			AutoConfigurationMetadata autoConfigurationMetadata) {
+		ConditionEvaluationReport report = getConditionEvaluationReport();
+		ConditionOutcome[] outcomes = getOutcomes(autoConfigurationClasses,
+				autoConfigurationMetadata);
+		boolean[] match = new boolean[outcomes.length];
+		for (int i = 0; i < outcomes.length; i++) {
+			match[i] = (outcomes[i] == null || outcomes[i].isMatch());
+			if (!match[i] && outcomes[i] != null) {
+				logOutcome(autoConfigurationClasses[i], outcomes[i]);
+				if (report != null) {
+					report.recordConditionEvaluation(autoConfigurationClasses[i], this,
+							outcomes[i]);
+				}
+			}
+		}
+		return match;
+	}
+
+	/**
+	 * Return the outcomes for the given auto-configuration classes.
+	 * @param autoConfigurationClasses the auto-configuration classes
+	 * @param autoConfigurationMetadata the auto-configuration metadata
+	 * @return an array of outcomes, the same size as {@code autoConfigurationClasses}.
+	 * Entries are {@code null} when the outcome cannot be determined from the metadata
+	 */
+	protected abstract ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
+			AutoConfigurationMetadata autoConfigurationMetadata);
+
+	private ConditionEvaluationReport getConditionEvaluationReport() {
+		if (this.beanFactory != null
+				&& this.beanFactory instanceof ConfigurableListableBeanFactory) {
+			return ConditionEvaluationReport
+					.get((ConfigurableListableBeanFactory) this.beanFactory);
+		}
+		return null;
+	}
+
+	protected final BeanFactory getBeanFactory() {
+		return this.beanFactory;
+	}
+
+	protected final ClassLoader getBeanClassLoader() {
+		return this.beanClassLoader;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		this.beanClassLoader = classLoader;
+	}
+
+}
@@ -23,12 +23,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.BeanClassLoaderAware;
-import org.springframework.beans.factory.BeanFactory;
-import org.springframework.beans.factory.BeanFactoryAware;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
-import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
 import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
 import org.springframework.boot.autoconfigure.condition.ConditionMessage.Style;
@@ -49,43 +43,10 @@ import org.springframework.util.MultiValueMap;
  * @see ConditionalOnMissingClass
  */
 @Order(Ordered.HIGHEST_PRECEDENCE)
-class OnClassCondition extends SpringBootCondition
-		implements AutoConfigurationImportFilter, BeanFactoryAware, BeanClassLoaderAware {
-
-	private BeanFactory beanFactory;
-
-	private ClassLoader beanClassLoader;
+class OnClassCondition extends FilteringSpringBootCondition {
 
 	@Override
-	public boolean[] match(String[] autoConfigurationClasses,
-			AutoConfigurationMetadata autoConfigurationMetadata) {
-		ConditionEvaluationReport report = getConditionEvaluationReport();
-		ConditionOutcome[] outcomes = getOutcomes(autoConfigurationClasses,
-				autoConfigurationMetadata);
-		boolean[] match = new boolean[outcomes.length];
-		for (int i = 0; i < outcomes.length; i++) {
-			match[i] = (outcomes[i] == null || outcomes[i].isMatch());
-			if (!match[i] && outcomes[i] != null) {
-				logOutcome(autoConfigurationClasses[i], outcomes[i]);
-				if (report != null) {
-					report.recordConditionEvaluation(autoConfigurationClasses[i], this,
-							outcomes[i]);
-				}
-			}
-		}
-		return match;
-	}
-
-	private ConditionEvaluationReport getConditionEvaluationReport() {
-		if (this.beanFactory != null
-				&& this.beanFactory instanceof ConfigurableBeanFactory) {
-			return ConditionEvaluationReport
-					.get((ConfigurableListableBeanFactory) this.beanFactory);
-		}
-		return null;
-	}
-
-	private ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
+	protected ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
 			AutoConfigurationMetadata autoConfigurationMetadata) {
 		// Split the work and perform half in a background thread. Using a single
 		// additional thread seems to offer the best performance. More threads make
@@ -95,7 +56,7 @@ class OnClassCondition extends SpringBootCondition
 				autoConfigurationClasses, 0, split, autoConfigurationMetadata);
 		OutcomesResolver secondHalfResolver = new StandardOutcomesResolver(
 				autoConfigurationClasses, split, autoConfigurationClasses.length,
-				autoConfigurationMetadata, this.beanClassLoader);
+				autoConfigurationMetadata, getBeanClassLoader());
 		ConditionOutcome[] secondHalf = secondHalfResolver.resolveOutcomes();
 		ConditionOutcome[] firstHalf = firstHalfResolver.resolveOutcomes();
 		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
@@ -108,7 +69,7 @@ class OnClassCondition extends SpringBootCondition
 			int start, int end, AutoConfigurationMetadata autoConfigurationMetadata) {
 		OutcomesResolver outcomesResolver = new StandardOutcomesResolver(
 				autoConfigurationClasses, start, end, autoConfigurationMetadata,
-				this.beanClassLoader);
+				getBeanClassLoader());
 		try {
 			return new ThreadedOutcomesResolver(outcomesResolver);
 		}
@@ -185,16 +146,6 @@ class OnClassCondition extends SpringBootCondition
 		return matches;
 	}
 
-	@Override
-	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
-		this.beanFactory = beanFactory;
-	}
-
-	@Override
-	public void setBeanClassLoader(ClassLoader classLoader) {
-		this.beanClassLoader = classLoader;
-	}
-
 	private enum MatchType {
 
 		PRESENT {
@@ -21,13 +21,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
 import org.springframework.boot.autoconfigure.condition.ConditionMessage.Style;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
 import org.springframework.core.env.PropertyResolver;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.util.Assert;
@@ -35,7 +40,8 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
 
 /**
- * {@link Condition} that checks if properties are defined in environment.
+ * {@link Condition} and {@link AutoConfigurationImportFilter} that checks if properties
+ * are defined in environment.
  *
  * @author Maciej Walkowiak
  * @author Phillip Webb
@@ -45,7 +51,37 @@ import org.springframework.util.StringUtils;
  * @see ConditionalOnProperty
  */
 @Order(Ordered.HIGHEST_PRECEDENCE + 40)
-class OnPropertyCondition extends SpringBootCondition {
+class OnPropertyCondition extends FilteringSpringBootCondition
+		implements EnvironmentAware {
+
+	private Environment environment;
+
+	@Override
+	protected ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
+			AutoConfigurationMetadata autoConfigurationMetadata) {
+		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
+		if (this.environment == null) {
+			return outcomes;
+		}
+		for (int i = 0; i < outcomes.length; i++) {
+			String autoConfigurationClass = autoConfigurationClasses[i];
+			Set<String> names = autoConfigurationMetadata.getSet(autoConfigurationClass,
+					"ConditionalOnProperty");
+			if (names != null && !names.isEmpty()) {
+				Spec spec = new Spec(
+						autoConfigurationMetadata.get(autoConfigurationClass,
+								"ConditionalOnProperty.prefix", ""),
+						names.toArray(new String[names.size()]),
+						autoConfigurationMetadata.get(autoConfigurationClass,
+								"ConditionalOnProperty.havingValue", ""),
+						Boolean.parseBoolean(autoConfigurationMetadata.get(
+								autoConfigurationClass,
+								"ConditionalOnProperty.matchIfMissing")));
+				outcomes[i] = determineOutcome(spec, this.environment);
+			}
+		}
+		return outcomes;
+	}
 
 	@Override
 	public ConditionOutcome getMatchOutcome(ConditionContext context,
@@ -56,7 +92,7 @@ class OnPropertyCondition extends SpringBootCondition {
 		List<ConditionMessage> noMatch = new ArrayList<>();
 		List<ConditionMessage> match = new ArrayList<>();
 		for (AnnotationAttributes annotationAttributes : allAnnotationAttributes) {
-			ConditionOutcome outcome = determineOutcome(annotationAttributes,
+			ConditionOutcome outcome = determineOutcome(new Spec(annotationAttributes),
 					context.getEnvironment());
 			(outcome.isMatch() ? match : noMatch).add(outcome.getConditionMessage());
 		}
@@ -89,9 +125,7 @@ class OnPropertyCondition extends SpringBootCondition {
 		return annotationAttributes;
 	}
 
-	private ConditionOutcome determineOutcome(AnnotationAttributes annotationAttributes,
-			PropertyResolver resolver) {
-		Spec spec = new Spec(annotationAttributes);
+	private ConditionOutcome determineOutcome(Spec spec, PropertyResolver resolver) {
 		List<String> missingProperties = new ArrayList<>();
 		List<String> nonMatchingProperties = new ArrayList<>();
 		spec.collectProperties(resolver, missingProperties, nonMatchingProperties);
@@ -112,6 +146,11 @@ class OnPropertyCondition extends SpringBootCondition {
 				.forCondition(ConditionalOnProperty.class, spec).because("matched"));
 	}
 
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
 	private static class Spec {
 
 		private final String prefix;
@@ -123,17 +162,24 @@ class OnPropertyCondition extends SpringBootCondition {
 		private final boolean matchIfMissing;
 
 		Spec(AnnotationAttributes annotationAttributes) {
-			String prefix = annotationAttributes.getString("prefix").trim();
+			this(annotationAttributes.getString("prefix"),
+					getNames(annotationAttributes),
+					annotationAttributes.getString("havingValue"),
+					annotationAttributes.getBoolean("matchIfMissing"));
+		}
+
+		Spec(String prefix, String[] names, String havingValue, boolean matchIfMissing) {
+			prefix = prefix.trim();
 			if (StringUtils.hasText(prefix) && !prefix.endsWith(".")) {
 				prefix = prefix + ".";
 			}
 			this.prefix = prefix;
-			this.havingValue = annotationAttributes.getString("havingValue");
-			this.names = getNames(annotationAttributes);
-			this.matchIfMissing = annotationAttributes.getBoolean("matchIfMissing");
+			this.havingValue = havingValue;
+			this.names = names;
+			this.matchIfMissing = matchIfMissing;
 		}
 
-		private String[] getNames(Map<String, Object> annotationAttributes) {
+		private static String[] getNames(Map<String, Object> annotationAttributes) {
 			String[] value = (String[]) annotationAttributes.get("value");
 			String[] name = (String[]) annotationAttributes.get("name");
 			Assert.state(value.length > 0 || name.length > 0,
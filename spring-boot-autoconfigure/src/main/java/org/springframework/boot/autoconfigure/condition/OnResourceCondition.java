@@ -17,13 +17,21 @@
 package org.springframework.boot.autoconfigure.condition;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
 import org.springframework.boot.autoconfigure.condition.ConditionMessage.Style;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertyResolver;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.type.AnnotatedTypeMetadata;
@@ -31,16 +39,41 @@ import org.springframework.util.Assert;
 import org.springframework.util.MultiValueMap;
 
 /**
- * {@link Condition} that checks for specific resources.
+ * {@link Condition} and {@link AutoConfigurationImportFilter} that checks for specific
+ * resources.
  *
  * @author Dave Syer
  * @see ConditionalOnResource
  */
 @Order(Ordered.HIGHEST_PRECEDENCE + 20)
-class OnResourceCondition extends SpringBootCondition {
+class OnResourceCondition extends FilteringSpringBootCondition
+		implements EnvironmentAware, ResourceLoaderAware {
 
 	private final ResourceLoader defaultResourceLoader = new DefaultResourceLoader();
 
+	private Environment environment;
+
+	private ResourceLoader resourceLoader;
+
+	@Override
+	protected ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
+			AutoConfigurationMetadata autoConfigurationMetadata) {
+		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
+		if (this.environment == null) {
+			return outcomes;
+		}
+		ResourceLoader loader = (this.resourceLoader == null
+				? this.defaultResourceLoader : this.resourceLoader);
+		for (int i = 0; i < outcomes.length; i++) {
+			Set<String> locations = autoConfigurationMetadata
+					.getSet(autoConfigurationClasses[i], "ConditionalOnResource");
+			if (locations != null && !locations.isEmpty()) {
+				outcomes[i] = getOutcome(locations, this.environment, loader);
+			}
+		}
+		return outcomes;
+	}
+
 	@Override
 	public ConditionOutcome getMatchOutcome(ConditionContext context,
 			AnnotatedTypeMetadata metadata) {
@@ -53,9 +86,14 @@ class OnResourceCondition extends SpringBootCondition {
 		Assert.isTrue(!locations.isEmpty(),
 				"@ConditionalOnResource annotations must specify at "
 						+ "least one resource location");
+		return getOutcome(locations, context.getEnvironment(), loader);
+	}
+
+	private ConditionOutcome getOutcome(Collection<String> locations,
+			PropertyResolver resolver, ResourceLoader loader) {
 		List<String> missing = new ArrayList<>();
 		for (String location : locations) {
-			String resource = context.getEnvironment().resolvePlaceholders(location);
+			String resource = resolver.resolvePlaceholders(location);
 			if (!loader.getResource(resource).exists()) {
 				missing.add(location);
 			}
@@ -78,4 +116,14 @@ class OnResourceCondition extends SpringBootCondition {
 		}
 	}
 
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		this.resourceLoader = resourceLoader;
+	}
+
 }
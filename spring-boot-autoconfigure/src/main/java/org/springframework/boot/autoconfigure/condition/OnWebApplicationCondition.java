@@ -18,6 +18,8 @@ package org.springframework.boot.autoconfigure.condition;
 
 import java.util.Map;
 
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
 import org.springframework.context.annotation.Condition;
@@ -31,19 +33,57 @@ import org.springframework.web.context.ConfigurableWebEnvironment;
 import org.springframework.web.context.WebApplicationContext;
 
 /**
- * {@link Condition} that checks for the presence or absence of
- * {@link WebApplicationContext}.
+ * {@link Condition} and {@link AutoConfigurationImportFilter} that checks for the
+ * presence or absence of {@link WebApplicationContext}.
  *
  * @author Dave Syer
  * @see ConditionalOnWebApplication
  * @see ConditionalOnNotWebApplication
  */
 @Order(Ordered.HIGHEST_PRECEDENCE + 20)
-class OnWebApplicationCondition extends SpringBootCondition {
+class OnWebApplicationCondition extends FilteringSpringBootCondition {
 
 	private static final String WEB_CONTEXT_CLASS = "org.springframework.web.context."
 			+ "support.GenericWebApplicationContext";
 
+	private static final String REACTIVE_WEB_APPLICATION_CLASS = "org.springframework."
+			+ "web.reactive.HandlerResult";
+
+	@Override
+	protected ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
+			AutoConfigurationMetadata autoConfigurationMetadata) {
+		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
+		for (int i = 0; i < outcomes.length; i++) {
+			String type = autoConfigurationMetadata.get(autoConfigurationClasses[i],
+					"ConditionalOnWebApplication");
+			if (type != null) {
+				outcomes[i] = getOutcome(type);
+			}
+		}
+		return outcomes;
+	}
+
+	private ConditionOutcome getOutcome(String type) {
+		ConditionMessage.Builder message = ConditionMessage
+				.forCondition(ConditionalOnWebApplication.class);
+		boolean servlet = ClassUtils.isPresent(WEB_CONTEXT_CLASS, getBeanClassLoader());
+		boolean reactive = ClassUtils.isPresent(REACTIVE_WEB_APPLICATION_CLASS,
+				getBeanClassLoader());
+		if (Type.SERVLET.name().equals(type) && !servlet) {
+			return ConditionOutcome.noMatch(
+					message.didNotFind("servlet web application classes").atAll());
+		}
+		if (Type.REACTIVE.name().equals(type) && !reactive) {
+			return ConditionOutcome.noMatch(
+					message.didNotFind("reactive web application classes").atAll());
+		}
+		if (!servlet && !reactive) {
+			return ConditionOutcome.noMatch(message
+					.didNotFind("reactive or servlet web application classes").atAll());
+		}
+		return null;
+	}
+
 	@Override
 	public ConditionOutcome getMatchOutcome(ConditionContext context,
 			AnnotatedTypeMetadata metadata) {
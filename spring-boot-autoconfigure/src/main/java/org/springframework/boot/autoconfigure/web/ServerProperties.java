@@ -110,6 +110,8 @@ public class ServerProperties {
 
 	private final Undertow undertow = new Undertow();
 
+	private final Netty netty = new Netty();
+
 	public Integer getPort() {
 		return this.port;
 	}
@@ -210,6 +212,10 @@ public class ServerProperties {
 		return this.undertow;
 	}
 
+	public Netty getNetty() {
+		return this.netty;
+	}
+
 	/**
 	 * Servlet properties.
 	 */
@@ -1275,4 +1281,53 @@ public class ServerProperties {
 
 	}
 
+	/**
+	 * Netty properties.
+	 */
+	public static class Netty {
+
+		/**
+		 * Number of selector threads that accept connections. When not set, the worker
+		 * threads also accept connections.
+		 */
+		private Integer selectorThreads;
+
+		/**
+		 * Number of worker threads. When neither this nor the number of selector threads
+		 * is set, the event loops shared by all Reactor Netty servers and clients are
+		 * used.
+		 */
+		private Integer workerThreads;
+
+		/**
+		 * Whether a native transport, such as epoll, should be used when available.
+		 */
+		private Boolean preferNative;
+
+		public Integer getSelectorThreads() {
+			return this.selectorThreads;
+		}
+
+		public void setSelectorThreads(Integer selectorThreads) {
+			this.selectorThreads = selectorThreads;
+		}
+
+		public Integer getWorkerThreads() {
+			return this.workerThreads;
+		}
+
+		public void setWorkerThreads(Integer workerThreads) {
+			this.workerThreads = workerThreads;
+		}
+
+		public Boolean getPreferNative() {
+			return this.preferNative;
+		}
+
+		public void setPreferNative(Boolean preferNative) {
+			this.preferNative = preferNative;
+		}
+
+	}
+
 }
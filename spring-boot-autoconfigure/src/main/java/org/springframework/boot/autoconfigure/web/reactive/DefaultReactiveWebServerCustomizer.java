@@ -16,7 +16,10 @@
 
 package org.springframework.boot.autoconfigure.web.reactive;
 
+import java.time.Duration;
+
 import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ConfigurableReactiveWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
@@ -55,6 +58,20 @@ public class DefaultReactiveWebServerCustomizer implements
 		if (this.serverProperties.getCompression() != null) {
 			server.setCompression(this.serverProperties.getCompression());
 		}
+		if (server instanceof NettyReactiveWebServerFactory) {
+			customizeNetty((NettyReactiveWebServerFactory) server);
+		}
+	}
+
+	private void customizeNetty(NettyReactiveWebServerFactory factory) {
+		ServerProperties.Netty netty = this.serverProperties.getNetty();
+		factory.setSelectorThreads(netty.getSelectorThreads());
+		factory.setWorkerThreads(netty.getWorkerThreads());
+		factory.setPreferNative(netty.getPreferNative());
+		Integer connectionTimeout = this.serverProperties.getConnectionTimeout();
+		if (connectionTimeout != null && connectionTimeout > 0) {
+			factory.setIdleTimeout(Duration.ofMillis(connectionTimeout));
+		}
 	}
 
 }
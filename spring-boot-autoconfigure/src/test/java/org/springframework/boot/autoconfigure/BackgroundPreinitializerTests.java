@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.boot.test.rule.OutputCapture;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BackgroundPreinitializer}.
+ *
+ * @author Phillip Webb
+ */
+public class BackgroundPreinitializerTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	@Rule
+	public OutputCapture output = new OutputCapture();
+
+	@Test
+	public void registeredTasksAreLoaded() throws Exception {
+		File factories = new File(this.temp.getRoot(), "META-INF/spring.factories");
+		factories.getParentFile().mkdirs();
+		FileCopyUtils.copy((PreinitializationTask.class.getName() + "="
+				+ TestPreinitializationTask.class.getName() + ",com.example.Missing")
+						.getBytes(),
+				factories);
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { this.temp.getRoot().toURI().toURL() },
+				getClass().getClassLoader())) {
+			List<PreinitializationTask> tasks = BackgroundPreinitializer
+					.getTasks(classLoader);
+			assertThat(tasks).hasSize(6);
+			assertThat(tasks.get(5)).isInstanceOf(TestPreinitializationTask.class);
+		}
+	}
+
+	@Test
+	public void tasksAreRunInParallel() throws Exception {
+		CountDownLatch bothRunning = new CountDownLatch(2);
+		List<Boolean> results = Collections.synchronizedList(new ArrayList<>());
+		PreinitializationTask task = () -> {
+			bothRunning.countDown();
+			results.add(bothRunning.await(5, TimeUnit.SECONDS));
+		};
+		CountDownLatch complete = new CountDownLatch(1);
+		BackgroundPreinitializer.run(Arrays.asList(task, task), 2, complete);
+		assertThat(complete.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(results).containsExactly(true, true);
+	}
+
+	@Test
+	public void latchIsReleasedWhenTasksFail() throws Exception {
+		List<String> ran = Collections.synchronizedList(new ArrayList<>());
+		PreinitializationTask exception = () -> {
+			throw new IllegalStateException("Failed");
+		};
+		PreinitializationTask error = () -> {
+			throw new NoClassDefFoundError("com/example/Missing");
+		};
+		PreinitializationTask task = () -> ran.add("task");
+		CountDownLatch complete = new CountDownLatch(1);
+		BackgroundPreinitializer.run(Arrays.asList(exception, error, task), 1, complete);
+		assertThat(complete.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(ran).containsExactly("task");
+	}
+
+	@Test
+	public void latchIsReleasedWhenThereAreNoTasks() {
+		CountDownLatch complete = new CountDownLatch(1);
+		BackgroundPreinitializer.run(Collections.emptyList(), 2, complete);
+		assertThat(complete.getCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void summaryOfTaskTimingsIsLoggedOnCompletion() throws Exception {
+		CountDownLatch complete = new CountDownLatch(1);
+		BackgroundPreinitializer.run(Arrays.asList(new TestPreinitializationTask(),
+				new FailingPreinitializationTask()), 2, complete);
+		assertThat(complete.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.output.toString())
+				.contains("Background preinitialization of 2 tasks completed in")
+				.containsPattern("TestPreinitializationTask=\\d+ms")
+				.contains("FailingPreinitializationTask=failed");
+	}
+
+	public static class TestPreinitializationTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+		}
+
+	}
+
+	static class FailingPreinitializationTask implements PreinitializationTask {
+
+		@Override
+		public void preinitialize() {
+			throw new IllegalStateException("Failed");
+		}
+
+	}
+
+}
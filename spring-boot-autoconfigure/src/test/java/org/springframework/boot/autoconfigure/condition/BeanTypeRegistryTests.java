@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.condition;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BeanTypeRegistry}.
+ *
+ * @author Phillip Webb
+ */
+public class BeanTypeRegistryTests {
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private BeanTypeRegistry registry;
+
+	@Before
+	public void setup() {
+		this.beanFactory = new DefaultListableBeanFactory();
+		this.registry = BeanTypeRegistry.get(this.beanFactory);
+	}
+
+	@Test
+	public void getNamesForTypeMatchesTypeHierarchy() {
+		register("list", ArrayList.class);
+		register("example", ExampleService.class);
+		assertThat(this.registry.getNamesForType(ArrayList.class)).containsOnly("list");
+		assertThat(this.registry.getNamesForType(Collection.class))
+				.containsOnly("list");
+		assertThat(this.registry.getNamesForType(Serializable.class))
+				.containsOnly("list", "example");
+		assertThat(this.registry.getNamesForType(AbstractExample.class))
+				.containsOnly("example");
+		assertThat(this.registry.getNamesForType(Object.class)).contains("list",
+				"example");
+		assertThat(this.registry.getNamesForType(String.class)).isEmpty();
+	}
+
+	@Test
+	public void getNamesForTypeWhenDefinitionAddedAfterLookup() {
+		register("first", ExampleService.class);
+		assertThat(this.registry.getNamesForType(ExampleService.class))
+				.containsOnly("first");
+		register("second", ExampleService.class);
+		assertThat(this.registry.getNamesForType(ExampleService.class))
+				.containsOnly("first", "second");
+	}
+
+	@Test
+	public void getNamesForAnnotationMatchesMetaAnnotations() {
+		register("list", ArrayList.class);
+		register("example", ExampleService.class);
+		assertThat(this.registry.getNamesForAnnotation(Service.class))
+				.containsOnly("example");
+		assertThat(this.registry.getNamesForAnnotation(Component.class))
+				.containsOnly("example");
+	}
+
+	@Test
+	public void getNamesForAnnotationWhenDefinitionAddedAfterLookup() {
+		register("first", ExampleService.class);
+		assertThat(this.registry.getNamesForAnnotation(Service.class))
+				.containsOnly("first");
+		register("list", ArrayList.class);
+		register("second", ExampleService.class);
+		assertThat(this.registry.getNamesForAnnotation(Service.class))
+				.containsOnly("first", "second");
+	}
+
+	private void register(String name, Class<?> type) {
+		this.beanFactory.registerBeanDefinition(name, new RootBeanDefinition(type));
+	}
+
+	abstract static class AbstractExample implements Serializable {
+
+	}
+
+	@Service
+	static class ExampleService extends AbstractExample {
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.condition;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the {@link AutoConfigurationImportFilter} part of
+ * {@link OnPropertyCondition}.
+ *
+ * @author Phillip Webb
+ */
+public class OnPropertyConditionAutoConfigurationImportFilterTests {
+
+	private OnPropertyCondition filter = new OnPropertyCondition();
+
+	private DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	private MockEnvironment environment = new MockEnvironment();
+
+	@Before
+	public void setup() {
+		this.filter.setBeanClassLoader(getClass().getClassLoader());
+		this.filter.setBeanFactory(this.beanFactory);
+		this.filter.setEnvironment(this.environment);
+	}
+
+	@Test
+	public void shouldBeRegistered() throws Exception {
+		assertThat(SpringFactoriesLoader
+				.loadFactories(AutoConfigurationImportFilter.class, null))
+						.hasAtLeastOneElementOfType(OnPropertyCondition.class);
+	}
+
+	@Test
+	public void matchShouldMatchProperties() throws Exception {
+		this.environment.setProperty("test.enabled", "true");
+		this.environment.setProperty("test.disabled", "false");
+		this.environment.setProperty("test.mode", "fast");
+		AutoConfigurationMetadata metadata = mock(AutoConfigurationMetadata.class);
+		givenProperty(metadata, "test.present", "test.", "enabled");
+		givenProperty(metadata, "test.false", "test", "disabled");
+		givenProperty(metadata, "test.missing", "test", "missing");
+		givenProperty(metadata, "test.having", "test", "mode");
+		given(metadata.get("test.having", "ConditionalOnProperty.havingValue", ""))
+				.willReturn("slow");
+		givenProperty(metadata, "test.matchIfMissing", "", "test.missing");
+		given(metadata.get("test.matchIfMissing", "ConditionalOnProperty.matchIfMissing"))
+				.willReturn("true");
+		String[] autoConfigurationClasses = new String[] { "test.present", "test.false",
+				"test.missing", "test.having", "test.matchIfMissing", "test.none" };
+		boolean[] result = this.filter.match(autoConfigurationClasses, metadata);
+		assertThat(result).containsExactly(true, false, false, false, true, true);
+		assertThat(ConditionEvaluationReport.get(this.beanFactory)
+				.getConditionAndOutcomesBySource()).containsOnlyKeys("test.false",
+						"test.missing", "test.having");
+	}
+
+	@Test
+	public void matchWithoutEnvironmentShouldMatch() throws Exception {
+		OnPropertyCondition filter = new OnPropertyCondition();
+		AutoConfigurationMetadata metadata = mock(AutoConfigurationMetadata.class);
+		givenProperty(metadata, "test.missing", "test", "missing");
+		assertThat(filter.match(new String[] { "test.missing" }, metadata))
+				.containsExactly(true);
+	}
+
+	private void givenProperty(AutoConfigurationMetadata metadata, String className,
+			String prefix, String... names) {
+		given(metadata.getSet(className, "ConditionalOnProperty"))
+				.willReturn(new LinkedHashSet<>(Arrays.asList(names)));
+		given(metadata.get(eq(className), eq("ConditionalOnProperty.prefix"),
+				anyString())).willReturn(prefix);
+		given(metadata.get(eq(className), eq("ConditionalOnProperty.havingValue"),
+				anyString())).willReturn("");
+	}
+
+}
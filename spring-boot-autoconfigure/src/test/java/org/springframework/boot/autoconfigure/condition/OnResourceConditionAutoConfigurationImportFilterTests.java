@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.condition;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the {@link AutoConfigurationImportFilter} part of
+ * {@link OnResourceCondition}.
+ *
+ * @author Phillip Webb
+ */
+public class OnResourceConditionAutoConfigurationImportFilterTests {
+
+	private OnResourceCondition filter = new OnResourceCondition();
+
+	private DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	private MockEnvironment environment = new MockEnvironment();
+
+	@Before
+	public void setup() {
+		this.filter.setBeanClassLoader(getClass().getClassLoader());
+		this.filter.setBeanFactory(this.beanFactory);
+		this.filter.setEnvironment(this.environment);
+	}
+
+	@Test
+	public void shouldBeRegistered() throws Exception {
+		assertThat(SpringFactoriesLoader
+				.loadFactories(AutoConfigurationImportFilter.class, null))
+						.hasAtLeastOneElementOfType(OnResourceCondition.class);
+	}
+
+	@Test
+	public void matchShouldMatchResources() throws Exception {
+		this.environment.setProperty("schema", "schema.sql");
+		AutoConfigurationMetadata metadata = mock(AutoConfigurationMetadata.class);
+		given(metadata.getSet("test.match", "ConditionalOnResource"))
+				.willReturn(new LinkedHashSet<>(Arrays.asList("classpath:schema.sql",
+						"classpath:${schema}")));
+		given(metadata.getSet("test.nomatch", "ConditionalOnResource"))
+				.willReturn(new LinkedHashSet<>(Arrays.asList("classpath:schema.sql",
+						"classpath:missing.sql")));
+		String[] autoConfigurationClasses = new String[] { "test.match", "test.nomatch",
+				"test.none" };
+		boolean[] result = this.filter.match(autoConfigurationClasses, metadata);
+		assertThat(result).containsExactly(true, false, true);
+		assertThat(ConditionEvaluationReport.get(this.beanFactory)
+				.getConditionAndOutcomesBySource()).containsOnlyKeys("test.nomatch");
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigure.condition;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the {@link AutoConfigurationImportFilter} part of
+ * {@link OnWebApplicationCondition}.
+ *
+ * @author Phillip Webb
+ */
+public class OnWebApplicationConditionAutoConfigurationImportFilterTests {
+
+	private OnWebApplicationCondition filter = new OnWebApplicationCondition();
+
+	private DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	@Before
+	public void setup() {
+		this.filter.setBeanClassLoader(getClass().getClassLoader());
+		this.filter.setBeanFactory(this.beanFactory);
+	}
+
+	@Test
+	public void shouldBeRegistered() throws Exception {
+		assertThat(SpringFactoriesLoader
+				.loadFactories(AutoConfigurationImportFilter.class, null))
+						.hasAtLeastOneElementOfType(OnWebApplicationCondition.class);
+	}
+
+	@Test
+	public void matchShouldMatchWhenWebApplicationClassesArePresent() throws Exception {
+		String[] autoConfigurationClasses = new String[] { "test.servlet",
+				"test.reactive", "test.any", "test.none" };
+		boolean[] result = this.filter.match(autoConfigurationClasses,
+				getAutoConfigurationMetadata());
+		assertThat(result).containsExactly(true, true, true, true);
+		assertThat(ConditionEvaluationReport.get(this.beanFactory)
+				.getConditionAndOutcomesBySource()).isEmpty();
+	}
+
+	@Test
+	public void matchShouldNotMatchWhenWebApplicationClassesAreMissing()
+			throws Exception {
+		this.filter.setBeanClassLoader(new HidingClassLoader(
+				"org.springframework.web.context.support.GenericWebApplicationContext",
+				"org.springframework.web.reactive.HandlerResult"));
+		String[] autoConfigurationClasses = new String[] { "test.servlet",
+				"test.reactive", "test.any", "test.none" };
+		boolean[] result = this.filter.match(autoConfigurationClasses,
+				getAutoConfigurationMetadata());
+		assertThat(result).containsExactly(false, false, false, true);
+		assertThat(ConditionEvaluationReport.get(this.beanFactory)
+				.getConditionAndOutcomesBySource()).hasSize(3)
+						.doesNotContainKey("test.none");
+	}
+
+	private AutoConfigurationMetadata getAutoConfigurationMetadata() {
+		AutoConfigurationMetadata metadata = mock(AutoConfigurationMetadata.class);
+		given(metadata.get("test.servlet", "ConditionalOnWebApplication"))
+				.willReturn("SERVLET");
+		given(metadata.get("test.reactive", "ConditionalOnWebApplication"))
+				.willReturn("REACTIVE");
+		given(metadata.get("test.any", "ConditionalOnWebApplication"))
+				.willReturn("ANY");
+		return metadata;
+	}
+
+	private static final class HidingClassLoader extends ClassLoader {
+
+		private final List<String> hidden;
+
+		private HidingClassLoader(String... hidden) {
+			super(HidingClassLoader.class.getClassLoader());
+			this.hidden = Arrays.asList(hidden);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve)
+				throws ClassNotFoundException {
+			if (this.hidden.contains(name)) {
+				throw new ClassNotFoundException(name);
+			}
+			return super.loadClass(name, resolve);
+		}
+
+	}
+
+}
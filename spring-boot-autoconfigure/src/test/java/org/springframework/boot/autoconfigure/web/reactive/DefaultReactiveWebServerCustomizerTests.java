@@ -17,14 +17,18 @@
 package org.springframework.boot.autoconfigure.web.reactive;
 
 import java.net.InetAddress;
+import java.time.Duration;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ConfigurableReactiveWebServerFactory;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -62,4 +66,28 @@ public class DefaultReactiveWebServerCustomizerTests {
 		verify(factory).setAddress(address);
 	}
 
+	@Test
+	public void testCustomizeNetty() throws Exception {
+		NettyReactiveWebServerFactory factory = mock(
+				NettyReactiveWebServerFactory.class);
+		this.properties.getNetty().setSelectorThreads(1);
+		this.properties.getNetty().setWorkerThreads(8);
+		this.properties.getNetty().setPreferNative(false);
+		this.properties.setConnectionTimeout(30000);
+		this.customizer.customize(factory);
+		verify(factory).setSelectorThreads(1);
+		verify(factory).setWorkerThreads(8);
+		verify(factory).setPreferNative(false);
+		verify(factory).setIdleTimeout(Duration.ofSeconds(30));
+	}
+
+	@Test
+	public void testCustomizeNettyWithInfiniteConnectionTimeout() throws Exception {
+		NettyReactiveWebServerFactory factory = mock(
+				NettyReactiveWebServerFactory.class);
+		this.properties.setConnectionTimeout(-1);
+		this.customizer.customize(factory);
+		verify(factory, never()).setIdleTimeout(any(Duration.class));
+	}
+
 }
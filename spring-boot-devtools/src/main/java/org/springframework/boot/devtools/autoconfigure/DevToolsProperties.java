@@ -92,6 +92,12 @@ public class DevToolsProperties {
 		 */
 		private long quietPeriod = DEFAULT_RESTART_QUIET_PERIOD;
 
+		/**
+		 * Use file system events, rather than polling, to detect classpath changes. Falls
+		 * back to polling when file system events are not available.
+		 */
+		private boolean useWatchService;
+
 		/**
 		 * Name of a specific file that when changed will trigger the restart check. If
 		 * not specified any classpath file change will trigger the restart.
@@ -155,6 +161,14 @@ public class DevToolsProperties {
 			this.quietPeriod = quietPeriod;
 		}
 
+		public boolean isUseWatchService() {
+			return this.useWatchService;
+		}
+
+		public void setUseWatchService(boolean useWatchService) {
+			this.useWatchService = useWatchService;
+		}
+
 		public String getTriggerFile() {
 			return this.triggerFile;
 		}
@@ -23,7 +23,10 @@ import javax.servlet.Filter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -44,6 +47,7 @@ import org.springframework.boot.devtools.restart.server.DefaultSourceFolderUrlFi
 import org.springframework.boot.devtools.restart.server.HttpRestartServer;
 import org.springframework.boot.devtools.restart.server.HttpRestartServerHandler;
 import org.springframework.boot.devtools.restart.server.SourceFolderUrlFilter;
+import org.springframework.boot.devtools.tunnel.server.HttpTunnelServer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -143,6 +147,54 @@ public class RemoteDevToolsAutoConfiguration {
 
 	}
 
+	/**
+	 * Configuration for HTTP tunnels.
+	 */
+	@Configuration
+	static class RemoteTunnelConfiguration {
+
+		@Bean
+		public static HttpTunnelServerPostProcessor remoteTunnelServerPostProcessor(
+				ObjectProvider<DevToolsProperties> properties) {
+			return new HttpTunnelServerPostProcessor(properties);
+		}
+
+		/**
+		 * {@link BeanPostProcessor} that applies the
+		 * {@code spring.devtools.remote.tunnel} properties to each
+		 * {@link HttpTunnelServer} bean.
+		 */
+		static class HttpTunnelServerPostProcessor implements BeanPostProcessor {
+
+			private final ObjectProvider<DevToolsProperties> properties;
+
+			HttpTunnelServerPostProcessor(ObjectProvider<DevToolsProperties> properties) {
+				this.properties = properties;
+			}
+
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName)
+					throws BeansException {
+				if (bean instanceof HttpTunnelServer) {
+					RemoteDevToolsProperties.Tunnel tunnel = this.properties.getObject()
+							.getRemote().getTunnel();
+					HttpTunnelServer server = (HttpTunnelServer) bean;
+					server.setLongPollTimeout(tunnel.getLongPollTimeout());
+					server.setWindowSize(tunnel.getWindowSize());
+				}
+				return bean;
+			}
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName)
+					throws BeansException {
+				return bean;
+			}
+
+		}
+
+	}
+
 	@Configuration
 	@ConditionalOnClass(WebSecurityConfigurerAdapter.class)
 	@ConditionalOnBean(ObjectPostProcessor.class)
@@ -50,6 +50,8 @@ public class RemoteDevToolsProperties {
 
 	private Proxy proxy = new Proxy();
 
+	private Tunnel tunnel = new Tunnel();
+
 	public String getContextPath() {
 		return this.contextPath;
 	}
@@ -82,6 +84,10 @@ public class RemoteDevToolsProperties {
 		return this.proxy;
 	}
 
+	public Tunnel getTunnel() {
+		return this.tunnel;
+	}
+
 	public static class Restart {
 
 		/**
@@ -129,4 +135,36 @@ public class RemoteDevToolsProperties {
 
 	}
 
+	public static class Tunnel {
+
+		/**
+		 * Maximum amount of time in milliseconds that a tunnel HTTP request is held
+		 * open waiting for data from the target server.
+		 */
+		private int longPollTimeout = 10000;
+
+		/**
+		 * Maximum amount of target server data in bytes that is buffered whilst waiting
+		 * for a tunnel HTTP request to carry it.
+		 */
+		private int windowSize = 1024 * 1024;
+
+		public int getLongPollTimeout() {
+			return this.longPollTimeout;
+		}
+
+		public void setLongPollTimeout(int longPollTimeout) {
+			this.longPollTimeout = longPollTimeout;
+		}
+
+		public int getWindowSize() {
+			return this.windowSize;
+		}
+
+		public void setWindowSize(int windowSize) {
+			this.windowSize = windowSize;
+		}
+
+	}
+
 }
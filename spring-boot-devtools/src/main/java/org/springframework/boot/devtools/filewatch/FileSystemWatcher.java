@@ -18,6 +18,14 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,12 +35,20 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import org.springframework.util.Assert;
 
 /**
- * Watches specific folders for file changes.
+ * Watches specific folders for file changes. By default changes are detected by polling
+ * the folders and comparing snapshots of their content. A {@link WatchService} can
+ * be used instead, in which case only the folders that have changed are scanned again.
  *
  * @author Andy Clement
  * @author Phillip Webb
@@ -41,6 +57,8 @@ import org.springframework.util.Assert;
  */
 public class FileSystemWatcher {
 
+	private static final Log logger = LogFactory.getLog(FileSystemWatcher.class);
+
 	private static final long DEFAULT_POLL_INTERVAL = 1000;
 
 	private static final long DEFAULT_QUIET_PERIOD = 400;
@@ -53,6 +71,8 @@ public class FileSystemWatcher {
 
 	private final long quietPeriod;
 
+	private final boolean useWatchService;
+
 	private final AtomicInteger remainingScans = new AtomicInteger(-1);
 
 	private final Map<File, FolderSnapshot> folders = new HashMap<>();
@@ -78,6 +98,21 @@ public class FileSystemWatcher {
 	 * ensure that updates have completed
 	 */
 	public FileSystemWatcher(boolean daemon, long pollInterval, long quietPeriod) {
+		this(daemon, pollInterval, quietPeriod, false);
+	}
+
+	/**
+	 * Create a new {@link FileSystemWatcher} instance.
+	 * @param daemon if a daemon thread used to monitor changes
+	 * @param pollInterval the amount of time to wait between checking for changes
+	 * @param quietPeriod the amount of time required after a change has been detected to
+	 * ensure that updates have completed
+	 * @param useWatchService if a {@link WatchService} should be used to detect changes
+	 * rather than polling. Polling is used when a watch service is not available
+	 * @since 2.0.0
+	 */
+	public FileSystemWatcher(boolean daemon, long pollInterval, long quietPeriod,
+			boolean useWatchService) {
 		Assert.isTrue(pollInterval > 0, "PollInterval must be positive");
 		Assert.isTrue(quietPeriod > 0, "QuietPeriod must be positive");
 		Assert.isTrue(pollInterval > quietPeriod,
@@ -85,6 +120,7 @@ public class FileSystemWatcher {
 		this.daemon = daemon;
 		this.pollInterval = pollInterval;
 		this.quietPeriod = quietPeriod;
+		this.useWatchService = useWatchService;
 	}
 
 	/**
@@ -150,13 +186,22 @@ public class FileSystemWatcher {
 	 */
 	public void start() {
 		synchronized (this.monitor) {
+			// Register before taking the snapshots so that no change is missed
+			WatchService watchService = (this.watchThread == null && this.useWatchService
+					? createWatchService() : null);
 			saveInitialSnapshots();
 			if (this.watchThread == null) {
 				Map<File, FolderSnapshot> localFolders = new HashMap<>();
 				localFolders.putAll(this.folders);
+				if (watchService != null) {
+					// Register folders created while the snapshots were being taken
+					watchService = registerSnapshotFolders(watchService,
+							localFolders.values());
+				}
 				this.watchThread = new Thread(new Watcher(this.remainingScans,
 						new ArrayList<>(this.listeners), this.triggerFilter,
-						this.pollInterval, this.quietPeriod, localFolders));
+						this.pollInterval, this.quietPeriod, localFolders,
+						watchService));
 				this.watchThread.setName("File Watcher");
 				this.watchThread.setDaemon(this.daemon);
 				this.watchThread.start();
@@ -165,8 +210,93 @@ public class FileSystemWatcher {
 	}
 
 	private void saveInitialSnapshots() {
-		for (File folder : this.folders.keySet()) {
-			this.folders.put(folder, new FolderSnapshot(folder));
+		this.folders.putAll(takeSnapshots(this.folders.keySet()));
+	}
+
+	private WatchService createWatchService() {
+		WatchService watchService = null;
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			for (File folder : this.folders.keySet()) {
+				register(watchService, collectFolders(folder, new ArrayList<>()));
+			}
+			return watchService;
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			logger.warn("Unable to watch for file system events, falling back to polling",
+					ex);
+			close(watchService);
+			return null;
+		}
+	}
+
+	private static List<File> collectFolders(File folder, List<File> folders) {
+		folders.add(folder);
+		File[] children = folder.listFiles(File::isDirectory);
+		if (children != null) {
+			for (File child : children) {
+				collectFolders(child, folders);
+			}
+		}
+		return folders;
+	}
+
+	private static WatchService registerSnapshotFolders(WatchService watchService,
+			Collection<FolderSnapshot> snapshots) {
+		try {
+			for (FolderSnapshot snapshot : snapshots) {
+				register(watchService, snapshot.getFolders());
+			}
+			return watchService;
+		}
+		catch (IOException ex) {
+			logger.warn("Unable to watch for file system events, falling back to polling",
+					ex);
+			close(watchService);
+			return null;
+		}
+	}
+
+	/**
+	 * Take snapshots of the given folders. Multiple folders are scanned in parallel.
+	 * @param folders the folders to scan
+	 * @return the snapshots keyed by folder
+	 */
+	private static Map<File, FolderSnapshot> takeSnapshots(Collection<File> folders) {
+		Stream<File> stream = (folders.size() > 1 ? folders.parallelStream()
+				: folders.stream());
+		List<FolderSnapshot> snapshots = stream.map(FolderSnapshot::new)
+				.collect(Collectors.toList());
+		Map<File, FolderSnapshot> result = new LinkedHashMap<>();
+		for (FolderSnapshot snapshot : snapshots) {
+			result.put(snapshot.getFolder(), snapshot);
+		}
+		return result;
+	}
+
+	private static void register(WatchService watchService, Collection<File> folders)
+			throws IOException {
+		for (File folder : folders) {
+			try {
+				folder.toPath().register(watchService,
+						StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_DELETE,
+						StandardWatchEventKinds.ENTRY_MODIFY);
+			}
+			catch (NoSuchFileException ex) {
+				// Deleted since the snapshot was taken, the parent folder will change
+			}
+		}
+	}
+
+	private static void close(WatchService watchService) {
+		if (watchService != null) {
+			try {
+				watchService.close();
+			}
+			catch (IOException ex) {
+				// Ignore
+			}
 		}
 	}
 
@@ -216,35 +346,137 @@ public class FileSystemWatcher {
 
 		private Map<File, FolderSnapshot> folders;
 
+		private WatchService watchService;
+
+		private final Set<File> pendingFolders = new LinkedHashSet<>();
+
+		private boolean pendingOverflow;
+
 		private Watcher(AtomicInteger remainingScans, List<FileChangeListener> listeners,
 				FileFilter triggerFilter, long pollInterval, long quietPeriod,
-				Map<File, FolderSnapshot> folders) {
+				Map<File, FolderSnapshot> folders, WatchService watchService) {
 			this.remainingScans = remainingScans;
 			this.listeners = listeners;
 			this.triggerFilter = triggerFilter;
 			this.pollInterval = pollInterval;
 			this.quietPeriod = quietPeriod;
 			this.folders = folders;
+			this.watchService = watchService;
 		}
 
 		@Override
 		public void run() {
-			int remainingScans = this.remainingScans.get();
-			while (remainingScans > 0 || remainingScans == -1) {
-				try {
-					if (remainingScans > 0) {
-						this.remainingScans.decrementAndGet();
+			try {
+				int remainingScans = this.remainingScans.get();
+				while (remainingScans > 0 || remainingScans == -1) {
+					try {
+						if (remainingScans > 0) {
+							this.remainingScans.decrementAndGet();
+						}
+						scan();
 					}
-					scan();
-				}
-				catch (InterruptedException ex) {
-					Thread.currentThread().interrupt();
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					remainingScans = this.remainingScans.get();
 				}
-				remainingScans = this.remainingScans.get();
+			}
+			finally {
+				close(this.watchService);
 			}
 		};
 
 		private void scan() throws InterruptedException {
+			if (this.watchService != null) {
+				scanEvents();
+			}
+			else {
+				scanSnapshots();
+			}
+		}
+
+		private void scanEvents() throws InterruptedException {
+			WatchKey key = this.watchService.poll(this.pollInterval,
+					TimeUnit.MILLISECONDS);
+			if (key == null) {
+				return;
+			}
+			do {
+				while (key != null) {
+					this.pendingOverflow |= collectChangedFolders(key,
+							this.pendingFolders);
+					key = this.watchService.poll();
+				}
+				key = this.watchService.poll(this.quietPeriod, TimeUnit.MILLISECONDS);
+			}
+			while (key != null);
+			Map<File, FolderSnapshot> current = new LinkedHashMap<>();
+			for (FolderSnapshot snapshot : this.folders.values()) {
+				current.put(snapshot.getFolder(),
+						this.pendingOverflow ? rescan(snapshot.getFolder())
+								: update(snapshot, this.pendingFolders));
+			}
+			// Changes that are not accepted by the trigger filter are kept pending so
+			// that they are reported along with the next triggering change
+			if (isDifferent(this.folders, current)) {
+				updateSnapshots(current.values());
+				this.pendingFolders.clear();
+				this.pendingOverflow = false;
+			}
+		}
+
+		private boolean collectChangedFolders(WatchKey key, Set<File> changedFolders) {
+			boolean overflow = false;
+			for (WatchEvent<?> event : key.pollEvents()) {
+				overflow |= (event.kind() == StandardWatchEventKinds.OVERFLOW);
+			}
+			changedFolders.add(((Path) key.watchable()).toFile());
+			key.reset();
+			return overflow;
+		}
+
+		private FolderSnapshot rescan(File folder) {
+			FolderSnapshot snapshot = new FolderSnapshot(folder);
+			registerFolders(snapshot.getFolders());
+			return snapshot;
+		}
+
+		private FolderSnapshot update(FolderSnapshot snapshot, Set<File> changedFolders) {
+			FolderSnapshot updated = snapshot.update(changedFolders);
+			Set<File> addedFolders = getAddedFolders(snapshot, updated);
+			while (!addedFolders.isEmpty() && registerFolders(addedFolders)) {
+				// Scan again in case files were added before the folders were registered
+				FolderSnapshot previous = updated;
+				updated = updated.update(addedFolders);
+				addedFolders = getAddedFolders(previous, updated);
+			}
+			return updated;
+		}
+
+		private Set<File> getAddedFolders(FolderSnapshot previous,
+				FolderSnapshot current) {
+			Set<File> addedFolders = new LinkedHashSet<>(current.getFolders());
+			addedFolders.removeAll(previous.getFolders());
+			return addedFolders;
+		}
+
+		private boolean registerFolders(Collection<File> folders) {
+			if (this.watchService != null) {
+				try {
+					register(this.watchService, folders);
+					return true;
+				}
+				catch (IOException ex) {
+					logger.warn("Unable to watch for file system events, "
+							+ "falling back to polling", ex);
+					close(this.watchService);
+					this.watchService = null;
+				}
+			}
+			return false;
+		}
+
+		private void scanSnapshots() throws InterruptedException {
 			Thread.sleep(this.pollInterval - this.quietPeriod);
 			Map<File, FolderSnapshot> previous;
 			Map<File, FolderSnapshot> current = this.folders;
@@ -275,11 +507,7 @@ public class FileSystemWatcher {
 		}
 
 		private Map<File, FolderSnapshot> getCurrentSnapshots() {
-			Map<File, FolderSnapshot> snapshots = new LinkedHashMap<>();
-			for (File folder : this.folders.keySet()) {
-				snapshots.put(folder, new FolderSnapshot(folder));
-			}
-			return snapshots;
+			return takeSnapshots(this.folders.keySet());
 		}
 
 		private void updateSnapshots(Collection<FolderSnapshot> snapshots) {
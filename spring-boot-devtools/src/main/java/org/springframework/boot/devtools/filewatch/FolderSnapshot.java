@@ -18,7 +18,10 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
@@ -46,6 +49,8 @@ class FolderSnapshot {
 
 	private Set<FileSnapshot> files;
 
+	private Set<File> folders;
+
 	/**
 	 * Create a new {@link FolderSnapshot} for the given folder.
 	 * @param folder the source folder
@@ -56,16 +61,28 @@ class FolderSnapshot {
 		this.folder = folder;
 		this.time = new Date();
 		Set<FileSnapshot> files = new LinkedHashSet<>();
-		collectFiles(folder, files);
+		Set<File> folders = new LinkedHashSet<>();
+		folders.add(folder);
+		collectFiles(folder, files, folders);
+		this.files = Collections.unmodifiableSet(files);
+		this.folders = Collections.unmodifiableSet(folders);
+	}
+
+	private FolderSnapshot(File folder, Set<FileSnapshot> files, Set<File> folders) {
+		this.folder = folder;
+		this.time = new Date();
 		this.files = Collections.unmodifiableSet(files);
+		this.folders = Collections.unmodifiableSet(folders);
 	}
 
-	private void collectFiles(File source, Set<FileSnapshot> result) {
+	private void collectFiles(File source, Set<FileSnapshot> result,
+			Set<File> folders) {
 		File[] children = source.listFiles();
 		if (children != null) {
 			for (File child : children) {
 				if (child.isDirectory() && !DOT_FOLDERS.contains(child.getName())) {
-					collectFiles(child, result);
+					folders.add(child);
+					collectFiles(child, result, folders);
 				}
 				else if (child.isFile()) {
 					result.add(new FileSnapshot(child));
@@ -74,6 +91,62 @@ class FolderSnapshot {
 		}
 	}
 
+	/**
+	 * Create a new {@link FolderSnapshot} by scanning only the given changed folders
+	 * again. The direct children of each changed folder are listed, new sub-folders are
+	 * scanned in full and sub-folders that no longer exist are removed. Files in any
+	 * other folder are taken from this snapshot. Changed folders that are not part of
+	 * this snapshot are ignored.
+	 * @param changedFolders the folders that have changed
+	 * @return the updated snapshot
+	 */
+	FolderSnapshot update(Collection<File> changedFolders) {
+		Set<FileSnapshot> files = new LinkedHashSet<>(this.files);
+		Set<File> folders = new LinkedHashSet<>(this.folders);
+		for (File changedFolder : changedFolders) {
+			if (folders.contains(changedFolder)) {
+				updateFolder(changedFolder, files, folders);
+			}
+		}
+		return new FolderSnapshot(this.folder, files, folders);
+	}
+
+	private void updateFolder(File changedFolder, Set<FileSnapshot> files,
+			Set<File> folders) {
+		if (!changedFolder.isDirectory()) {
+			removeFolder(changedFolder, files, folders);
+			return;
+		}
+		files.removeIf((file) -> changedFolder.equals(file.getFile().getParentFile()));
+		Set<File> childFolders = new HashSet<>();
+		File[] children = changedFolder.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				if (child.isDirectory() && !DOT_FOLDERS.contains(child.getName())) {
+					childFolders.add(child);
+					if (folders.add(child)) {
+						collectFiles(child, files, folders);
+					}
+				}
+				else if (child.isFile()) {
+					files.add(new FileSnapshot(child));
+				}
+			}
+		}
+		for (File folder : new ArrayList<>(folders)) {
+			if (changedFolder.equals(folder.getParentFile())
+					&& !childFolders.contains(folder)) {
+				removeFolder(folder, files, folders);
+			}
+		}
+	}
+
+	private void removeFolder(File folder, Set<FileSnapshot> files, Set<File> folders) {
+		Path path = folder.toPath();
+		folders.removeIf((candidate) -> candidate.toPath().startsWith(path));
+		files.removeIf((file) -> file.getFile().toPath().startsWith(path));
+	}
+
 	public ChangedFiles getChangedFiles(FolderSnapshot snapshot,
 			FileFilter triggerFilter) {
 		Assert.notNull(snapshot, "Snapshot must not be null");
@@ -165,6 +238,14 @@ class FolderSnapshot {
 		return this.folder;
 	}
 
+	/**
+	 * Return the source folder and all of the sub-folders contained in this snapshot.
+	 * @return the folders
+	 */
+	Set<File> getFolders() {
+		return this.folders;
+	}
+
 	@Override
 	public String toString() {
 		return this.folder + " snapshot at " + this.time;
@@ -17,15 +17,20 @@
 package org.springframework.boot.devtools.remote.client;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.net.ConnectException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
@@ -37,11 +42,15 @@ import org.springframework.boot.devtools.filewatch.ChangedFiles;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesDelta;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesManifest;
+import org.springframework.boot.devtools.restart.server.HttpRestartServer;
 import org.springframework.context.ApplicationListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage.Body;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
@@ -49,7 +58,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
 
 /**
- * Listens and pushes any classpath updates to a remote endpoint.
+ * Listens and pushes any classpath updates to a remote endpoint. The digests of changed
+ * files are sent first so that only the files that differ from those on the remote
+ * server are uploaded. Remote servers that do not support this receive all changed files
+ * as a serialized {@link ClassLoaderFiles} instance.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -74,6 +86,8 @@ public class ClassPathChangeUploader
 
 	private final ClientHttpRequestFactory requestFactory;
 
+	private volatile boolean serializedUploadOnly;
+
 	public ClassPathChangeUploader(String url, ClientHttpRequestFactory requestFactory) {
 		Assert.hasLength(url, "URL must not be empty");
 		Assert.notNull(requestFactory, "RequestFactory must not be null");
@@ -89,32 +103,116 @@ public class ClassPathChangeUploader
 	@Override
 	public void onApplicationEvent(ClassPathChangedEvent event) {
 		try {
+			if (!this.serializedUploadOnly) {
+				List<Change> changes = getChanges(event);
+				BitSet required = getRequired(changes);
+				if (required != null) {
+					uploadDelta(changes, required);
+					return;
+				}
+				this.serializedUploadOnly = true;
+				logger.info("Remote server does not support delta uploads, "
+						+ "uploading all class resources");
+			}
 			ClassLoaderFiles classLoaderFiles = getClassLoaderFiles(event);
 			byte[] bytes = serialize(classLoaderFiles);
-			performUpload(classLoaderFiles, bytes);
+			uploadSerialized(classLoaderFiles, bytes);
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException(ex);
 		}
 	}
 
-	private void performUpload(ClassLoaderFiles classLoaderFiles, byte[] bytes)
+	private List<Change> getChanges(ClassPathChangedEvent event) {
+		List<Change> changes = new ArrayList<>();
+		for (ChangedFiles changedFiles : event.getChangeSet()) {
+			String sourceFolder = changedFiles.getSourceFolder().getAbsolutePath();
+			for (ChangedFile changedFile : changedFiles) {
+				changes.add(new Change(sourceFolder, changedFile));
+			}
+		}
+		return changes;
+	}
+
+	private BitSet getRequired(List<Change> changes) throws IOException {
+		ClassLoaderFilesManifest manifest = new ClassLoaderFilesManifest();
+		for (Change change : changes) {
+			ChangedFile changedFile = change.getChangedFile();
+			Kind kind = TYPE_MAPPINGS.get(changedFile.getType());
+			byte[] digest = (kind == Kind.DELETED ? null : ClassLoaderFilesManifest
+					.digest(new FileInputStream(changedFile.getFile())));
+			manifest.add(change.getSourceFolder(), changedFile.getRelativeName(), kind,
+					digest);
+		}
+		ClientHttpResponse response = execute(HttpRestartServer.MANIFEST_MEDIA_TYPE, -1,
+				manifest::writeTo);
+		try {
+			if (response.getStatusCode() == HttpStatus.INTERNAL_SERVER_ERROR) {
+				// Earlier servers fail to deserialize the manifest
+				return null;
+			}
+			checkStatus(response);
+			return ClassLoaderFilesManifest.readRequired(response.getBody());
+		}
+		finally {
+			response.close();
+		}
+	}
+
+	private void uploadDelta(List<Change> changes, BitSet required)
 			throws IOException {
+		List<Change> upload = new ArrayList<>();
+		for (int i = 0; i < changes.size(); i++) {
+			Change change = changes.get(i);
+			if (required.get(i)
+					|| change.getChangedFile().getType() == ChangedFile.Type.DELETE) {
+				upload.add(change);
+			}
+		}
+		if (upload.isEmpty()) {
+			logger.info("Class resources are unchanged on the remote server");
+			return;
+		}
+		ClientHttpResponse response = execute(HttpRestartServer.DELTA_MEDIA_TYPE, -1,
+				(outputStream) -> writeDelta(upload, outputStream));
+		checkUploaded(response);
+		logUpload(upload.size());
+	}
+
+	private void writeDelta(List<Change> changes, OutputStream outputStream)
+			throws IOException {
+		try (ClassLoaderFilesDelta.Writer writer = ClassLoaderFilesDelta
+				.writer(outputStream)) {
+			for (Change change : changes) {
+				ChangedFile changedFile = change.getChangedFile();
+				writer.write(change.getSourceFolder(), changedFile.getRelativeName(),
+						asClassLoaderFile(changedFile));
+			}
+		}
+	}
+
+	private void uploadSerialized(ClassLoaderFiles classLoaderFiles, byte[] bytes)
+			throws IOException {
+		ClientHttpResponse response = execute(MediaType.APPLICATION_OCTET_STREAM,
+				bytes.length, (outputStream) -> FileCopyUtils.copy(bytes, outputStream));
+		checkUploaded(response);
+		logUpload(classLoaderFiles.size());
+	}
+
+	private ClientHttpResponse execute(MediaType contentType, long contentLength,
+			Body body) throws IOException {
 		try {
 			while (true) {
 				try {
 					ClientHttpRequest request = this.requestFactory
 							.createRequest(this.uri, HttpMethod.POST);
 					HttpHeaders headers = request.getHeaders();
-					headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-					headers.setContentLength(bytes.length);
-					FileCopyUtils.copy(bytes, request.getBody());
-					ClientHttpResponse response = request.execute();
-					Assert.state(response.getStatusCode() == HttpStatus.OK,
-							"Unexpected " + response.getStatusCode()
-									+ " response uploading class files");
-					logUpload(classLoaderFiles);
-					return;
+					headers.setContentType(contentType);
+					if (contentLength >= 0) {
+						headers.setContentLength(contentLength);
+					}
+					body.writeTo(request.getBody());
+					return request.execute();
 				}
 				catch (ConnectException ex) {
 					logger.warn("Failed to connect when uploading to " + this.uri
@@ -129,8 +227,21 @@ public class ClassPathChangeUploader
 		}
 	}
 
-	private void logUpload(ClassLoaderFiles classLoaderFiles) {
-		int size = classLoaderFiles.size();
+	private void checkUploaded(ClientHttpResponse response) throws IOException {
+		try {
+			checkStatus(response);
+		}
+		finally {
+			response.close();
+		}
+	}
+
+	private void checkStatus(ClientHttpResponse response) throws IOException {
+		Assert.state(response.getStatusCode() == HttpStatus.OK, "Unexpected "
+				+ response.getStatusCode() + " response uploading class files");
+	}
+
+	private void logUpload(int size) {
 		logger.info(
 				"Uploaded " + size + " class " + (size == 1 ? "resource" : "resources"));
 	}
@@ -166,4 +277,28 @@ public class ClassPathChangeUploader
 		return new ClassLoaderFile(kind, lastModified, bytes);
 	}
 
+	/**
+	 * A single changed file along with its source folder.
+	 */
+	private static final class Change {
+
+		private final String sourceFolder;
+
+		private final ChangedFile changedFile;
+
+		Change(String sourceFolder, ChangedFile changedFile) {
+			this.sourceFolder = sourceFolder;
+			this.changedFile = changedFile;
+		}
+
+		String getSourceFolder() {
+			return this.sourceFolder;
+		}
+
+		ChangedFile getChangedFile() {
+			return this.changedFile;
+		}
+
+	}
+
 }
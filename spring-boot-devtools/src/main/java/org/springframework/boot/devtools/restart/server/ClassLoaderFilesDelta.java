@@ -0,0 +1,141 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart.server;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.util.Assert;
+
+/**
+ * Compressed binary stream of changed class loader files, written one entry at a time
+ * and applied to {@link ClassLoaderFiles} as each entry is read.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ * @see ClassLoaderFilesManifest
+ */
+public final class ClassLoaderFilesDelta {
+
+	private static final int VERSION = 1;
+
+	private static final int END = 0;
+
+	private static final int ENTRY = 1;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private ClassLoaderFilesDelta() {
+	}
+
+	/**
+	 * Read all entries from the given stream, adding each to the specified files.
+	 * @param inputStream the source stream
+	 * @param files the files to update
+	 * @return the number of entries read
+	 * @throws IOException in case of I/O errors
+	 */
+	public static int read(InputStream inputStream, ClassLoaderFiles files)
+			throws IOException {
+		Assert.notNull(files, "Files must not be null");
+		DataInputStream input = new DataInputStream(
+				new GZIPInputStream(inputStream, BUFFER_SIZE));
+		ClassLoaderFilesManifest.checkVersion(input);
+		int count = 0;
+		while (input.readUnsignedByte() != END) {
+			String sourceFolder = input.readUTF();
+			String name = input.readUTF();
+			Kind kind = ClassLoaderFilesManifest.readKind(input);
+			long lastModified = input.readLong();
+			byte[] contents = null;
+			if (kind != Kind.DELETED) {
+				contents = new byte[input.readInt()];
+				input.readFully(contents);
+			}
+			files.addFile(sourceFolder, name,
+					new ClassLoaderFile(kind, lastModified, contents));
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Return a new {@link Writer} that writes entries to the given stream.
+	 * @param outputStream the destination stream
+	 * @return the writer
+	 * @throws IOException in case of I/O errors
+	 */
+	public static Writer writer(OutputStream outputStream) throws IOException {
+		return new Writer(outputStream);
+	}
+
+	/**
+	 * Writes entries to a delta stream. Entries are compressed as they are written and
+	 * the stream is completed when the writer is closed. Closing the writer does not
+	 * close the underlying stream.
+	 */
+	public static final class Writer implements Closeable {
+
+		private final GZIPOutputStream compressed;
+
+		private final DataOutputStream output;
+
+		private Writer(OutputStream outputStream) throws IOException {
+			this.compressed = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+			this.output = new DataOutputStream(this.compressed);
+			this.output.writeByte(VERSION);
+		}
+
+		/**
+		 * Write a single entry.
+		 * @param sourceFolder the source folder of the file
+		 * @param name the name of the file
+		 * @param file the file
+		 * @throws IOException in case of I/O errors
+		 */
+		public void write(String sourceFolder, String name, ClassLoaderFile file)
+				throws IOException {
+			this.output.writeByte(ENTRY);
+			this.output.writeUTF(sourceFolder);
+			this.output.writeUTF(name);
+			this.output.writeByte(file.getKind().ordinal());
+			this.output.writeLong(file.getLastModified());
+			if (file.getKind() != Kind.DELETED) {
+				this.output.writeInt(file.getContents().length);
+				this.output.write(file.getContents());
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.output.writeByte(END);
+			this.output.flush();
+			this.compressed.finish();
+		}
+
+	}
+
+}
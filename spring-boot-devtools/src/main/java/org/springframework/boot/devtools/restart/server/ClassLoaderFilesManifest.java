@@ -0,0 +1,252 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart.server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.util.Assert;
+
+/**
+ * A manifest describing changed class loader files by their content digest rather than
+ * their contents. Sent by a client so that the {@link HttpRestartServer} can report
+ * which entries it actually needs.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ * @see ClassLoaderFilesDelta
+ */
+public class ClassLoaderFilesManifest {
+
+	private static final int VERSION = 1;
+
+	private static final int BUFFER_SIZE = 4096;
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	/**
+	 * Add an entry to the manifest.
+	 * @param sourceFolder the source folder of the file
+	 * @param name the name of the file
+	 * @param kind the kind of change
+	 * @param digest the digest of the file contents or {@code null} if the file has
+	 * been deleted
+	 */
+	public void add(String sourceFolder, String name, Kind kind, byte[] digest) {
+		Assert.notNull(sourceFolder, "SourceFolder must not be null");
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(kind, "Kind must not be null");
+		Assert.isTrue(kind == Kind.DELETED || digest != null,
+				"Digest must not be null");
+		this.entries.add(new Entry(sourceFolder, name, kind, digest));
+	}
+
+	/**
+	 * Return the entries in the manifest, in the order that they were added.
+	 * @return the entries
+	 */
+	public List<Entry> getEntries() {
+		return Collections.unmodifiableList(this.entries);
+	}
+
+	/**
+	 * Write the manifest in its compressed binary form.
+	 * @param outputStream the destination stream
+	 * @throws IOException in case of I/O errors
+	 */
+	public void writeTo(OutputStream outputStream) throws IOException {
+		GZIPOutputStream compressed = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+		DataOutputStream output = new DataOutputStream(compressed);
+		output.writeByte(VERSION);
+		output.writeInt(this.entries.size());
+		for (Entry entry : this.entries) {
+			output.writeUTF(entry.getSourceFolder());
+			output.writeUTF(entry.getName());
+			output.writeByte(entry.getKind().ordinal());
+			if (entry.getKind() != Kind.DELETED) {
+				output.writeByte(entry.getDigest().length);
+				output.write(entry.getDigest());
+			}
+		}
+		output.flush();
+		compressed.finish();
+	}
+
+	/**
+	 * Read a manifest previously written using {@link #writeTo(OutputStream)}.
+	 * @param inputStream the source stream
+	 * @return the manifest
+	 * @throws IOException in case of I/O errors
+	 */
+	public static ClassLoaderFilesManifest readFrom(InputStream inputStream)
+			throws IOException {
+		DataInputStream input = new DataInputStream(
+				new GZIPInputStream(inputStream, BUFFER_SIZE));
+		checkVersion(input);
+		ClassLoaderFilesManifest manifest = new ClassLoaderFilesManifest();
+		int size = input.readInt();
+		for (int i = 0; i < size; i++) {
+			String sourceFolder = input.readUTF();
+			String name = input.readUTF();
+			Kind kind = readKind(input);
+			byte[] digest = null;
+			if (kind != Kind.DELETED) {
+				digest = new byte[input.readUnsignedByte()];
+				input.readFully(digest);
+			}
+			manifest.add(sourceFolder, name, kind, digest);
+		}
+		return manifest;
+	}
+
+	/**
+	 * Write the indexes of the manifest entries that are required by the server.
+	 * @param required the required indexes
+	 * @param outputStream the destination stream
+	 * @throws IOException in case of I/O errors
+	 */
+	public static void writeRequired(BitSet required, OutputStream outputStream)
+			throws IOException {
+		DataOutputStream output = new DataOutputStream(outputStream);
+		byte[] bytes = required.toByteArray();
+		output.writeByte(VERSION);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+		output.flush();
+	}
+
+	/**
+	 * Read the indexes of the manifest entries that are required by the server.
+	 * @param inputStream the source stream
+	 * @return the required indexes
+	 * @throws IOException in case of I/O errors
+	 */
+	public static BitSet readRequired(InputStream inputStream) throws IOException {
+		DataInputStream input = new DataInputStream(inputStream);
+		checkVersion(input);
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return BitSet.valueOf(bytes);
+	}
+
+	static void checkVersion(DataInputStream input) throws IOException {
+		int version = input.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unsupported version " + version);
+		}
+	}
+
+	static Kind readKind(DataInputStream input) throws IOException {
+		int ordinal = input.readUnsignedByte();
+		if (ordinal >= Kind.values().length) {
+			throw new IOException("Unknown kind " + ordinal);
+		}
+		return Kind.values()[ordinal];
+	}
+
+	/**
+	 * Return the digest of the given contents.
+	 * @param inputStream the contents (closed by this method)
+	 * @return the digest
+	 * @throws IOException in case of I/O errors
+	 */
+	public static byte[] digest(InputStream inputStream) throws IOException {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				messageDigest.update(buffer, 0, read);
+			}
+			return messageDigest.digest();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+		finally {
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * A single entry in the manifest.
+	 */
+	public static final class Entry {
+
+		private final String sourceFolder;
+
+		private final String name;
+
+		private final Kind kind;
+
+		private final byte[] digest;
+
+		private Entry(String sourceFolder, String name, Kind kind, byte[] digest) {
+			this.sourceFolder = sourceFolder;
+			this.name = name;
+			this.kind = kind;
+			this.digest = digest;
+		}
+
+		/**
+		 * Return the source folder of the file.
+		 * @return the source folder
+		 */
+		public String getSourceFolder() {
+			return this.sourceFolder;
+		}
+
+		/**
+		 * Return the name of the file.
+		 * @return the name
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Return the kind of change.
+		 * @return the kind
+		 */
+		public Kind getKind() {
+			return this.kind;
+		}
+
+		/**
+		 * Return the digest of the file contents or {@code null} if the file has been
+		 * deleted.
+		 * @return the digest or {@code null}
+		 */
+		public byte[] getDigest() {
+			return this.digest;
+		}
+
+	}
+
+}
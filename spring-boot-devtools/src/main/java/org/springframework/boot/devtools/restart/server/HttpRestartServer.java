@@ -18,19 +18,28 @@ package org.springframework.boot.devtools.restart.server;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesManifest.Entry;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.util.Assert;
 
 /**
  * A HTTP server that can be used to upload updated {@link ClassLoaderFiles} and trigger
- * restarts.
+ * restarts. Clients first send a {@link ClassLoaderFilesManifest} and receive the
+ * entries that differ from those currently in use, before sending only those entries as
+ * a {@link ClassLoaderFilesDelta}. A serialized {@link ClassLoaderFiles} instance is
+ * also accepted for compatibility with earlier clients.
  *
  * @author Phillip Webb
  * @since 1.3.0
@@ -38,6 +47,20 @@ import org.springframework.util.Assert;
  */
 public class HttpRestartServer {
 
+	/**
+	 * Media type of a {@link ClassLoaderFilesManifest} request.
+	 * @since 2.0.0
+	 */
+	public static final MediaType MANIFEST_MEDIA_TYPE = MediaType
+			.valueOf("application/vnd.spring-boot.devtools.manifest");
+
+	/**
+	 * Media type of a {@link ClassLoaderFilesDelta} request.
+	 * @since 2.0.0
+	 */
+	public static final MediaType DELTA_MEDIA_TYPE = MediaType
+			.valueOf("application/vnd.spring-boot.devtools.delta");
+
 	private static final Log logger = LogFactory.getLog(HttpRestartServer.class);
 
 	private final RestartServer server;
@@ -70,11 +93,13 @@ public class HttpRestartServer {
 	public void handle(ServerHttpRequest request, ServerHttpResponse response)
 			throws IOException {
 		try {
-			Assert.state(request.getHeaders().getContentLength() > 0, "No content");
-			ObjectInputStream objectInputStream = new ObjectInputStream(
-					request.getBody());
-			ClassLoaderFiles files = (ClassLoaderFiles) objectInputStream.readObject();
-			objectInputStream.close();
+			MediaType contentType = request.getHeaders().getContentType();
+			if (MANIFEST_MEDIA_TYPE.includes(contentType)) {
+				handleManifest(request, response);
+				return;
+			}
+			ClassLoaderFiles files = (DELTA_MEDIA_TYPE.includes(contentType)
+					? readDelta(request) : readSerialized(request));
 			this.server.updateAndRestart(files);
 			response.setStatusCode(HttpStatus.OK);
 		}
@@ -84,4 +109,41 @@ public class HttpRestartServer {
 		}
 	}
 
+	private void handleManifest(ServerHttpRequest request, ServerHttpResponse response)
+			throws IOException {
+		ClassLoaderFilesManifest manifest = ClassLoaderFilesManifest
+				.readFrom(request.getBody());
+		List<Entry> entries = manifest.getEntries();
+		BitSet required = new BitSet(entries.size());
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			if (entry.getKind() != Kind.DELETED && !Arrays.equals(entry.getDigest(),
+					this.server.getDigest(entry.getName()))) {
+				required.set(i);
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Requesting " + required.cardinality() + " of "
+					+ entries.size() + " changed class resources");
+		}
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
+		ClassLoaderFilesManifest.writeRequired(required, response.getBody());
+	}
+
+	private ClassLoaderFiles readDelta(ServerHttpRequest request) throws IOException {
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		ClassLoaderFilesDelta.read(request.getBody(), files);
+		return files;
+	}
+
+	private ClassLoaderFiles readSerialized(ServerHttpRequest request)
+			throws Exception {
+		Assert.state(request.getHeaders().getContentLength() > 0, "No content");
+		ObjectInputStream objectInputStream = new ObjectInputStream(request.getBody());
+		ClassLoaderFiles files = (ClassLoaderFiles) objectInputStream.readObject();
+		objectInputStream.close();
+		return files;
+	}
+
 }
@@ -75,6 +75,28 @@ public class RestartServer {
 		this.classLoader = classLoader;
 	}
 
+	/**
+	 * Return the digest of the resource with the given name as it is currently served by
+	 * the application classloader.
+	 * @param name the name of the resource
+	 * @return the digest of the resource or {@code null} if the resource is not
+	 * available
+	 * @since 2.0.0
+	 * @see ClassLoaderFilesManifest#digest(java.io.InputStream)
+	 */
+	public byte[] getDigest(String name) {
+		URL resource = this.classLoader.getResource(name);
+		if (resource == null) {
+			return null;
+		}
+		try {
+			return ClassLoaderFilesManifest.digest(resource.openStream());
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
 	/**
 	 * Update the current running application with the specified {@link ClassLoaderFiles}
 	 * and trigger a reload.
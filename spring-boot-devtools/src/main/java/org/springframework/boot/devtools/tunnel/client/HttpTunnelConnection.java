@@ -25,6 +25,8 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -106,7 +108,8 @@ public class HttpTunnelConnection implements TunnelConnection {
 	}
 
 	/**
-	 * A {@link WritableByteChannel} used to transfer traffic.
+	 * A {@link WritableByteChannel} used to transfer traffic. Data written whilst a
+	 * previous write is still waiting to be sent is coalesced into a single payload.
 	 */
 	protected class TunnelChannel implements WritableByteChannel {
 
@@ -118,10 +121,16 @@ public class HttpTunnelConnection implements TunnelConnection {
 
 		private AtomicLong requestSeq = new AtomicLong();
 
+		private final Object pendingMonitor = new Object();
+
+		private final List<ByteBuffer> pendingData = new ArrayList<>();
+
+		private boolean sendScheduled;
+
 		public TunnelChannel(WritableByteChannel incomingChannel, Closeable closeable) {
 			this.forwarder = new HttpTunnelPayloadForwarder(incomingChannel);
 			this.closeable = closeable;
-			openNewConnection(null);
+			openNewConnection(false);
 		}
 
 		@Override
@@ -141,19 +150,48 @@ public class HttpTunnelConnection implements TunnelConnection {
 		public int write(ByteBuffer src) throws IOException {
 			int size = src.remaining();
 			if (size > 0) {
-				openNewConnection(
-						new HttpTunnelPayload(this.requestSeq.incrementAndGet(), src));
+				synchronized (this.pendingMonitor) {
+					this.pendingData.add(src);
+					if (this.sendScheduled) {
+						return size;
+					}
+					this.sendScheduled = true;
+				}
+				openNewConnection(true);
 			}
 			return size;
 		}
 
-		private void openNewConnection(final HttpTunnelPayload payload) {
+		private HttpTunnelPayload takePendingPayload() {
+			synchronized (this.pendingMonitor) {
+				this.sendScheduled = false;
+				ByteBuffer data = (this.pendingData.size() == 1 ? this.pendingData.get(0)
+						: merge(this.pendingData));
+				this.pendingData.clear();
+				return new HttpTunnelPayload(this.requestSeq.incrementAndGet(), data);
+			}
+		}
+
+		private ByteBuffer merge(List<ByteBuffer> buffers) {
+			int size = 0;
+			for (ByteBuffer buffer : buffers) {
+				size += buffer.remaining();
+			}
+			ByteBuffer merged = ByteBuffer.allocate(size);
+			for (ByteBuffer buffer : buffers) {
+				merged.put(buffer);
+			}
+			merged.flip();
+			return merged;
+		}
+
+		private void openNewConnection(final boolean sendPendingData) {
 			HttpTunnelConnection.this.executor.execute(new Runnable() {
 
 				@Override
 				public void run() {
 					try {
-						sendAndReceive(payload);
+						sendAndReceive(sendPendingData ? takePendingPayload() : null);
 					}
 					catch (IOException ex) {
 						if (ex instanceof ConnectException) {
@@ -200,7 +238,7 @@ public class HttpTunnelConnection implements TunnelConnection {
 				}
 			}
 			if (response.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
-				openNewConnection(null);
+				openNewConnection(false);
 			}
 		}
 
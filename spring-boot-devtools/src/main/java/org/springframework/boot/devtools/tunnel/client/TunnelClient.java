@@ -21,10 +21,12 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.nio.ByteBuffer;
-import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,7 +36,8 @@ import org.springframework.util.Assert;
 
 /**
  * The client side component of a socket tunnel. Starts a {@link ServerSocket} of the
- * specified port for local clients to connect to.
+ * specified port for local clients to connect to. All connections are serviced by a
+ * single selector thread, each using its own {@link TunnelConnection}.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -129,16 +132,26 @@ public class TunnelClient implements SmartInitializingSingleton {
 	}
 
 	/**
-	 * The main server thread.
+	 * The main server thread. Uses a single {@link Selector} to accept connections and to
+	 * read from all connected sockets.
 	 */
 	protected class ServerThread extends Thread {
 
 		private final ServerSocketChannel serverSocketChannel;
 
-		private boolean acceptConnections = true;
+		private final Selector selector;
 
-		public ServerThread(ServerSocketChannel serverSocketChannel) {
+		private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+		private volatile boolean acceptConnections = true;
+
+		private volatile boolean closed;
+
+		public ServerThread(ServerSocketChannel serverSocketChannel) throws IOException {
 			this.serverSocketChannel = serverSocketChannel;
+			this.selector = Selector.open();
+			serverSocketChannel.configureBlocking(false);
+			serverSocketChannel.register(this.selector, SelectionKey.OP_ACCEPT);
 			setName("Tunnel Server");
 			setDaemon(true);
 		}
@@ -146,52 +159,197 @@ public class TunnelClient implements SmartInitializingSingleton {
 		public void close() throws IOException {
 			logger.trace("Closing tunnel client on port "
 					+ this.serverSocketChannel.socket().getLocalPort());
-			this.serverSocketChannel.close();
+			this.closed = true;
 			this.acceptConnections = false;
-			interrupt();
+			this.selector.wakeup();
 		}
 
 		@Override
 		public void run() {
 			try {
-				while (this.acceptConnections) {
-					try (SocketChannel socket = this.serverSocketChannel.accept()) {
-						handleConnection(socket);
-					}
-					catch (AsynchronousCloseException ex) {
-						// Connection has been closed. Keep the server running
+				while (!this.closed && select()) {
+					Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+					while (keys.hasNext()) {
+						SelectionKey key = keys.next();
+						keys.remove();
+						handle(key);
 					}
 				}
 			}
 			catch (Exception ex) {
 				logger.trace("Unexpected exception from tunnel client", ex);
 			}
+			finally {
+				closeAll();
+			}
+		}
+
+		private boolean select() throws IOException {
+			if (this.acceptConnections) {
+				this.selector.select();
+				return true;
+			}
+			this.serverSocketChannel.close();
+			// Flush cancelled keys so that we can tell when all connections have closed
+			if (this.selector.selectNow() == 0) {
+				if (this.selector.keys().isEmpty()) {
+					return false;
+				}
+				this.selector.select();
+			}
+			return true;
+		}
+
+		private void handle(SelectionKey key) throws IOException {
+			if (!key.isValid()) {
+				return;
+			}
+			if (key.isAcceptable()) {
+				SocketChannel socketChannel = this.serverSocketChannel.accept();
+				if (socketChannel != null) {
+					handleConnection(socketChannel);
+				}
+			}
+			else if (key.isReadable()) {
+				forwardData(key);
+			}
 		}
 
-		private void handleConnection(SocketChannel socketChannel) throws Exception {
-			Closeable closeable = new SocketCloseable(socketChannel);
-			TunnelClient.this.listeners.fireOpenEvent(socketChannel);
-			try (WritableByteChannel outputChannel = TunnelClient.this.tunnelConnection
-					.open(socketChannel, closeable)) {
+		private void handleConnection(SocketChannel socketChannel) throws IOException {
+			try {
+				SocketWriteChannel inputChannel = new SocketWriteChannel(socketChannel);
+				Closeable closeable = new SocketCloseable(inputChannel);
+				TunnelClient.this.listeners.fireOpenEvent(socketChannel);
+				WritableByteChannel outputChannel = TunnelClient.this.tunnelConnection
+						.open(inputChannel, closeable);
 				logger.trace("Accepted connection to tunnel client from "
 						+ socketChannel.socket().getRemoteSocketAddress());
-				while (true) {
-					ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
-					int amountRead = socketChannel.read(buffer);
-					if (amountRead == -1) {
-						outputChannel.close();
-						return;
-					}
-					if (amountRead > 0) {
-						buffer.flip();
-						outputChannel.write(buffer);
-					}
+				socketChannel.configureBlocking(false);
+				socketChannel.register(this.selector, SelectionKey.OP_READ,
+						outputChannel);
+			}
+			catch (Exception ex) {
+				logger.trace("Unable to open tunnel connection", ex);
+				socketChannel.close();
+			}
+		}
+
+		private void forwardData(SelectionKey key) throws IOException {
+			SocketChannel socketChannel = (SocketChannel) key.channel();
+			WritableByteChannel outputChannel = (WritableByteChannel) key.attachment();
+			this.readBuffer.clear();
+			int amountRead;
+			try {
+				amountRead = socketChannel.read(this.readBuffer);
+			}
+			catch (IOException ex) {
+				amountRead = -1;
+			}
+			if (amountRead == -1) {
+				key.cancel();
+				closeQuietly(outputChannel);
+				return;
+			}
+			if (amountRead > 0) {
+				this.readBuffer.flip();
+				ByteBuffer data = ByteBuffer.allocate(amountRead);
+				data.put(this.readBuffer);
+				data.flip();
+				outputChannel.write(data);
+			}
+		}
+
+		private void closeAll() {
+			for (SelectionKey key : this.selector.keys()) {
+				Object attachment = key.attachment();
+				if (attachment instanceof Closeable) {
+					closeQuietly((Closeable) attachment);
 				}
 			}
+			closeQuietly(this.serverSocketChannel);
+			closeQuietly(this.selector);
+		}
+
+		private void closeQuietly(Closeable closeable) {
+			try {
+				closeable.close();
+			}
+			catch (IOException ex) {
+				logger.trace("Unable to close tunnel resource", ex);
+			}
 		}
 
 		protected void stopAcceptingConnections() {
 			this.acceptConnections = false;
+			this.selector.wakeup();
+		}
+
+	}
+
+	/**
+	 * {@link WritableByteChannel} used to write tunnelled data back to a non-blocking
+	 * {@link SocketChannel}, waiting whilst the socket cannot accept more data. The
+	 * {@link Selector} used to wait is only opened when a write is incomplete and is then
+	 * reused until the channel is closed.
+	 */
+	private static class SocketWriteChannel implements WritableByteChannel {
+
+		private final SocketChannel socketChannel;
+
+		private volatile Selector selector;
+
+		SocketWriteChannel(SocketChannel socketChannel) {
+			this.socketChannel = socketChannel;
+		}
+
+		SocketChannel getSocketChannel() {
+			return this.socketChannel;
+		}
+
+		@Override
+		public synchronized int write(ByteBuffer src) throws IOException {
+			int amountWritten = this.socketChannel.write(src);
+			while (src.hasRemaining()) {
+				Selector selector = getSelector();
+				selector.select();
+				selector.selectedKeys().clear();
+				amountWritten += this.socketChannel.write(src);
+			}
+			return amountWritten;
+		}
+
+		private Selector getSelector() throws IOException {
+			Selector selector = this.selector;
+			if (selector == null) {
+				selector = Selector.open();
+				this.selector = selector;
+				try {
+					this.socketChannel.register(selector, SelectionKey.OP_WRITE);
+				}
+				catch (IOException ex) {
+					selector.close();
+					throw ex;
+				}
+			}
+			return selector;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return this.socketChannel.isOpen();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				this.socketChannel.close();
+			}
+			finally {
+				Selector selector = this.selector;
+				if (selector != null) {
+					selector.close();
+				}
+			}
 		}
 
 	}
@@ -201,19 +359,20 @@ public class TunnelClient implements SmartInitializingSingleton {
 	 */
 	private class SocketCloseable implements Closeable {
 
-		private final SocketChannel socketChannel;
+		private final SocketWriteChannel channel;
 
 		private boolean closed = false;
 
-		SocketCloseable(SocketChannel socketChannel) {
-			this.socketChannel = socketChannel;
+		SocketCloseable(SocketWriteChannel channel) {
+			this.channel = channel;
 		}
 
 		@Override
 		public void close() throws IOException {
 			if (!this.closed) {
-				this.socketChannel.close();
-				TunnelClient.this.listeners.fireCloseEvent(this.socketChannel);
+				this.channel.close();
+				TunnelClient.this.listeners
+						.fireCloseEvent(this.channel.getSocketChannel());
 				this.closed = true;
 			}
 		}
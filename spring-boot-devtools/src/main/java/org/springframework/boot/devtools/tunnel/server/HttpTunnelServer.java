@@ -17,6 +17,7 @@
 package org.springframework.boot.devtools.tunnel.server;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.ConnectException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
@@ -62,7 +63,10 @@ import org.springframework.util.Assert;
  * </pre>
  *
  * Each incoming request is held open to be used to carry the next available response. The
- * server will hold at most two connections open at any given time.
+ * server will hold at most two connections open at any given time. Data received from the
+ * target server whilst no request is available is buffered, up to the
+ * {@link #setWindowSize(int) window size}, and sent as a single payload with the next
+ * response.
  * <p>
  * Requests should be made using HTTP GET or POST (depending if there is a payload), with
  * any payload contained in the body. The following response codes can be returned from
@@ -112,6 +116,10 @@ public class HttpTunnelServer {
 
 	private static final long DEFAULT_DISCONNECT_TIMEOUT = 30 * SECONDS;
 
+	private static final int DEFAULT_WINDOW_SIZE = 1024 * 1024;
+
+	private static final int READ_BUFFER_SIZE = 1024 * 100;
+
 	private static final MediaType DISCONNECT_MEDIA_TYPE = new MediaType("application",
 			"x-disconnect");
 
@@ -123,6 +131,8 @@ public class HttpTunnelServer {
 
 	private long disconnectTimeout = DEFAULT_DISCONNECT_TIMEOUT;
 
+	private int windowSize = DEFAULT_WINDOW_SIZE;
+
 	private volatile ServerThread serverThread;
 
 	/**
@@ -205,7 +215,22 @@ public class HttpTunnelServer {
 	}
 
 	/**
-	 * The main server thread used to transfer tunnel traffic.
+	 * Set the maximum amount of target server data, in bytes, to buffer whilst waiting
+	 * for a HTTP connection to carry it. Once the window is full, no further data is read
+	 * from the target server until a connection is available.
+	 * @param windowSize the window size in bytes
+	 * @since 2.0.0
+	 */
+	public void setWindowSize(int windowSize) {
+		Assert.isTrue(windowSize > 0, "WindowSize must be a positive value");
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * The main server thread used to transfer tunnel traffic. A server only ever has a
+	 * single target server connection, read through the {@link TargetServerConnection}
+	 * {@link ByteChannel} contract, so a dedicated thread performing timed reads is used
+	 * rather than a selector.
 	 */
 	protected class ServerThread extends Thread {
 
@@ -215,12 +240,18 @@ public class HttpTunnelServer {
 
 		private final HttpTunnelPayloadForwarder payloadForwarder;
 
+		private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+		private final Deque<ByteBuffer> pendingData = new ArrayDeque<>();
+
 		private boolean closed;
 
 		private AtomicLong responseSeq = new AtomicLong();
 
 		private long lastHttpRequestTime;
 
+		private int pendingSize;
+
 		public ServerThread(ByteChannel targetServer) {
 			Assert.notNull(targetServer, "TargetServer must not be null");
 			this.targetServer = targetServer;
@@ -249,33 +280,84 @@ public class HttpTunnelServer {
 		private void readAndForwardTargetServerData() throws IOException {
 			while (this.targetServer.isOpen()) {
 				closeStaleHttpConnections();
-				ByteBuffer data = HttpTunnelPayload.getPayloadData(this.targetServer);
-				synchronized (this.httpConnections) {
-					if (data != null) {
-						HttpTunnelPayload payload = new HttpTunnelPayload(
-								this.responseSeq.incrementAndGet(), data);
-						payload.logIncoming();
-						HttpConnection connection = getOrWaitForHttpConnection();
-						connection.respond(payload);
+				ByteBuffer data = readTargetServerData();
+				if (data != null && data.hasRemaining()) {
+					synchronized (this.httpConnections) {
+						this.pendingData.addLast(data);
+						this.pendingSize += data.remaining();
+						respondWithPendingData();
+						while (this.pendingSize >= HttpTunnelServer.this.windowSize) {
+							waitForHttpConnection();
+							respondWithPendingData();
+						}
+					}
+				}
+			}
+		}
+
+		private ByteBuffer readTargetServerData() throws IOException {
+			this.readBuffer.clear();
+			try {
+				if (this.targetServer.read(this.readBuffer) == -1) {
+					sendRemainingPendingData();
+					throw new IllegalStateException("Target server connection closed");
+				}
+			}
+			catch (InterruptedIOException ex) {
+				return null;
+			}
+			this.readBuffer.flip();
+			ByteBuffer data = ByteBuffer.allocate(this.readBuffer.remaining());
+			data.put(this.readBuffer);
+			data.flip();
+			return data;
+		}
+
+		private void sendRemainingPendingData() throws IOException {
+			synchronized (this.httpConnections) {
+				while (this.pendingSize > 0) {
+					waitForHttpConnection();
+					respondWithPendingData();
+				}
+			}
+		}
+
+		private void respondWithPendingData() throws IOException {
+			synchronized (this.httpConnections) {
+				if (this.pendingSize == 0 || this.httpConnections.isEmpty()) {
+					return;
+				}
+				ByteBuffer data = this.pendingData.pollFirst();
+				if (!this.pendingData.isEmpty()) {
+					ByteBuffer merged = ByteBuffer.allocate(this.pendingSize);
+					merged.put(data);
+					while (!this.pendingData.isEmpty()) {
+						merged.put(this.pendingData.pollFirst());
 					}
+					merged.flip();
+					data = merged;
 				}
+				this.pendingSize = 0;
+				HttpTunnelPayload payload = new HttpTunnelPayload(
+						this.responseSeq.incrementAndGet(), data);
+				payload.logIncoming();
+				this.httpConnections.pollFirst().respond(payload);
 			}
 		}
 
-		private HttpConnection getOrWaitForHttpConnection() {
+		private void waitForHttpConnection() {
 			synchronized (this.httpConnections) {
-				HttpConnection httpConnection = this.httpConnections.pollFirst();
-				while (httpConnection == null) {
+				while (this.httpConnections.isEmpty() && this.pendingSize > 0) {
 					try {
 						this.httpConnections.wait(HttpTunnelServer.this.longPollTimeout);
 					}
 					catch (InterruptedException ex) {
 						Thread.currentThread().interrupt();
-						closeHttpConnections();
+						throw new IllegalStateException(
+								"Interrupted whilst waiting for HTTP connection");
 					}
-					httpConnection = this.httpConnections.pollFirst();
+					checkNotDisconnected();
 				}
-				return httpConnection;
 			}
 		}
 
@@ -342,6 +424,7 @@ public class HttpTunnelServer {
 				this.lastHttpRequestTime = System.currentTimeMillis();
 				this.httpConnections.addLast(httpConnection);
 				this.httpConnections.notify();
+				respondWithPendingData();
 			}
 			forwardToTargetServer(httpConnection);
 		}
@@ -19,10 +19,11 @@ package org.springframework.boot.devtools.tunnel.server;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 
 import org.apache.commons.logging.Log;
@@ -57,34 +58,83 @@ public class SocketTargetServerConnection implements TargetServerConnection {
 		SocketAddress address = new InetSocketAddress(this.portProvider.getPort());
 		logger.trace("Opening tunnel connection to target server on " + address);
 		SocketChannel channel = SocketChannel.open(address);
-		channel.socket().setSoTimeout(socketTimeout);
-		return new TimeoutAwareChannel(channel);
+		return new TimeoutAwareChannel(channel, socketTimeout);
 	}
 
 	/**
-	 * Wrapper to expose the {@link SocketChannel} in such a way that
-	 * {@code SocketTimeoutExceptions} are still thrown from read methods.
+	 * Wrapper to expose a non-blocking {@link SocketChannel} in such a way that
+	 * {@code SocketTimeoutExceptions} are still thrown from read methods. A
+	 * {@link Selector} is used to wait for the channel so that no stream adapters are
+	 * required. The selector used to wait for writes is only opened when a write is
+	 * incomplete.
 	 */
 	private static class TimeoutAwareChannel implements ByteChannel {
 
 		private final SocketChannel socketChannel;
 
-		private final ReadableByteChannel readChannel;
+		private final int timeout;
 
-		TimeoutAwareChannel(SocketChannel socketChannel) throws IOException {
+		private final Selector readSelector;
+
+		private volatile Selector writeSelector;
+
+		private final Object readMonitor = new Object();
+
+		private final Object writeMonitor = new Object();
+
+		TimeoutAwareChannel(SocketChannel socketChannel, int timeout)
+				throws IOException {
 			this.socketChannel = socketChannel;
-			this.readChannel = Channels
-					.newChannel(socketChannel.socket().getInputStream());
+			this.timeout = timeout;
+			socketChannel.configureBlocking(false);
+			this.readSelector = Selector.open();
+			socketChannel.register(this.readSelector, SelectionKey.OP_READ);
 		}
 
 		@Override
 		public int read(ByteBuffer dst) throws IOException {
-			return this.readChannel.read(dst);
+			synchronized (this.readMonitor) {
+				int amountRead = this.socketChannel.read(dst);
+				while (amountRead == 0 && dst.hasRemaining()) {
+					if (this.readSelector.select(this.timeout) == 0) {
+						throw new SocketTimeoutException(
+								"Read timed out after " + this.timeout + "ms");
+					}
+					this.readSelector.selectedKeys().clear();
+					amountRead = this.socketChannel.read(dst);
+				}
+				return amountRead;
+			}
 		}
 
 		@Override
 		public int write(ByteBuffer src) throws IOException {
-			return this.socketChannel.write(src);
+			synchronized (this.writeMonitor) {
+				int amountWritten = this.socketChannel.write(src);
+				while (src.hasRemaining()) {
+					Selector writeSelector = getWriteSelector();
+					writeSelector.select();
+					writeSelector.selectedKeys().clear();
+					amountWritten += this.socketChannel.write(src);
+				}
+				return amountWritten;
+			}
+		}
+
+		private Selector getWriteSelector() throws IOException {
+			Selector writeSelector = this.writeSelector;
+			if (writeSelector == null) {
+				writeSelector = Selector.open();
+				this.writeSelector = writeSelector;
+				try {
+					this.socketChannel.register(writeSelector, SelectionKey.OP_WRITE);
+				}
+				catch (IOException ex) {
+					writeSelector.close();
+					throw ex;
+				}
+			}
+			return writeSelector;
 		}
 
 		@Override
@@ -94,7 +144,16 @@ public class SocketTargetServerConnection implements TargetServerConnection {
 
 		@Override
 		public void close() throws IOException {
-			this.socketChannel.close();
+			try {
+				this.socketChannel.close();
+			}
+			finally {
+				this.readSelector.close();
+				Selector writeSelector = this.writeSelector;
+				if (writeSelector != null) {
+					writeSelector.close();
+				}
+			}
 		}
 
 	}
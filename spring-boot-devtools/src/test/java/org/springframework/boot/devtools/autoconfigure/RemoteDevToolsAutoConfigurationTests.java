@@ -42,6 +42,7 @@ import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -175,15 +176,42 @@ public class RemoteDevToolsAutoConfigurationTests {
 		assertThat(this.response.getStatus()).isEqualTo(200);
 	}
 
+	@Test
+	public void tunnelServerIsConfiguredWithDefaultTunnelProperties() throws Exception {
+		loadContext(TunnelServerConfig.class,
+				"spring.devtools.remote.secret:supersecret");
+		HttpTunnelServer server = this.context.getBean(HttpTunnelServer.class);
+		assertThat(ReflectionTestUtils.getField(server, "longPollTimeout"))
+				.isEqualTo(10000);
+		assertThat(ReflectionTestUtils.getField(server, "windowSize"))
+				.isEqualTo(1024 * 1024);
+	}
+
+	@Test
+	public void tunnelServerIsConfiguredWithTunnelProperties() throws Exception {
+		loadContext(TunnelServerConfig.class,
+				"spring.devtools.remote.secret:supersecret",
+				"spring.devtools.remote.tunnel.long-poll-timeout:2000",
+				"spring.devtools.remote.tunnel.window-size:4096");
+		HttpTunnelServer server = this.context.getBean(HttpTunnelServer.class);
+		assertThat(ReflectionTestUtils.getField(server, "longPollTimeout"))
+				.isEqualTo(2000);
+		assertThat(ReflectionTestUtils.getField(server, "windowSize")).isEqualTo(4096);
+	}
+
 	private void assertRestartInvoked(boolean value) {
 		assertThat(this.context.getBean(MockHttpRestartServer.class).invoked)
 				.isEqualTo(value);
 	}
 
 	private void loadContext(String... properties) {
+		loadContext(Config.class, properties);
+	}
+
+	private void loadContext(Class<?> config, String... properties) {
 		this.context = new AnnotationConfigWebApplicationContext();
 		this.context.setServletContext(new MockServletContext());
-		this.context.register(Config.class, PropertyPlaceholderAutoConfiguration.class);
+		this.context.register(config, PropertyPlaceholderAutoConfiguration.class);
 		TestPropertyValues.of(properties).applyTo(this.context);
 		this.context.refresh();
 	}
@@ -201,6 +229,17 @@ public class RemoteDevToolsAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	@Import(Config.class)
+	static class TunnelServerConfig {
+
+		@Bean
+		public HttpTunnelServer httpTunnelServer() {
+			return new MockHttpTunnelServer(mock(TargetServerConnection.class));
+		}
+
+	}
+
 	/**
 	 * Mock {@link HttpTunnelServer} implementation.
 	 */
@@ -271,8 +271,83 @@ public class FileSystemWatcherTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	public void addNestedFileWithWatchService() throws Exception {
+		setupWatcher(200, 100, true);
+		File folder = startWithNewFolder();
+		File file = touch(new File(new File(folder, "sub"), "text.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		ChangedFile expected = new ChangedFile(folder, file, Type.ADD);
+		assertThat(changedFiles.getFiles()).contains(expected);
+	}
+
+	@Test
+	public void modifyDeleteAndAddWithWatchService() throws Exception {
+		setupWatcher(200, 100, true);
+		File folder = this.temp.newFolder();
+		File modify = touch(new File(new File(folder, "a"), "modify.txt"));
+		File delete = touch(new File(new File(folder, "b"), "delete.txt"));
+		this.watcher.addSourceFolder(folder);
+		this.watcher.start();
+		FileCopyUtils.copy("abc".getBytes(), modify);
+		delete.delete();
+		File add = touch(new File(folder, "add.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		Set<ChangedFile> actual = changedFiles.getFiles();
+		Set<ChangedFile> expected = new HashSet<>();
+		expected.add(new ChangedFile(folder, modify, Type.MODIFY));
+		expected.add(new ChangedFile(folder, delete, Type.DELETE));
+		expected.add(new ChangedFile(folder, add, Type.ADD));
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	@Test
+	public void withTriggerFilterAndWatchService() throws Exception {
+		setupWatcher(200, 100, true);
+		File folder = this.temp.newFolder();
+		File file = touch(new File(new File(folder, "a"), "file.txt"));
+		File trigger = touch(new File(folder, "trigger.txt"));
+		this.watcher.addSourceFolder(folder);
+		this.watcher.setTriggerFilter(
+				(candidate) -> candidate.getName().equals("trigger.txt"));
+		this.watcher.start();
+		FileCopyUtils.copy("abc".getBytes(), file);
+		Thread.sleep(500);
+		assertThat(this.changes.size()).isEqualTo(0);
+		FileCopyUtils.copy("abc".getBytes(), trigger);
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		Set<ChangedFile> actual = changedFiles.getFiles();
+		Set<ChangedFile> expected = new HashSet<>();
+		expected.add(new ChangedFile(folder, file, Type.MODIFY));
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	@Test
+	public void multipleSourcesWithWatchService() throws Exception {
+		setupWatcher(200, 100, true);
+		File folder1 = this.temp.newFolder();
+		File folder2 = this.temp.newFolder();
+		this.watcher.addSourceFolder(folder1);
+		this.watcher.addSourceFolder(folder2);
+		this.watcher.start();
+		touch(new File(folder1, "test.txt"));
+		touch(new File(folder2, "test.txt"));
+		this.watcher.stopAfter(1);
+		Set<ChangedFiles> change = getSingleOnChange();
+		assertThat(change.size()).isEqualTo(2);
+	}
+
 	private void setupWatcher(long pollingInterval, long quietPeriod) {
-		this.watcher = new FileSystemWatcher(false, pollingInterval, quietPeriod);
+		setupWatcher(pollingInterval, quietPeriod, false);
+	}
+
+	private void setupWatcher(long pollingInterval, long quietPeriod,
+			boolean useWatchService) {
+		this.watcher = new FileSystemWatcher(false, pollingInterval, quietPeriod,
+				useWatchService);
 		this.watcher.addListener(
 				(changeSet) -> FileSystemWatcherTests.this.changes.add(changeSet));
 	}
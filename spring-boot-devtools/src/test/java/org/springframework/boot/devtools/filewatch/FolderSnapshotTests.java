@@ -18,6 +18,7 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -135,6 +136,69 @@ public class FolderSnapshotTests {
 		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
 	}
 
+	@Test
+	public void updateWhenAFileIsAddedAndDeletedAndChanged() throws Exception {
+		File folder1 = new File(this.folder, "folder1");
+		File file1 = new File(folder1, "file1");
+		File file2 = new File(folder1, "file2");
+		File newFile = new File(folder1, "newfile");
+		FileCopyUtils.copy("updatedcontent".getBytes(), file1);
+		file2.delete();
+		newFile.createNewFile();
+		FolderSnapshot updatedSnapshot = this.initialSnapshot
+				.update(Collections.singleton(folder1));
+		assertThat(updatedSnapshot).isEqualTo(new FolderSnapshot(this.folder));
+		ChangedFiles changedFiles = this.initialSnapshot.getChangedFiles(updatedSnapshot,
+				null);
+		assertThat(getChangedFile(changedFiles, file1).getType()).isEqualTo(Type.MODIFY);
+		assertThat(getChangedFile(changedFiles, file2).getType()).isEqualTo(Type.DELETE);
+		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
+	}
+
+	@Test
+	public void updateWhenAFolderIsAdded() throws Exception {
+		File folder2 = new File(new File(this.folder, "folder2"), "nested");
+		folder2.mkdirs();
+		File newFile = new File(folder2, "newfile");
+		newFile.createNewFile();
+		FolderSnapshot updatedSnapshot = this.initialSnapshot
+				.update(Collections.singleton(this.folder));
+		assertThat(updatedSnapshot).isEqualTo(new FolderSnapshot(this.folder));
+		assertThat(updatedSnapshot.getFolders()).contains(folder2);
+		ChangedFiles changedFiles = this.initialSnapshot.getChangedFiles(updatedSnapshot,
+				null);
+		assertThat(changedFiles.getFiles()).hasSize(1);
+		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
+	}
+
+	@Test
+	public void updateWhenAFolderIsDeleted() throws Exception {
+		File folder1 = new File(this.folder, "folder1");
+		File file1 = new File(folder1, "file1");
+		File file2 = new File(folder1, "file2");
+		file1.delete();
+		file2.delete();
+		folder1.delete();
+		FolderSnapshot updatedSnapshot = this.initialSnapshot
+				.update(Collections.singleton(this.folder));
+		assertThat(updatedSnapshot).isEqualTo(new FolderSnapshot(this.folder));
+		assertThat(updatedSnapshot.getFolders()).containsExactly(this.folder);
+		ChangedFiles changedFiles = this.initialSnapshot.getChangedFiles(updatedSnapshot,
+				null);
+		assertThat(getChangedFile(changedFiles, file1).getType()).isEqualTo(Type.DELETE);
+		assertThat(getChangedFile(changedFiles, file2).getType()).isEqualTo(Type.DELETE);
+	}
+
+	@Test
+	public void updateOnlyScansChangedFolders() throws Exception {
+		File folder1 = new File(this.folder, "folder1");
+		File newFile = new File(folder1, "newfile");
+		newFile.createNewFile();
+		FolderSnapshot updatedSnapshot = this.initialSnapshot
+				.update(Collections.singleton(this.folder));
+		assertThat(updatedSnapshot).isEqualTo(this.initialSnapshot);
+	}
+
 	private ChangedFile getChangedFile(ChangedFiles changedFiles, File file) {
 		for (ChangedFile changedFile : changedFiles) {
 			if (changedFile.getFile().equals(file)) {
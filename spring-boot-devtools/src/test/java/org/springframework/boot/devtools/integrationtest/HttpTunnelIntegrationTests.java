@@ -16,9 +16,16 @@
 
 package org.springframework.boot.devtools.integrationtest;
 
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -94,6 +101,80 @@ public class HttpTunnelIntegrationTests {
 		tunnelContext.close();
 	}
 
+	@Test
+	public void viaTunnelToEchoTarget() throws Exception {
+		try (ServerSocket echoServer = new ServerSocket(0)) {
+			Thread echoThread = new Thread(() -> echo(echoServer), "echo");
+			echoThread.setDaemon(true);
+			echoThread.start();
+			AnnotationConfigServletWebServerApplicationContext serverContext = new AnnotationConfigServletWebServerApplicationContext();
+			TestPropertyValues.of("echo.port:" + echoServer.getLocalPort())
+					.applyTo(serverContext);
+			serverContext.register(EchoServerConfiguration.class);
+			serverContext.refresh();
+			AnnotationConfigApplicationContext tunnelContext = new AnnotationConfigApplicationContext();
+			TestPropertyValues
+					.of("server.port:" + serverContext.getWebServer().getPort())
+					.applyTo(tunnelContext);
+			tunnelContext.register(TunnelConfiguration.class);
+			tunnelContext.refresh();
+			try (Socket socket = new Socket("localhost",
+					tunnelContext.getBean(TestTunnelClient.class).port)) {
+				socket.setSoTimeout(10000);
+				OutputStream outputStream = socket.getOutputStream();
+				DataInputStream inputStream = new DataInputStream(
+						socket.getInputStream());
+				// Many small round trips, each one waiting for its echo
+				byte[] message = new byte[128];
+				byte[] echoed = new byte[message.length];
+				for (int i = 0; i < 100; i++) {
+					Arrays.fill(message, (byte) i);
+					outputStream.write(message);
+					outputStream.flush();
+					inputStream.readFully(echoed);
+					assertThat(echoed).isEqualTo(message);
+				}
+				// A bulk transfer that is larger than the tunnel's window
+				byte[] bulk = new byte[256 * 1024];
+				new Random(0).nextBytes(bulk);
+				Thread writer = new Thread(() -> {
+					try {
+						outputStream.write(bulk);
+						outputStream.flush();
+					}
+					catch (IOException ex) {
+						// The read below will fail
+					}
+				}, "bulk-writer");
+				writer.start();
+				byte[] bulkEchoed = new byte[bulk.length];
+				inputStream.readFully(bulkEchoed);
+				writer.join();
+				assertThat(bulkEchoed).isEqualTo(bulk);
+			}
+			finally {
+				tunnelContext.close();
+				serverContext.close();
+			}
+		}
+	}
+
+	private void echo(ServerSocket echoServer) {
+		try (Socket socket = echoServer.accept()) {
+			InputStream inputStream = socket.getInputStream();
+			OutputStream outputStream = socket.getOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, read);
+				outputStream.flush();
+			}
+		}
+		catch (IOException ex) {
+			// Tunnel closed
+		}
+	}
+
 	@Configuration
 	@EnableWebMvc
 	static class ServerConfiguration {
@@ -128,6 +209,36 @@ public class HttpTunnelIntegrationTests {
 
 	}
 
+	@Configuration
+	@EnableWebMvc
+	static class EchoServerConfiguration {
+
+		@Bean
+		public ServletWebServerFactory container() {
+			return new TomcatServletWebServerFactory(0);
+		}
+
+		@Bean
+		public DispatcherServlet dispatcherServlet() {
+			return new DispatcherServlet();
+		}
+
+		@Bean
+		public DispatcherFilter filter(@Value("${echo.port}") int echoPort) {
+			TargetServerConnection connection = new SocketTargetServerConnection(
+					() -> echoPort);
+			HttpTunnelServer server = new HttpTunnelServer(connection);
+			server.setLongPollTimeout(1000);
+			server.setWindowSize(16 * 1024);
+			HandlerMapper mapper = new UrlHandlerMapper("/httptunnel",
+					new HttpTunnelServerHandler(server));
+			Collection<HandlerMapper> mappers = Collections.singleton(mapper);
+			Dispatcher dispatcher = new Dispatcher(AccessManager.PERMIT_ALL, mappers);
+			return new DispatcherFilter(dispatcher);
+		}
+
+	}
+
 	static class TunnelConfiguration {
 
 		@Bean
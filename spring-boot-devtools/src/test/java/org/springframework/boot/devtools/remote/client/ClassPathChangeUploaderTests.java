@@ -17,13 +17,17 @@
 package org.springframework.boot.devtools.remote.client;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.net.ConnectException;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Before;
@@ -40,6 +44,10 @@ import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles.SourceFolder;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesDelta;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesManifest;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesManifest.Entry;
+import org.springframework.boot.devtools.restart.server.HttpRestartServer;
 import org.springframework.boot.devtools.test.MockClientHttpRequestFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.client.MockClientHttpRequest;
@@ -101,14 +109,63 @@ public class ClassPathChangeUploaderTests {
 	}
 
 	@Test
-	public void sendsClassLoaderFiles() throws Exception {
+	public void sendsManifestAndThenRequiredClassLoaderFiles() throws Exception {
 		File sourceFolder = this.temp.newFolder();
 		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(required(0, 1));
 		this.requestFactory.willRespond(HttpStatus.OK);
 		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
+		verifyManifestRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(0));
+		verifyUploadRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(1));
+	}
+
+	@Test
+	public void sendsOnlyRequiredAndDeletedClassLoaderFiles() throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(required(1));
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
+		ClassLoaderFiles classLoaderFiles = readDelta(
+				this.requestFactory.getExecutedRequests().get(1));
+		Iterator<ClassLoaderFile> classFiles = classLoaderFiles.getSourceFolders()
+				.iterator().next().getFiles().iterator();
+		assertClassFile(classFiles.next(), "File2", ClassLoaderFile.Kind.MODIFIED);
+		assertClassFile(classFiles.next(), null, ClassLoaderFile.Kind.DELETED);
+		assertThat(classFiles.hasNext()).isFalse();
+	}
+
+	@Test
+	public void doesNotUploadWhenNoClassLoaderFilesAreRequired() throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		Set<ChangedFile> files = new LinkedHashSet<>();
+		files.add(new ChangedFile(sourceFolder, createFile(sourceFolder, "File1"),
+				Type.MODIFY));
+		ClassPathChangedEvent event = new ClassPathChangedEvent(this,
+				Collections.singleton(new ChangedFiles(sourceFolder, files)), false);
+		this.requestFactory.willRespond(required());
+		this.uploader.onApplicationEvent(event);
 		assertThat(this.requestFactory.getExecutedRequests()).hasSize(1);
-		MockClientHttpRequest request = this.requestFactory.getExecutedRequests().get(0);
-		verifyUploadRequest(sourceFolder, request);
+	}
+
+	@Test
+	public void sendsSerializedClassLoaderFilesWhenManifestIsNotSupported()
+			throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(HttpStatus.INTERNAL_SERVER_ERROR);
+		this.requestFactory.willRespond(HttpStatus.OK, HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		List<MockClientHttpRequest> requests = this.requestFactory
+				.getExecutedRequests();
+		assertThat(requests).hasSize(3);
+		verifySerializedUploadRequest(sourceFolder, requests.get(1));
+		verifySerializedUploadRequest(sourceFolder, requests.get(2));
 	}
 
 	@Test
@@ -116,16 +173,57 @@ public class ClassPathChangeUploaderTests {
 		File sourceFolder = this.temp.newFolder();
 		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
 		this.requestFactory.willRespond(new ConnectException());
+		this.requestFactory.willRespond(required(0, 1));
 		this.requestFactory.willRespond(HttpStatus.OK);
 		this.uploader.onApplicationEvent(event);
-		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(3);
 		verifyUploadRequest(sourceFolder,
-				this.requestFactory.getExecutedRequests().get(1));
+				this.requestFactory.getExecutedRequests().get(2));
+	}
+
+	private byte[] required(int... indexes) throws IOException {
+		BitSet required = new BitSet();
+		for (int index : indexes) {
+			required.set(index);
+		}
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ClassLoaderFilesManifest.writeRequired(required, outputStream);
+		return outputStream.toByteArray();
+	}
+
+	private void verifyManifestRequest(File sourceFolder, MockClientHttpRequest request)
+			throws IOException {
+		assertThat(request.getHeaders().getContentType())
+				.isEqualTo(HttpRestartServer.MANIFEST_MEDIA_TYPE);
+		List<Entry> entries = ClassLoaderFilesManifest
+				.readFrom(new ByteArrayInputStream(request.getBodyAsBytes()))
+				.getEntries();
+		assertThat(entries).hasSize(3);
+		assertThat(entries.get(0).getSourceFolder())
+				.isEqualTo(sourceFolder.getAbsolutePath());
+		assertThat(entries.get(0).getName()).isEqualTo("File1");
+		assertThat(entries.get(0).getKind()).isEqualTo(Kind.ADDED);
+		assertThat(entries.get(0).getDigest()).isEqualTo(ClassLoaderFilesManifest
+				.digest(new ByteArrayInputStream("File1".getBytes())));
+		assertThat(entries.get(1).getKind()).isEqualTo(Kind.MODIFIED);
+		assertThat(entries.get(2).getKind()).isEqualTo(Kind.DELETED);
+		assertThat(entries.get(2).getDigest()).isNull();
 	}
 
 	private void verifyUploadRequest(File sourceFolder, MockClientHttpRequest request)
-			throws IOException, ClassNotFoundException {
-		ClassLoaderFiles classLoaderFiles = deserialize(request.getBodyAsBytes());
+			throws IOException {
+		assertThat(request.getHeaders().getContentType())
+				.isEqualTo(HttpRestartServer.DELTA_MEDIA_TYPE);
+		verifyClassLoaderFiles(sourceFolder, readDelta(request));
+	}
+
+	private void verifySerializedUploadRequest(File sourceFolder,
+			MockClientHttpRequest request) throws IOException, ClassNotFoundException {
+		verifyClassLoaderFiles(sourceFolder, deserialize(request.getBodyAsBytes()));
+	}
+
+	private void verifyClassLoaderFiles(File sourceFolder,
+			ClassLoaderFiles classLoaderFiles) {
 		Collection<SourceFolder> sourceFolders = classLoaderFiles.getSourceFolders();
 		assertThat(sourceFolders.size()).isEqualTo(1);
 		SourceFolder classSourceFolder = sourceFolders.iterator().next();
@@ -137,6 +235,14 @@ public class ClassPathChangeUploaderTests {
 		assertThat(classFiles.hasNext()).isFalse();
 	}
 
+	private ClassLoaderFiles readDelta(MockClientHttpRequest request)
+			throws IOException {
+		ClassLoaderFiles classLoaderFiles = new ClassLoaderFiles();
+		ClassLoaderFilesDelta.read(new ByteArrayInputStream(request.getBodyAsBytes()),
+				classLoaderFiles);
+		return classLoaderFiles;
+	}
+
 	private void assertClassFile(ClassLoaderFile file, String content, Kind kind) {
 		assertThat(file.getContents())
 				.isEqualTo(content == null ? null : content.getBytes());
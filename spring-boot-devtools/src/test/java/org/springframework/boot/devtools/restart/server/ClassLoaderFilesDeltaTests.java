@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles.SourceFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassLoaderFilesDelta}.
+ *
+ * @author Phillip Webb
+ */
+public class ClassLoaderFilesDeltaTests {
+
+	@Test
+	public void writeAndRead() throws Exception {
+		byte[] large = new byte[100000];
+		Arrays.fill(large, (byte) 'x');
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ClassLoaderFilesDelta.Writer writer = ClassLoaderFilesDelta
+				.writer(outputStream)) {
+			writer.write("folder", "a/A.class",
+					new ClassLoaderFile(Kind.ADDED, 123, "abc".getBytes()));
+			writer.write("folder", "a/B.class",
+					new ClassLoaderFile(Kind.MODIFIED, 456, large));
+			writer.write("other", "a/C.class",
+					new ClassLoaderFile(Kind.DELETED, 789, null));
+		}
+		assertThat(outputStream.size()).isLessThan(large.length / 10);
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		int count = ClassLoaderFilesDelta
+				.read(new ByteArrayInputStream(outputStream.toByteArray()), files);
+		assertThat(count).isEqualTo(3);
+		assertThat(files.getSourceFolders()).extracting(SourceFolder::getName)
+				.containsExactly("folder", "other");
+		ClassLoaderFile fileA = files.getFile("a/A.class");
+		assertThat(fileA.getKind()).isEqualTo(Kind.ADDED);
+		assertThat(fileA.getLastModified()).isEqualTo(123);
+		assertThat(fileA.getContents()).isEqualTo("abc".getBytes());
+		assertThat(files.getFile("a/B.class").getContents()).isEqualTo(large);
+		ClassLoaderFile fileC = files.getFile("a/C.class");
+		assertThat(fileC.getKind()).isEqualTo(Kind.DELETED);
+		assertThat(fileC.getContents()).isNull();
+	}
+
+	@Test
+	public void writeAndReadEmpty() throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ClassLoaderFilesDelta.writer(outputStream).close();
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		assertThat(ClassLoaderFilesDelta
+				.read(new ByteArrayInputStream(outputStream.toByteArray()), files))
+						.isEqualTo(0);
+		assertThat(files.size()).isEqualTo(0);
+	}
+
+}
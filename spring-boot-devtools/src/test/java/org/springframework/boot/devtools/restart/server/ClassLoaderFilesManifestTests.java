@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesManifest.Entry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassLoaderFilesManifest}.
+ *
+ * @author Phillip Webb
+ */
+public class ClassLoaderFilesManifestTests {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void digestMustNotBeNullUnlessDeleted() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Digest must not be null");
+		new ClassLoaderFilesManifest().add("", "name", Kind.ADDED, null);
+	}
+
+	@Test
+	public void writeAndRead() throws Exception {
+		byte[] digest = digest("contents");
+		ClassLoaderFilesManifest manifest = new ClassLoaderFilesManifest();
+		manifest.add("folder", "a/A.class", Kind.ADDED, digest);
+		manifest.add("folder", "a/B.class", Kind.DELETED, null);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		manifest.writeTo(outputStream);
+		List<Entry> entries = ClassLoaderFilesManifest
+				.readFrom(new ByteArrayInputStream(outputStream.toByteArray()))
+				.getEntries();
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0).getSourceFolder()).isEqualTo("folder");
+		assertThat(entries.get(0).getName()).isEqualTo("a/A.class");
+		assertThat(entries.get(0).getKind()).isEqualTo(Kind.ADDED);
+		assertThat(entries.get(0).getDigest()).isEqualTo(digest);
+		assertThat(entries.get(1).getName()).isEqualTo("a/B.class");
+		assertThat(entries.get(1).getKind()).isEqualTo(Kind.DELETED);
+		assertThat(entries.get(1).getDigest()).isNull();
+	}
+
+	@Test
+	public void writeAndReadRequired() throws Exception {
+		BitSet required = new BitSet();
+		required.set(1);
+		required.set(100);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ClassLoaderFilesManifest.writeRequired(required, outputStream);
+		assertThat(ClassLoaderFilesManifest
+				.readRequired(new ByteArrayInputStream(outputStream.toByteArray())))
+						.isEqualTo(required);
+	}
+
+	@Test
+	public void readRequiredWhenUnsupportedVersionShouldThrowException()
+			throws Exception {
+		this.thrown.expect(IOException.class);
+		this.thrown.expectMessage("Unsupported version 9");
+		ClassLoaderFilesManifest
+				.readRequired(new ByteArrayInputStream(new byte[] { 9, 0, 0, 0, 0 }));
+	}
+
+	@Test
+	public void digestShouldDifferForDifferentContents() throws Exception {
+		assertThat(digest("a")).isEqualTo(digest("a")).isNotEqualTo(digest("b"));
+	}
+
+	private byte[] digest(String contents) throws IOException {
+		return ClassLoaderFilesManifest
+				.digest(new ByteArrayInputStream(contents.getBytes()));
+	}
+
+}
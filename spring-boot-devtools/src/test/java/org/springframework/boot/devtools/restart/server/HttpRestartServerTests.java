@@ -16,9 +16,11 @@
 
 package org.springframework.boot.devtools.restart.server;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.util.BitSet;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -38,6 +40,9 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
@@ -116,6 +121,72 @@ public class HttpRestartServerTests {
 		assertThat(response.getStatus()).isEqualTo(500);
 	}
 
+	@Test
+	public void sendManifestRespondsWithRequiredEntries() throws Exception {
+		byte[] unchanged = ClassLoaderFilesManifest
+				.digest(new ByteArrayInputStream("unchanged".getBytes()));
+		byte[] changed = ClassLoaderFilesManifest
+				.digest(new ByteArrayInputStream("changed".getBytes()));
+		given(this.delegate.getDigest("unchanged")).willReturn(unchanged);
+		given(this.delegate.getDigest("changed")).willReturn(unchanged);
+		ClassLoaderFilesManifest manifest = new ClassLoaderFilesManifest();
+		manifest.add("", "unchanged", Kind.MODIFIED, unchanged);
+		manifest.add("", "changed", Kind.MODIFIED, changed);
+		manifest.add("", "added", Kind.ADDED, changed);
+		manifest.add("", "deleted", Kind.DELETED, null);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		manifest.writeTo(content);
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setContentType(HttpRestartServer.MANIFEST_MEDIA_TYPE.toString());
+		request.setContent(content.toByteArray());
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		verify(this.delegate, never()).updateAndRestart(any(ClassLoaderFiles.class));
+		assertThat(response.getStatus()).isEqualTo(200);
+		BitSet required = ClassLoaderFilesManifest
+				.readRequired(new ByteArrayInputStream(response.getContentAsByteArray()));
+		assertThat(required.get(0)).isFalse();
+		assertThat(required.get(1)).isTrue();
+		assertThat(required.get(2)).isTrue();
+		assertThat(required.get(3)).isFalse();
+	}
+
+	@Test
+	public void sendDelta() throws Exception {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try (ClassLoaderFilesDelta.Writer writer = ClassLoaderFilesDelta
+				.writer(content)) {
+			writer.write("", "name",
+					new ClassLoaderFile(Kind.ADDED, "contents".getBytes()));
+			writer.write("", "deleted", new ClassLoaderFile(Kind.DELETED, null));
+		}
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setContentType(HttpRestartServer.DELTA_MEDIA_TYPE.toString());
+		request.setContent(content.toByteArray());
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		verify(this.delegate).updateAndRestart(this.filesCaptor.capture());
+		ClassLoaderFiles files = this.filesCaptor.getValue();
+		assertThat(files.getFile("name").getContents())
+				.isEqualTo("contents".getBytes());
+		assertThat(files.getFile("deleted").getKind()).isEqualTo(Kind.DELETED);
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void sendBadDelta() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setContentType(HttpRestartServer.DELTA_MEDIA_TYPE.toString());
+		request.setContent(new byte[] { 0, 0, 0 });
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		verifyZeroInteractions(this.delegate);
+		assertThat(response.getStatus()).isEqualTo(500);
+	}
+
 	private byte[] serialize(Object object) throws IOException {
 		ByteArrayOutputStream bos = new ByteArrayOutputStream();
 		ObjectOutputStream oos = new ObjectOutputStream(bos);
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.devtools.restart.server;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.net.URL;
@@ -115,6 +116,19 @@ public class RestartServerTests {
 		assertThat(FileCopyUtils.copyToByteArray(classFile)).isEqualTo("def".getBytes());
 	}
 
+	@Test
+	public void getDigestOfClassLoaderResource() throws Exception {
+		File folder = this.temp.newFolder();
+		FileCopyUtils.copy("abc".getBytes(), new File(folder, "ClassA.class"));
+		URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { folder.toURI().toURL() });
+		RestartServer server = new RestartServer(new DefaultSourceFolderUrlFilter(),
+				classLoader);
+		assertThat(server.getDigest("ClassA.class")).isEqualTo(ClassLoaderFilesManifest
+				.digest(new ByteArrayInputStream("abc".getBytes())));
+		assertThat(server.getDigest("ClassB.class")).isNull();
+	}
+
 	private static class MockRestartServer extends RestartServer {
 
 		MockRestartServer(SourceFolderUrlFilter sourceFolderUrlFilter,
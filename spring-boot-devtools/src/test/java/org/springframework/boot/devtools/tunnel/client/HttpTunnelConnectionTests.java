@@ -23,6 +23,8 @@ import java.net.ConnectException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.Executor;
 
 import org.junit.Before;
@@ -36,6 +38,7 @@ import org.springframework.boot.devtools.test.MockClientHttpRequestFactory;
 import org.springframework.boot.devtools.tunnel.client.HttpTunnelConnection.TunnelChannel;
 import org.springframework.boot.test.rule.OutputCapture;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -146,6 +149,23 @@ public class HttpTunnelConnectionTests {
 		assertThat(this.requestFactory.getExecutedRequests().size()).isGreaterThan(10);
 	}
 
+	@Test
+	public void writesWaitingToBeSentAreCoalesced() throws Exception {
+		QueuedExecutor executor = new QueuedExecutor();
+		TunnelChannel channel = new HttpTunnelConnection(this.url, this.requestFactory,
+				executor).open(this.incomingChannel, this.closeable);
+		write(channel, "hello");
+		write(channel, " ");
+		write(channel, "world");
+		assertThat(executor.getQueued()).hasSize(2);
+		executor.getQueued().pollLast().run();
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(1);
+		MockClientHttpRequest request = this.requestFactory.getExecutedRequests()
+				.get(0);
+		assertThat(request.getHeaders().getFirst("x-seq")).isEqualTo("1");
+		assertThat(request.getBodyAsString()).isEqualTo("hello world");
+	}
+
 	@Test
 	public void connectFailureLogsWarning() throws Exception {
 		this.requestFactory.willRespond(new ConnectException());
@@ -175,4 +195,19 @@ public class HttpTunnelConnectionTests {
 
 	}
 
+	private static class QueuedExecutor implements Executor {
+
+		private final Deque<Runnable> queued = new ArrayDeque<>();
+
+		@Override
+		public void execute(Runnable command) {
+			this.queued.add(command);
+		}
+
+		public Deque<Runnable> getQueued() {
+			return this.queued;
+		}
+
+	}
+
 }
@@ -73,6 +73,26 @@ public class TunnelClientTests {
 		assertThat(new String(buffer.array())).isEqualTo("olleh");
 	}
 
+	@Test
+	public void multipleConnectionsShareServerThread() throws Exception {
+		TunnelClient client = new TunnelClient(0, this.tunnelConnection);
+		int port = client.start();
+		SocketChannel channel1 = SocketChannel.open(new InetSocketAddress(port));
+		SocketChannel channel2 = SocketChannel.open(new InetSocketAddress(port));
+		channel2.write(ByteBuffer.wrap("abc".getBytes()));
+		channel1.write(ByteBuffer.wrap("xyz".getBytes()));
+		ByteBuffer buffer1 = ByteBuffer.allocate(3);
+		ByteBuffer buffer2 = ByteBuffer.allocate(3);
+		channel1.read(buffer1);
+		channel2.read(buffer2);
+		assertThat(new String(buffer1.array())).isEqualTo("zyx");
+		assertThat(new String(buffer2.array())).isEqualTo("cba");
+		assertThat(this.tunnelConnection.getOpenedTimes()).isEqualTo(2);
+		client.stop();
+		assertThat(channel1.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+		assertThat(channel2.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+	}
+
 	@Test
 	public void socketChannelClosedTriggersTunnelClose() throws Exception {
 		TunnelClient client = new TunnelClient(0, this.tunnelConnection);
@@ -22,8 +22,9 @@ import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.Channels;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -129,6 +130,13 @@ public class HttpTunnelServerTests {
 		this.server.setLongPollTimeout(0);
 	}
 
+	@Test
+	public void windowSizeMustBePositiveValue() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("WindowSize must be a positive value");
+		this.server.setWindowSize(0);
+	}
+
 	@Test
 	public void initialRequestIsSentToServer() throws Exception {
 		this.servletRequest.addHeader(SEQ_HEADER, "1");
@@ -181,6 +189,38 @@ public class HttpTunnelServerTests {
 		this.server.getServerThread().join();
 	}
 
+	@Test
+	public void serverDataReceivedWithoutHttpConnectionIsBatched() throws Exception {
+		MockHttpConnection h1 = new MockHttpConnection();
+		this.server.handle(h1);
+		this.serverChannel.send("hello");
+		h1.verifyReceived("hello", 1);
+		this.serverChannel.send("1");
+		this.serverChannel.send("2");
+		this.serverChannel.send("3");
+		this.serverChannel.awaitAllRead();
+		MockHttpConnection h2 = new MockHttpConnection();
+		this.server.handle(h2);
+		h2.verifyReceived("123", 2);
+		this.serverChannel.disconnect();
+		this.server.getServerThread().join();
+	}
+
+	@Test
+	public void serverDataPendingWhenTargetServerClosesIsSent() throws Exception {
+		MockHttpConnection h1 = new MockHttpConnection();
+		this.server.handle(h1);
+		this.serverChannel.send("hello");
+		h1.verifyReceived("hello", 1);
+		this.serverChannel.send("bye");
+		this.serverChannel.disconnect();
+		this.serverChannel.awaitDisconnectRead();
+		MockHttpConnection h2 = new MockHttpConnection();
+		this.server.handle(h2);
+		this.server.getServerThread().join();
+		h2.verifyReceived("bye", 2);
+	}
+
 	@Test
 	public void clientIsAwareOfServerClose() throws Exception {
 		MockHttpConnection h1 = new MockHttpConnection("1", 1);
@@ -335,12 +375,16 @@ public class HttpTunnelServerTests {
 
 		private int timeout;
 
-		private BlockingDeque<ByteBuffer> outgoing = new LinkedBlockingDeque<>();
+		private final Deque<ByteBuffer> outgoing = new ArrayDeque<>();
 
 		private ByteArrayOutputStream written = new ByteArrayOutputStream();
 
 		private AtomicBoolean open = new AtomicBoolean(true);
 
+		private boolean reading;
+
+		private final CountDownLatch disconnectRead = new CountDownLatch(1);
+
 		public void setTimeout(int timeout) {
 			this.timeout = timeout;
 		}
@@ -350,11 +394,18 @@ public class HttpTunnelServerTests {
 		}
 
 		public void send(byte[] bytes) {
-			this.outgoing.addLast(ByteBuffer.wrap(bytes));
+			addOutgoing(ByteBuffer.wrap(bytes));
 		}
 
 		public void disconnect() {
-			this.outgoing.addLast(DISCONNECT);
+			addOutgoing(DISCONNECT);
+		}
+
+		private void addOutgoing(ByteBuffer bytes) {
+			synchronized (this.outgoing) {
+				this.outgoing.addLast(bytes);
+				this.outgoing.notifyAll();
+			}
 		}
 
 		public void verifyReceived(String expected) {
@@ -368,16 +419,31 @@ public class HttpTunnelServerTests {
 			}
 		}
 
+		public void awaitAllRead() throws InterruptedException {
+			long deadline = System.currentTimeMillis() + 5000;
+			synchronized (this.outgoing) {
+				while (!this.reading || !this.outgoing.isEmpty()) {
+					long remaining = deadline - System.currentTimeMillis();
+					assertThat(remaining).isGreaterThan(0);
+					this.outgoing.wait(remaining);
+				}
+			}
+		}
+
+		public void awaitDisconnectRead() throws InterruptedException {
+			assertThat(this.disconnectRead.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+
 		@Override
 		public int read(ByteBuffer dst) throws IOException {
 			try {
-				ByteBuffer bytes = this.outgoing.pollFirst(this.timeout,
-						TimeUnit.MILLISECONDS);
+				ByteBuffer bytes = pollOutgoing();
 				if (bytes == null) {
 					throw new SocketTimeoutException();
 				}
 				if (bytes == DISCONNECT) {
 					this.open.set(false);
+					this.disconnectRead.countDown();
 					return -1;
 				}
 				int initialRemaining = dst.remaining();
@@ -391,6 +457,25 @@ public class HttpTunnelServerTests {
 			}
 		}
 
+		private ByteBuffer pollOutgoing() throws InterruptedException {
+			long deadline = System.currentTimeMillis() + this.timeout;
+			synchronized (this.outgoing) {
+				this.reading = true;
+				this.outgoing.notifyAll();
+				try {
+					long remaining = this.timeout;
+					while (this.outgoing.isEmpty() && remaining > 0) {
+						this.outgoing.wait(remaining);
+						remaining = deadline - System.currentTimeMillis();
+					}
+					return this.outgoing.pollFirst();
+				}
+				finally {
+					this.reading = false;
+				}
+			}
+		}
+
 		@Override
 		public int write(ByteBuffer src) throws IOException {
 			int remaining = src.remaining();
@@ -49,6 +49,9 @@ import javax.tools.StandardLocation;
  */
 @SupportedAnnotationTypes({ "org.springframework.context.annotation.Configuration",
 		"org.springframework.boot.autoconfigure.condition.ConditionalOnClass",
+		"org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication",
+		"org.springframework.boot.autoconfigure.condition.ConditionalOnResource",
+		"org.springframework.boot.autoconfigure.condition.ConditionalOnProperty",
 		"org.springframework.boot.autoconfigure.AutoConfigureBefore",
 		"org.springframework.boot.autoconfigure.AutoConfigureAfter",
 		"org.springframework.boot.autoconfigure.AutoConfigureOrder" })
@@ -59,12 +62,17 @@ public class AutoConfigureAnnotationProcessor extends AbstractProcessor {
 
 	private Map<String, String> annotations;
 
+	private final Map<String, ValueExtractor> valueExtractors;
+
 	private final Properties properties = new Properties();
 
 	public AutoConfigureAnnotationProcessor() {
 		Map<String, String> annotations = new LinkedHashMap<>();
 		addAnnotations(annotations);
 		this.annotations = Collections.unmodifiableMap(annotations);
+		Map<String, ValueExtractor> valueExtractors = new LinkedHashMap<>();
+		addValueExtractors(valueExtractors);
+		this.valueExtractors = Collections.unmodifiableMap(valueExtractors);
 	}
 
 	protected void addAnnotations(Map<String, String> annotations) {
@@ -72,6 +80,12 @@ public class AutoConfigureAnnotationProcessor extends AbstractProcessor {
 				"org.springframework.context.annotation.Configuration");
 		annotations.put("ConditionalOnClass",
 				"org.springframework.boot.autoconfigure.condition.ConditionalOnClass");
+		annotations.put("ConditionalOnWebApplication",
+				"org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication");
+		annotations.put("ConditionalOnResource",
+				"org.springframework.boot.autoconfigure.condition.ConditionalOnResource");
+		annotations.put("ConditionalOnProperty",
+				"org.springframework.boot.autoconfigure.condition.ConditionalOnProperty");
 		annotations.put("AutoConfigureBefore",
 				"org.springframework.boot.autoconfigure.AutoConfigureBefore");
 		annotations.put("AutoConfigureAfter",
@@ -80,6 +94,13 @@ public class AutoConfigureAnnotationProcessor extends AbstractProcessor {
 				"org.springframework.boot.autoconfigure.AutoConfigureOrder");
 	}
 
+	private void addValueExtractors(Map<String, ValueExtractor> valueExtractors) {
+		valueExtractors.put("ConditionalOnWebApplication",
+				this::extractWebApplicationValues);
+		valueExtractors.put("ConditionalOnResource", this::extractResourceValues);
+		valueExtractors.put("ConditionalOnProperty", this::extractPropertyValues);
+	}
+
 	@Override
 	public boolean process(Set<? extends TypeElement> annotations,
 			RoundEnvironment roundEnv) {
@@ -118,9 +139,13 @@ public class AutoConfigureAnnotationProcessor extends AbstractProcessor {
 			String qualifiedName = getQualifiedName(element);
 			AnnotationMirror annotation = getAnnotation(element, annotationName);
 			if (qualifiedName != null && annotation != null) {
-				List<Object> values = getValues(annotation);
-				this.properties.put(qualifiedName + "." + propertyKey,
-						toCommaDelimitedString(values));
+				Map<String, String> values = new LinkedHashMap<>();
+				this.valueExtractors.getOrDefault(propertyKey, this::extractValues)
+						.extract(propertyKey, annotation, values);
+				for (Map.Entry<String, String> value : values.entrySet()) {
+					this.properties.put(qualifiedName + "." + value.getKey(),
+							value.getValue());
+				}
 				this.properties.put(qualifiedName, "");
 			}
 		}
@@ -141,6 +166,85 @@ public class AutoConfigureAnnotationProcessor extends AbstractProcessor {
 		return null;
 	}
 
+	private void extractValues(String propertyKey, AnnotationMirror annotation,
+			Map<String, String> values) {
+		values.put(propertyKey, toCommaDelimitedString(getValues(annotation)));
+	}
+
+	private void extractWebApplicationValues(String propertyKey,
+			AnnotationMirror annotation, Map<String, String> values) {
+		Object type = getValuesWithDefaults(annotation).get("type");
+		if (type != null) {
+			values.put(propertyKey, type.toString());
+		}
+	}
+
+	private void extractResourceValues(String propertyKey, AnnotationMirror annotation,
+			Map<String, String> values) {
+		List<Object> resources = getList(
+				getValuesWithDefaults(annotation).get("resources"));
+		if (!resources.isEmpty() && !containsComma(resources)) {
+			values.put(propertyKey, toCommaDelimitedString(resources));
+		}
+	}
+
+	private void extractPropertyValues(String propertyKey, AnnotationMirror annotation,
+			Map<String, String> values) {
+		Map<String, Object> attributes = getValuesWithDefaults(annotation);
+		List<Object> names = getList(attributes.get("value"));
+		if (names.isEmpty()) {
+			names = getList(attributes.get("name"));
+		}
+		if (!names.isEmpty() && !containsComma(names)) {
+			values.put(propertyKey, toCommaDelimitedString(names));
+			putIfHasLength(values, propertyKey + ".prefix", attributes.get("prefix"));
+			putIfHasLength(values, propertyKey + ".havingValue",
+					attributes.get("havingValue"));
+			if (Boolean.TRUE.equals(attributes.get("matchIfMissing"))) {
+				values.put(propertyKey + ".matchIfMissing", "true");
+			}
+		}
+	}
+
+	private void putIfHasLength(Map<String, String> values, String key, Object value) {
+		if (value != null && value.toString().length() > 0) {
+			values.put(key, value.toString());
+		}
+	}
+
+	private boolean containsComma(List<Object> list) {
+		for (Object item : list) {
+			if (item.toString().contains(",")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Map<String, Object> getValuesWithDefaults(AnnotationMirror annotation) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv
+				.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+			result.put(entry.getKey().getSimpleName().toString(),
+					entry.getValue().getValue());
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> getList(Object value) {
+		List<Object> result = new ArrayList<>();
+		if (value instanceof List) {
+			for (AnnotationValue annotationValue : (List<AnnotationValue>) value) {
+				result.add(annotationValue.getValue());
+			}
+		}
+		else if (value != null) {
+			result.add(value);
+		}
+		return result;
+	}
+
 	private String toCommaDelimitedString(List<Object> list) {
 		StringBuilder result = new StringBuilder();
 		for (Object item : list) {
@@ -207,4 +311,22 @@ public class AutoConfigureAnnotationProcessor extends AbstractProcessor {
 		}
 	}
 
+	/**
+	 * Strategy used to extract the values of an annotation that are written to the
+	 * metadata.
+	 */
+	@FunctionalInterface
+	private interface ValueExtractor {
+
+		/**
+		 * Extract the values of the given annotation.
+		 * @param propertyKey the key of the annotation
+		 * @param annotation the annotation
+		 * @param values the values to write, keyed by property key suffix
+		 */
+		void extract(String propertyKey, AnnotationMirror annotation,
+				Map<String, String> values);
+
+	}
+
 }
@@ -103,6 +103,43 @@ public class AutoConfigureAnnotationProcessorTests {
 						"123");
 	}
 
+	@Test
+	public void annotatedClassWithConditions() throws Exception {
+		Properties properties = compile(TestConditionsConfiguration.class);
+		String prefix = "org.springframework.boot.autoconfigureprocessor."
+				+ "TestConditionsConfiguration.";
+		assertThat(properties).containsEntry(prefix + "ConditionalOnWebApplication",
+				"SERVLET");
+		assertThat(properties).containsEntry(prefix + "ConditionalOnResource",
+				"classpath:a.txt,classpath:b.txt");
+		assertThat(properties).containsEntry(prefix + "ConditionalOnProperty",
+				"one,two");
+		assertThat(properties).containsEntry(prefix + "ConditionalOnProperty.prefix",
+				"test");
+		assertThat(properties).containsEntry(
+				prefix + "ConditionalOnProperty.havingValue", "yes");
+		assertThat(properties).containsEntry(
+				prefix + "ConditionalOnProperty.matchIfMissing", "true");
+		assertThat(properties).doesNotContainKey(
+				"org.springframework.boot.autoconfigureprocessor."
+						+ "TestConditionsConfiguration$Nested");
+	}
+
+	@Test
+	public void annotatedClassWithDefaultConditionValues() throws Exception {
+		Properties properties = compile(TestDefaultConditionsConfiguration.class);
+		String prefix = "org.springframework.boot.autoconfigureprocessor."
+				+ "TestDefaultConditionsConfiguration.";
+		assertThat(properties).containsEntry(prefix + "ConditionalOnWebApplication",
+				"ANY");
+		assertThat(properties).containsEntry(prefix + "ConditionalOnProperty",
+				"test.enabled");
+		assertThat(properties).doesNotContainKeys(
+				prefix + "ConditionalOnProperty.prefix",
+				prefix + "ConditionalOnProperty.havingValue",
+				prefix + "ConditionalOnProperty.matchIfMissing");
+	}
+
 	private Properties compile(Class<?>... types) throws IOException {
 		TestConditionMetadataAnnotationProcessor processor = new TestConditionMetadataAnnotationProcessor(
 				this.compiler.getOutputLocation());
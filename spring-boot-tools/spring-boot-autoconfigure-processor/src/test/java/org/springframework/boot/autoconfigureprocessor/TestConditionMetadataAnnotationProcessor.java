@@ -32,6 +32,9 @@ import javax.annotation.processing.SupportedAnnotationTypes;
 @SupportedAnnotationTypes({
 		"org.springframework.boot.autoconfigureprocessor.TestConfiguration",
 		"org.springframework.boot.autoconfigureprocessor.TestConditionalOnClass",
+		"org.springframework.boot.autoconfigureprocessor.TestConditionalOnWebApplication",
+		"org.springframework.boot.autoconfigureprocessor.TestConditionalOnResource",
+		"org.springframework.boot.autoconfigureprocessor.TestConditionalOnProperty",
 		"org.springframework.boot.autoconfigureprocessor.TestAutoConfigureBefore",
 		"org.springframework.boot.autoconfigureprocessor.TestAutoConfigureAfter",
 		"org.springframework.boot.autoconfigureprocessor.TestAutoConfigureOrder" })
@@ -48,6 +51,10 @@ public class TestConditionMetadataAnnotationProcessor
 	protected void addAnnotations(Map<String, String> annotations) {
 		put(annotations, "Configuration", TestConfiguration.class);
 		put(annotations, "ConditionalOnClass", TestConditionalOnClass.class);
+		put(annotations, "ConditionalOnWebApplication",
+				TestConditionalOnWebApplication.class);
+		put(annotations, "ConditionalOnResource", TestConditionalOnResource.class);
+		put(annotations, "ConditionalOnProperty", TestConditionalOnProperty.class);
 		put(annotations, "AutoConfigureBefore", TestAutoConfigureBefore.class);
 		put(annotations, "AutoConfigureAfter", TestAutoConfigureAfter.class);
 		put(annotations, "AutoConfigureOrder", TestAutoConfigureOrder.class);
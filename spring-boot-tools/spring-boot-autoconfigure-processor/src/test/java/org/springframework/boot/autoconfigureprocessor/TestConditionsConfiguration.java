@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.autoconfigureprocessor;
+
+import org.springframework.boot.autoconfigureprocessor.TestConditionalOnWebApplication.Type;
+
+/**
+ * Test configuration with web application, resource and property conditions.
+ *
+ * @author Phillip Webb
+ */
+@TestConfiguration
+@TestConditionalOnWebApplication(type = Type.SERVLET)
+@TestConditionalOnResource(resources = { "classpath:a.txt", "classpath:b.txt" })
+@TestConditionalOnProperty(prefix = "test", name = { "one",
+		"two" }, havingValue = "yes", matchIfMissing = true)
+public class TestConditionsConfiguration {
+
+	@TestConditionalOnWebApplication
+	@TestConditionalOnProperty("test.nested")
+	public static class Nested {
+
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Writes the class path index used by the {@code LaunchedURLClassLoader} to find the
+ * nested archives that contain a given directory. Each nested archive location is
+ * written on its own line, followed by the directories that contain at least one of its
+ * files indented with a tab. The root directory is written as {@code /}.
+ *
+ * @author Phillip Webb
+ */
+class ClassPathIndexWriter {
+
+	static final String INDEX_NAME = "classpath.idx";
+
+	private static final String ROOT = "/";
+
+	private final Map<String, Set<String>> directories = new LinkedHashMap<>();
+
+	/**
+	 * Add the directories of the files contained in a nested library.
+	 * @param location the location of the library in the archive
+	 * @param file the library file
+	 * @throws IOException if the library cannot be read
+	 */
+	public void add(String location, File file) throws IOException {
+		try (JarFile jarFile = new JarFile(file)) {
+			add(location, jarFile, (name) -> true);
+		}
+	}
+
+	/**
+	 * Add the directories of the files contained in a jar file.
+	 * @param location the location of the files in the archive
+	 * @param jarFile the jar file
+	 * @param filter the filter used to select the entries that are written to the
+	 * location
+	 */
+	public void add(String location, JarFile jarFile, Predicate<String> filter) {
+		if (location.endsWith("/")) {
+			location = location.substring(0, location.length() - 1);
+		}
+		Set<String> directories = this.directories.computeIfAbsent(location,
+				(key) -> new TreeSet<>());
+		Enumeration<JarEntry> entries = jarFile.entries();
+		while (entries.hasMoreElements()) {
+			JarEntry entry = entries.nextElement();
+			if (!entry.isDirectory() && filter.test(entry.getName())) {
+				String name = entry.getName();
+				directories.add(name.substring(0, name.lastIndexOf('/') + 1));
+			}
+		}
+	}
+
+	/**
+	 * Write the index to the given {@link JarWriter}.
+	 * @param entryName the name of the index entry
+	 * @param writer the destination writer
+	 * @throws IOException if the index cannot be written
+	 */
+	public void writeTo(String entryName, JarWriter writer) throws IOException {
+		StringBuilder content = new StringBuilder();
+		this.directories.forEach((location, directories) -> {
+			content.append(location).append('\n');
+			for (String directory : directories) {
+				content.append('\t').append(directory.isEmpty() ? ROOT : directory)
+						.append('\n');
+			}
+		});
+		writer.writeEntry(entryName, new ByteArrayInputStream(
+				content.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
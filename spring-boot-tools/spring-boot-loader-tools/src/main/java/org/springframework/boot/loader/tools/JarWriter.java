@@ -169,6 +169,32 @@ public class JarWriter implements LoaderClassesWriter, AutoCloseable {
 	 */
 	public void writeNestedLibrary(String destination, Library library)
 			throws IOException {
+		writeNestedLibrary(createNestedLibraryEntry(destination, library), library);
+	}
+
+	/**
+	 * Write a nested library using an entry that has already been created.
+	 * @param entry the entry created by
+	 * {@link #createNestedLibraryEntry(String, Library)}
+	 * @param library the library
+	 * @throws IOException if the write fails
+	 */
+	void writeNestedLibrary(JarArchiveEntry entry, Library library) throws IOException {
+		writeEntry(entry, new InputStreamEntryWriter(
+				new FileInputStream(library.getFile()), true));
+	}
+
+	/**
+	 * Create the stored entry for a nested library. Creating the entry requires the
+	 * library to be read so that its CRC can be calculated so this method is safe to
+	 * call concurrently, ahead of the library being written.
+	 * @param destination the destination of the library
+	 * @param library the library
+	 * @return the entry
+	 * @throws IOException if the library cannot be read
+	 */
+	static JarArchiveEntry createNestedLibraryEntry(String destination, Library library)
+			throws IOException {
 		File file = library.getFile();
 		JarArchiveEntry entry = new JarArchiveEntry(destination + library.getName());
 		entry.setTime(getNestedLibraryTime(file));
@@ -176,10 +202,10 @@ public class JarWriter implements LoaderClassesWriter, AutoCloseable {
 			entry.setComment("UNPACK:" + FileUtils.sha1Hash(file));
 		}
 		new CrcAndSize(file).setupStoredEntry(entry);
-		writeEntry(entry, new InputStreamEntryWriter(new FileInputStream(file), true));
+		return entry;
 	}
 
-	private long getNestedLibraryTime(File file) {
+	private static long getNestedLibraryTime(File file) {
 		try {
 			try (JarFile jarFile = new JarFile(file)) {
 				Enumeration<JarEntry> entries = jarFile.entries();
@@ -20,10 +20,14 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -254,20 +258,52 @@ public class Repackager {
 					throws IOException {
 		writer.writeManifest(buildManifest(sourceJar));
 		Set<String> seen = new HashSet<>();
-		writeNestedLibraries(unpackLibraries, seen, writer);
+		writeNestedLibraries(unpackLibraries, seen, writer, null);
+		String indexName = null;
+		ClassPathIndexWriter index = null;
 		if (this.layout instanceof RepackagingLayout) {
-			writer.writeEntries(sourceJar, new RenamingEntryTransformer(
-					((RepackagingLayout) this.layout).getRepackagedClassesLocation()));
+			String classesLocation = ((RepackagingLayout) this.layout)
+					.getRepackagedClassesLocation();
+			RenamingEntryTransformer transformer = new RenamingEntryTransformer(
+					classesLocation);
+			writer.writeEntries(sourceJar, transformer);
+			indexName = getClassPathIndexName(classesLocation);
+			if (indexName != null) {
+				index = new ClassPathIndexWriter();
+				index.add(classesLocation, sourceJar, transformer::isRenamed);
+			}
 		}
 		else {
 			writer.writeEntries(sourceJar);
 		}
-		writeNestedLibraries(standardLibraries, seen, writer);
+		writeNestedLibraries(standardLibraries, seen, writer, index);
+		if (index != null) {
+			index.writeTo(indexName, writer);
+		}
 		writeLoaderClasses(writer);
 	}
 
+	/**
+	 * Return the name of the class path index entry, written alongside the repackaged
+	 * classes location, or {@code null} if the classes are repackaged to the root of the
+	 * archive.
+	 * @param classesLocation the repackaged classes location
+	 * @return the name of the index entry or {@code null}
+	 */
+	private String getClassPathIndexName(String classesLocation) {
+		String location = (classesLocation.endsWith("/")
+				? classesLocation.substring(0, classesLocation.length() - 1)
+				: classesLocation);
+		int lastSlash = location.lastIndexOf('/');
+		if (lastSlash == -1) {
+			return null;
+		}
+		return location.substring(0, lastSlash + 1) + ClassPathIndexWriter.INDEX_NAME;
+	}
+
 	private void writeNestedLibraries(List<Library> libraries, Set<String> alreadySeen,
-			JarWriter writer) throws IOException {
+			JarWriter writer, ClassPathIndexWriter index) throws IOException {
+		Map<Library, String> destinations = new LinkedHashMap<>();
 		for (Library library : libraries) {
 			String destination = Repackager.this.layout
 					.getLibraryDestination(library.getName(), library.getScope());
@@ -276,11 +312,51 @@ public class Repackager {
 					throw new IllegalStateException(
 							"Duplicate library " + library.getName());
 				}
-				writer.writeNestedLibrary(destination, library);
+				destinations.put(library, destination);
+			}
+		}
+		Map<Library, JarArchiveEntry> entries = createNestedLibraryEntries(destinations);
+		for (Map.Entry<Library, String> destination : destinations.entrySet()) {
+			Library library = destination.getKey();
+			writer.writeNestedLibrary(entries.get(library), library);
+			if (index != null) {
+				index.add(destination.getValue() + library.getName(), library.getFile());
 			}
 		}
 	}
 
+	/**
+	 * Create the entries for the given nested libraries. Each library must be read to
+	 * calculate the CRC of its entry so the libraries are read in parallel.
+	 * @param destinations the libraries and their destinations
+	 * @return the entries for the libraries
+	 * @throws IOException if a library cannot be read
+	 */
+	private Map<Library, JarArchiveEntry> createNestedLibraryEntries(
+			Map<Library, String> destinations) throws IOException {
+		Map<Library, JarArchiveEntry> entries = new ConcurrentHashMap<>();
+		try {
+			destinations.entrySet().parallelStream()
+					.forEach((destination) -> entries.put(destination.getKey(),
+							createNestedLibraryEntry(destination.getValue(),
+									destination.getKey())));
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+		return entries;
+	}
+
+	private JarArchiveEntry createNestedLibraryEntry(String destination,
+			Library library) {
+		try {
+			return JarWriter.createNestedLibraryEntry(destination, library);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	private void writeLoaderClasses(JarWriter writer) throws IOException {
 		if (this.layout instanceof CustomLoaderLayout) {
 			((CustomLoaderLayout) this.layout).writeLoadedClasses(writer);
@@ -411,9 +487,7 @@ public class Repackager {
 			if (entry.getName().equals("META-INF/INDEX.LIST")) {
 				return null;
 			}
-			if ((entry.getName().startsWith("META-INF/")
-					&& !entry.getName().equals("META-INF/aop.xml"))
-					|| entry.getName().startsWith("BOOT-INF/")) {
+			if (!isRenamed(entry.getName())) {
 				return entry;
 			}
 			JarArchiveEntry renamedEntry = new JarArchiveEntry(
@@ -441,6 +515,12 @@ public class Repackager {
 			return renamedEntry;
 		}
 
+		private boolean isRenamed(String name) {
+			return !name.equals("META-INF/INDEX.LIST")
+					&& !(name.startsWith("META-INF/") && !name.equals("META-INF/aop.xml"))
+					&& !name.startsWith("BOOT-INF/");
+		}
+
 	}
 
 }
@@ -19,14 +19,19 @@ package org.springframework.boot.loader.tools;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
@@ -314,6 +319,32 @@ public class RepackagerTests {
 		assertThat(entry.getComment().length()).isEqualTo(47);
 	}
 
+	@Test
+	public void classPathIndexIsWritten() throws Exception {
+		TestJarFile libJar = new TestJarFile(this.temporaryFolder);
+		libJar.addClass("d/e/F.class", ClassWithoutMainMethod.class);
+		File libJarFile = libJar.getFile();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		File file = this.testJarFile.getFile();
+		Repackager repackager = new Repackager(file);
+		repackager.repackage((callback) -> callback
+				.library(new Library(libJarFile, LibraryScope.COMPILE)));
+		assertThat(getEntryContent(file, "BOOT-INF/classpath.idx"))
+				.isEqualTo("BOOT-INF/classes\n\ta/b/\nBOOT-INF/lib/"
+						+ libJarFile.getName() + "\n\td/e/\n");
+	}
+
+	@Test
+	public void classPathIndexIsNotWrittenForWarLayout() throws Exception {
+		this.testJarFile.addClass("WEB-INF/classes/a/b/C.class",
+				ClassWithMainMethod.class);
+		File file = this.testJarFile.getFile("war");
+		Repackager repackager = new Repackager(file);
+		repackager.repackage(NO_LIBRARIES);
+		assertThat(hasEntry(file, "WEB-INF/classpath.idx")).isFalse();
+		assertThat(hasEntry(file, "BOOT-INF/classpath.idx")).isFalse();
+	}
+
 	@Test
 	public void duplicateLibraries() throws Exception {
 		TestJarFile libJar = new TestJarFile(this.temporaryFolder);
@@ -330,6 +361,37 @@ public class RepackagerTests {
 		});
 	}
 
+	@Test
+	public void nestedLibrariesAreWrittenInOrder() throws Exception {
+		List<File> libJarFiles = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			TestJarFile libJar = new TestJarFile(this.temporaryFolder);
+			libJar.addClass("a/b" + i + "/C.class", ClassWithoutMainMethod.class);
+			libJarFiles.add(libJar.getFile());
+		}
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		File file = this.testJarFile.getFile();
+		Repackager repackager = new Repackager(file);
+		repackager.repackage((callback) -> {
+			for (File libJarFile : libJarFiles) {
+				callback.library(new Library(libJarFile, LibraryScope.COMPILE, true));
+			}
+		});
+		List<String> names = new ArrayList<>();
+		try (JarFile jarFile = new JarFile(file)) {
+			for (JarEntry entry : Collections.list(jarFile.entries())) {
+				if (entry.getName().startsWith("BOOT-INF/lib/")) {
+					names.add(entry.getName());
+					assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+					assertThat(entry.getComment()).startsWith("UNPACK:");
+				}
+			}
+		}
+		assertThat(names).containsExactlyElementsOf(libJarFiles.stream()
+				.map((libJarFile) -> "BOOT-INF/lib/" + libJarFile.getName())
+				.collect(Collectors.toList()));
+	}
+
 	@Test
 	public void customLayout() throws Exception {
 		TestJarFile libJar = new TestJarFile(this.temporaryFolder);
@@ -590,6 +652,14 @@ public class RepackagerTests {
 		}
 	}
 
+	private String getEntryContent(File file, String name) throws IOException {
+		try (JarFile jarFile = new JarFile(file)) {
+			return new String(FileCopyUtils.copyToByteArray(
+					jarFile.getInputStream(jarFile.getEntry(name))),
+					StandardCharsets.UTF_8);
+		}
+	}
+
 	private Manifest getManifest(File file) throws IOException {
 		try (JarFile jarFile = new JarFile(file)) {
 			return jarFile.getManifest();
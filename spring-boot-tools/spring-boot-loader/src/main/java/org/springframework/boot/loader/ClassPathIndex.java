@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the directories contained in each nested archive of an executable archive.
+ * Used by the {@link LaunchedURLClassLoader} to restrict class and resource lookups to
+ * the archives that can contain them. The index is written when the archive is
+ * repackaged and uses the following format:
+ *
+ * <pre class="code">
+ * BOOT-INF/classes
+ * 	com/example/
+ * BOOT-INF/lib/spring-core.jar
+ * 	/
+ * 	org/springframework/core/
+ * </pre>
+ *
+ * Each unindented line is the location of a nested archive and each following indented
+ * line is a directory that contains at least one file in that archive, {@code /} being
+ * used for the root. Archives that are not described by the index are indexed on
+ * demand.
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ */
+public final class ClassPathIndex {
+
+	private static final String ROOT = "/";
+
+	private final Map<String, Set<String>> directories;
+
+	/**
+	 * Create a new empty {@link ClassPathIndex}.
+	 */
+	public ClassPathIndex() {
+		this(Collections.emptyMap());
+	}
+
+	private ClassPathIndex(Map<String, Set<String>> directories) {
+		this.directories = directories;
+	}
+
+	/**
+	 * Return the directories of the nested archive at the given location.
+	 * @param location the location of the archive (for example
+	 * {@code BOOT-INF/lib/spring-core.jar})
+	 * @return the directories or {@code null} if the archive is not indexed
+	 */
+	public Set<String> getDirectories(String location) {
+		return this.directories.get(location);
+	}
+
+	/**
+	 * Return the directory of the given entry name. Directory names end with {@code /},
+	 * the root directory being returned as an empty string.
+	 * @param name the entry name
+	 * @return the directory that contains the entry
+	 */
+	public static String getDirectory(String name) {
+		return name.substring(0, name.lastIndexOf('/') + 1);
+	}
+
+	/**
+	 * Load a {@link ClassPathIndex} from the given stream. The stream is not closed.
+	 * @param inputStream the source stream
+	 * @return the loaded index
+	 * @throws IOException on read error
+	 */
+	public static ClassPathIndex load(InputStream inputStream) throws IOException {
+		Map<String, Set<String>> directories = new HashMap<>();
+		BufferedReader reader = new BufferedReader(
+				new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		Set<String> current = null;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.startsWith("\t")) {
+				if (current == null) {
+					throw new IllegalStateException(
+							"Malformed class path index, directory '" + line.substring(1)
+									+ "' has no location");
+				}
+				String directory = line.substring(1);
+				current.add(ROOT.equals(directory) ? "" : directory);
+			}
+			else if (line.length() > 0) {
+				current = new HashSet<>();
+				directories.put(line, current);
+			}
+		}
+		return new ClassPathIndex(directories);
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.boot.loader;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.jar.JarEntry;
@@ -72,6 +76,39 @@ public abstract class ExecutableArchiveLauncher extends Launcher {
 		return archives;
 	}
 
+	@Override
+	protected ClassLoader createClassLoader(URL[] urls) throws Exception {
+		return new LaunchedURLClassLoader(urls, getClass().getClassLoader(),
+				getClassPathIndex());
+	}
+
+	private ClassPathIndex getClassPathIndex() throws IOException {
+		String location = getClassPathIndexLocation();
+		if (location != null) {
+			try (InputStream inputStream = new URL(this.archive.getUrl(), location)
+					.openStream()) {
+				return ClassPathIndex.load(inputStream);
+			}
+			catch (FileNotFoundException ex) {
+				// Nested archives will be indexed on demand
+			}
+			return new ClassPathIndex();
+		}
+		return null;
+	}
+
+	/**
+	 * Return the location of the {@link ClassPathIndex} within the archive. Nested
+	 * archives of an archive that does not contain an index, for example because it was
+	 * not repackaged, are indexed from their entries on the first lookup. Returning
+	 * {@code null} disables the index so that every lookup searches all nested
+	 * archives.
+	 * @return the location of the index or {@code null}
+	 */
+	protected String getClassPathIndexLocation() {
+		return null;
+	}
+
 	/**
 	 * Determine if the specified {@link JarEntry} is a nested item that should be added
 	 * to the classpath. The method is called once for each entry.
@@ -32,6 +32,8 @@ public class JarLauncher extends ExecutableArchiveLauncher {
 
 	static final String BOOT_INF_LIB = "BOOT-INF/lib/";
 
+	static final String BOOT_INF_CLASSPATH_INDEX = "BOOT-INF/classpath.idx";
+
 	public JarLauncher() {
 	}
 
@@ -47,6 +49,11 @@ public class JarLauncher extends ExecutableArchiveLauncher {
 		return entry.getName().startsWith(BOOT_INF_LIB);
 	}
 
+	@Override
+	protected String getClassPathIndexLocation() {
+		return BOOT_INF_CLASSPATH_INDEX;
+	}
+
 	public static void main(String[] args) throws Exception {
 		new JarLauncher().launch(args);
 	}
@@ -16,20 +16,39 @@
 
 package org.springframework.boot.loader;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.security.AccessController;
+import java.security.CodeSigner;
+import java.security.CodeSource;
+import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
 import org.springframework.boot.loader.jar.Handler;
 
 /**
- * {@link ClassLoader} used by the {@link Launcher}.
+ * {@link ClassLoader} used by the {@link Launcher}. The class loader is registered as
+ * parallel capable so that classes are loaded using a lock per class name. When created
+ * with a {@link ClassPathIndex}, class and resource lookups are only made against the
+ * nested archives that contain the relevant directory rather than against every URL.
  *
  * @author Phillip Webb
  * @author Dave Syer
@@ -41,19 +60,50 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		ClassLoader.registerAsParallelCapable();
 	}
 
+	private static final int BUFFER_SIZE = 4096;
+
+	private final ClassPathIndex index;
+
+	private volatile IndexedUrls indexedUrls;
+
 	/**
 	 * Create a new {@link LaunchedURLClassLoader} instance.
 	 * @param urls the URLs from which to load classes and resources
 	 * @param parent the parent class loader for delegation
 	 */
 	public LaunchedURLClassLoader(URL[] urls, ClassLoader parent) {
+		this(urls, parent, null);
+	}
+
+	/**
+	 * Create a new {@link LaunchedURLClassLoader} instance.
+	 * @param urls the URLs from which to load classes and resources
+	 * @param parent the parent class loader for delegation
+	 * @param index the index used to restrict lookups or {@code null} if all URLs
+	 * should be searched
+	 */
+	public LaunchedURLClassLoader(URL[] urls, ClassLoader parent,
+			ClassPathIndex index) {
 		super(urls, parent);
+		this.index = index;
 	}
 
 	@Override
 	public URL findResource(String name) {
 		Handler.setUseFastConnectionExceptions(true);
 		try {
+			IndexedUrls indexedUrls = getIndexedUrls(name);
+			if (indexedUrls != null) {
+				BitSet candidates = indexedUrls.getCandidates(name);
+				for (int i = candidates.nextSetBit(0); i >= 0; i = candidates
+						.nextSetBit(i + 1)) {
+					URL resource = indexedUrls.findResource(i, name);
+					if (resource != null) {
+						return resource;
+					}
+				}
+				return null;
+			}
 			return super.findResource(name);
 		}
 		finally {
@@ -65,6 +115,19 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 	public Enumeration<URL> findResources(String name) throws IOException {
 		Handler.setUseFastConnectionExceptions(true);
 		try {
+			IndexedUrls indexedUrls = getIndexedUrls(name);
+			if (indexedUrls != null) {
+				List<URL> resources = new ArrayList<>();
+				BitSet candidates = indexedUrls.getCandidates(name);
+				for (int i = candidates.nextSetBit(0); i >= 0; i = candidates
+						.nextSetBit(i + 1)) {
+					URL resource = indexedUrls.findResource(i, name);
+					if (resource != null) {
+						resources.add(resource);
+					}
+				}
+				return Collections.enumeration(resources);
+			}
 			return super.findResources(name);
 		}
 		finally {
@@ -97,6 +160,167 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		}
 	}
 
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		String entryName = name.replace('.', '/') + ".class";
+		IndexedUrls indexedUrls = getIndexedUrls(entryName);
+		if (indexedUrls == null) {
+			return super.findClass(name);
+		}
+		try {
+			Class<?> type = AccessController.doPrivileged(
+					(PrivilegedExceptionAction<Class<?>>) () -> findIndexedClass(
+							indexedUrls, name, entryName),
+					AccessController.getContext());
+			if (type == null) {
+				throw new ClassNotFoundException(name);
+			}
+			return type;
+		}
+		catch (PrivilegedActionException ex) {
+			if (ex.getException() instanceof ClassNotFoundException) {
+				throw (ClassNotFoundException) ex.getException();
+			}
+			throw new ClassNotFoundException(name, ex.getException());
+		}
+	}
+
+	private Class<?> findIndexedClass(IndexedUrls indexedUrls, String name,
+			String entryName) throws IOException, ClassNotFoundException {
+		BitSet candidates = indexedUrls.getCandidates(entryName);
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates
+				.nextSetBit(i + 1)) {
+			URL url = indexedUrls.getUrl(i);
+			JarFile jarFile = indexedUrls.getJarFile(i);
+			if (jarFile != null) {
+				JarEntry entry = jarFile.getJarEntry(entryName);
+				if (entry != null) {
+					Manifest manifest = jarFile.getManifest();
+					if (indexedUrls.isIndexedOnDemand(i) || isSealed(name, manifest)) {
+						// Let URLClassLoader define the class and apply its checks
+						return super.findClass(name);
+					}
+					byte[] bytes = readBytes(jarFile.getInputStream(entry),
+							entry.getSize());
+					definePackageIfNecessary(name, manifest, url);
+					return defineClass(name, bytes, 0, bytes.length,
+							new CodeSource(url, entry.getCodeSigners()));
+				}
+			}
+			else {
+				URL resource = indexedUrls.findResource(i, entryName);
+				if (resource != null) {
+					if (isSealed(name, null)) {
+						return super.findClass(name);
+					}
+					byte[] bytes = readBytes(resource.openStream(), -1);
+					definePackageIfNecessary(name, null, url);
+					return defineClass(name, bytes, 0, bytes.length,
+							new CodeSource(url, (CodeSigner[]) null));
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return if the package of the given class is sealed, either because it has
+	 * already been defined as sealed or because the given manifest seals it.
+	 * @param className the class name
+	 * @param manifest the manifest of the archive that contains the class or
+	 * {@code null}
+	 * @return if the package is sealed
+	 */
+	private boolean isSealed(String className, Manifest manifest) {
+		int lastDot = className.lastIndexOf('.');
+		if (lastDot < 0) {
+			return false;
+		}
+		String packageName = className.substring(0, lastDot);
+		Package definedPackage = getPackage(packageName);
+		if (definedPackage != null && definedPackage.isSealed()) {
+			return true;
+		}
+		if (manifest == null) {
+			return false;
+		}
+		Attributes attributes = manifest
+				.getAttributes(packageName.replace('.', '/') + "/");
+		String sealed = (attributes == null ? null
+				: attributes.getValue(Attributes.Name.SEALED));
+		if (sealed == null) {
+			sealed = manifest.getMainAttributes().getValue(Attributes.Name.SEALED);
+		}
+		return "true".equalsIgnoreCase(sealed);
+	}
+
+	private void definePackageIfNecessary(String className, Manifest manifest,
+			URL url) {
+		int lastDot = className.lastIndexOf('.');
+		if (lastDot >= 0) {
+			String packageName = className.substring(0, lastDot);
+			if (getPackage(packageName) == null) {
+				try {
+					if (manifest != null) {
+						definePackage(packageName, manifest, url);
+					}
+					else {
+						definePackage(packageName, null, null, null, null, null, null,
+								null);
+					}
+				}
+				catch (IllegalArgumentException ex) {
+					// Tolerate race condition due to being parallel capable
+				}
+			}
+		}
+	}
+
+	private byte[] readBytes(InputStream inputStream, long size) throws IOException {
+		try {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(
+					size > 0 && size < Integer.MAX_VALUE ? (int) size : BUFFER_SIZE);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int bytesRead;
+			while ((bytesRead = inputStream.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, bytesRead);
+			}
+			return outputStream.toByteArray();
+		}
+		finally {
+			inputStream.close();
+		}
+	}
+
+	@Override
+	protected void addURL(URL url) {
+		super.addURL(url);
+		this.indexedUrls = null;
+	}
+
+	/**
+	 * Return the {@link IndexedUrls} to use when looking up the given entry name or
+	 * {@code null} if all URLs should be searched.
+	 * @param name the entry name
+	 * @return the indexed URLs or {@code null}
+	 */
+	private IndexedUrls getIndexedUrls(String name) {
+		if (this.index == null || !IndexedUrls.isIndexable(name)) {
+			return null;
+		}
+		IndexedUrls indexedUrls = this.indexedUrls;
+		if (indexedUrls == null) {
+			synchronized (this.index) {
+				indexedUrls = this.indexedUrls;
+				if (indexedUrls == null) {
+					indexedUrls = new IndexedUrls(getURLs(), this.index);
+					this.indexedUrls = indexedUrls;
+				}
+			}
+		}
+		return indexedUrls;
+	}
+
 	/**
 	 * Define a package before a {@code findClass} call is made. This is necessary to
 	 * ensure that the appropriate manifest for nested JARs is associated with the
@@ -131,16 +355,28 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 			AccessController.doPrivileged((PrivilegedExceptionAction<Object>) () -> {
 				String packageEntryName = packageName.replace('.', '/') + "/";
 				String classEntryName = className.replace('.', '/') + ".class";
+				IndexedUrls indexedUrls = getIndexedUrls(classEntryName);
+				if (indexedUrls != null) {
+					BitSet candidates = indexedUrls.getCandidates(classEntryName);
+					for (int i = candidates.nextSetBit(0); i >= 0; i = candidates
+							.nextSetBit(i + 1)) {
+						JarFile jarFile = indexedUrls.getJarFile(i);
+						if (jarFile != null && definePackage(packageName,
+								packageEntryName, classEntryName, jarFile,
+								indexedUrls.getUrl(i))) {
+							return null;
+						}
+					}
+					return null;
+				}
 				for (URL url : getURLs()) {
 					try {
 						URLConnection connection = url.openConnection();
 						if (connection instanceof JarURLConnection) {
 							JarFile jarFile = ((JarURLConnection) connection)
 									.getJarFile();
-							if (jarFile.getEntry(classEntryName) != null
-									&& jarFile.getEntry(packageEntryName) != null
-									&& jarFile.getManifest() != null) {
-								definePackage(packageName, jarFile.getManifest(), url);
+							if (definePackage(packageName, packageEntryName,
+									classEntryName, jarFile, url)) {
 								return null;
 							}
 						}
@@ -157,6 +393,17 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		}
 	}
 
+	private boolean definePackage(String packageName, String packageEntryName,
+			String classEntryName, JarFile jarFile, URL url) throws IOException {
+		if (jarFile.getEntry(classEntryName) != null
+				&& jarFile.getEntry(packageEntryName) != null
+				&& jarFile.getManifest() != null) {
+			definePackage(packageName, jarFile.getManifest(), url);
+			return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Clear URL caches.
 	 */
@@ -182,4 +429,158 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		}
 	}
 
+	/**
+	 * The URLs of the class loader along with the {@link JarFile jar files} that back
+	 * them and the positions of the URLs that contain each directory. URLs that are not
+	 * backed by a nested jar are always searched.
+	 */
+	private static final class IndexedUrls {
+
+		private static final String SEPARATOR = "!/";
+
+		private final URL[] urls;
+
+		private final JarFile[] jarFiles;
+
+		private final Map<String, BitSet> directories = new HashMap<>();
+
+		private final BitSet unindexed = new BitSet();
+
+		private final BitSet indexedOnDemand = new BitSet();
+
+		private IndexedUrls(URL[] urls, ClassPathIndex index) {
+			this.urls = urls;
+			this.jarFiles = new JarFile[urls.length];
+			for (int i = 0; i < urls.length; i++) {
+				JarFile jarFile = getJarFile(urls[i]);
+				if (jarFile == null) {
+					this.unindexed.set(i);
+				}
+				else {
+					this.jarFiles[i] = jarFile;
+					for (String directory : getDirectories(i, jarFile, index)) {
+						this.directories.computeIfAbsent(directory, (key) -> new BitSet())
+								.set(i);
+					}
+				}
+			}
+		}
+
+		private JarFile getJarFile(URL url) {
+			try {
+				URLConnection connection = url.openConnection();
+				if (connection instanceof JarURLConnection) {
+					JarFile jarFile = ((JarURLConnection) connection).getJarFile();
+					if (jarFile instanceof org.springframework.boot.loader.jar.JarFile) {
+						return jarFile;
+					}
+				}
+			}
+			catch (IOException ex) {
+				// Ignore and search the URL on every lookup
+			}
+			return null;
+		}
+
+		private Set<String> getDirectories(int position, JarFile jarFile,
+				ClassPathIndex index) {
+			String location = getLocation(this.urls[position]);
+			Set<String> directories = (location == null ? null
+					: index.getDirectories(location));
+			if (directories == null) {
+				this.indexedOnDemand.set(position);
+				directories = new HashSet<>();
+				Enumeration<JarEntry> entries = jarFile.entries();
+				while (entries.hasMoreElements()) {
+					JarEntry entry = entries.nextElement();
+					if (!entry.isDirectory()) {
+						directories.add(ClassPathIndex.getDirectory(entry.getName()));
+					}
+				}
+			}
+			return directories;
+		}
+
+		private String getLocation(URL url) {
+			String file = url.getFile();
+			if (!file.endsWith(SEPARATOR)) {
+				return null;
+			}
+			file = file.substring(0, file.length() - SEPARATOR.length());
+			int separator = file.lastIndexOf(SEPARATOR);
+			return (separator == -1 ? null
+					: file.substring(separator + SEPARATOR.length()));
+		}
+
+		public BitSet getCandidates(String name) {
+			BitSet candidates = (BitSet) this.unindexed.clone();
+			BitSet indexed = this.directories.get(ClassPathIndex.getDirectory(name));
+			if (indexed != null) {
+				candidates.or(indexed);
+			}
+			return candidates;
+		}
+
+		/**
+		 * Return if the URL at the given position was not described by the
+		 * {@link ClassPathIndex} and has been indexed from its entries instead. Such URLs
+		 * are only used to skip archives that cannot contain an entry, the classes they
+		 * contain being defined by the {@link URLClassLoader}.
+		 * @param position the position of the URL
+		 * @return if the URL was indexed on demand
+		 */
+		public boolean isIndexedOnDemand(int position) {
+			return this.indexedOnDemand.get(position);
+		}
+
+				public URL getUrl(int position) {
+			return this.urls[position];
+		}
+
+		public JarFile getJarFile(int position) {
+			return this.jarFiles[position];
+		}
+
+		public URL findResource(int position, String name) {
+			JarFile jarFile = this.jarFiles[position];
+			try {
+				if (jarFile == null) {
+					URL resource = new URL(this.urls[position], name);
+					resource.openConnection().getInputStream().close();
+					return resource;
+				}
+				if (jarFile.getEntry(name) != null) {
+					return new URL(this.urls[position], name);
+				}
+			}
+			catch (IOException ex) {
+				// Ignore
+			}
+			return null;
+		}
+
+		/**
+		 * Return if the given entry name can be looked up using the index. Directories
+		 * are not indexed and names that would need to be encoded in a URL are left to
+		 * the {@link URLClassLoader}.
+		 * @param name the entry name
+		 * @return if the name is indexable
+		 */
+		public static boolean isIndexable(String name) {
+			if (name.isEmpty() || name.charAt(0) == '/'
+					|| name.charAt(name.length() - 1) == '/') {
+				return false;
+			}
+			for (int i = 0; i < name.length(); i++) {
+				char ch = name.charAt(i);
+				if (!(Character.isLetterOrDigit(ch) && ch < 128) && ch != '/'
+						&& ch != '.' && ch != '-' && ch != '_' && ch != '$') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
 }
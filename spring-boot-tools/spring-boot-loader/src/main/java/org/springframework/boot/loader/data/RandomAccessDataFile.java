@@ -20,12 +20,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 
 /**
- * {@link RandomAccessData} implementation backed by a {@link RandomAccessFile}.
+ * {@link RandomAccessData} implementation backed by a {@link RandomAccessFile}. The file
+ * can optionally be memory mapped, in which case reads are served directly from the
+ * mapped buffer rather than from a pool of file handles.
  *
  * @author Phillip Webb
  */
@@ -37,6 +42,8 @@ public class RandomAccessDataFile implements RandomAccessData {
 
 	private final FilePool filePool;
 
+	private final ByteBuffer mappedData;
+
 	private final long offset;
 
 	private final long length;
@@ -60,32 +67,72 @@ public class RandomAccessDataFile implements RandomAccessData {
 	 * @see #RandomAccessDataFile(File)
 	 */
 	public RandomAccessDataFile(File file, int concurrentReads) {
-		if (file == null) {
-			throw new IllegalArgumentException("File must not be null");
-		}
-		if (!file.exists()) {
-			throw new IllegalArgumentException("File must exist");
-		}
+		assertFileExists(file);
 		this.file = file;
 		this.filePool = new FilePool(file, concurrentReads);
+		this.mappedData = null;
 		this.offset = 0L;
 		this.length = file.length();
 	}
 
+	/**
+	 * Create a new {@link RandomAccessDataFile} backed by the specified file, optionally
+	 * memory mapping its content. Files that are too large to be mapped as a single
+	 * buffer are always read using a pool of file handles.
+	 * @param file the underlying file
+	 * @param memoryMapped if the file should be memory mapped
+	 * @throws IOException if the file cannot be mapped
+	 * @throws IllegalArgumentException if the file is null or does not exist
+	 * @see #RandomAccessDataFile(File)
+	 */
+	public RandomAccessDataFile(File file, boolean memoryMapped) throws IOException {
+		assertFileExists(file);
+		this.file = file;
+		this.offset = 0L;
+		this.length = file.length();
+		if (memoryMapped && this.length <= Integer.MAX_VALUE) {
+			this.filePool = null;
+			this.mappedData = map(file, this.length);
+		}
+		else {
+			this.filePool = new FilePool(file, DEFAULT_CONCURRENT_READS);
+			this.mappedData = null;
+		}
+	}
+
 	/**
 	 * Private constructor used to create a {@link #getSubsection(long, long) subsection}.
 	 * @param file the underlying file
-	 * @param pool the underlying pool
+	 * @param pool the underlying pool or {@code null} if the file is memory mapped
+	 * @param mappedData the mapped data or {@code null} if the file is not memory mapped
 	 * @param offset the offset of the section
 	 * @param length the length of the section
 	 */
-	private RandomAccessDataFile(File file, FilePool pool, long offset, long length) {
+	private RandomAccessDataFile(File file, FilePool pool, ByteBuffer mappedData,
+			long offset, long length) {
 		this.file = file;
 		this.filePool = pool;
+		this.mappedData = mappedData;
 		this.offset = offset;
 		this.length = length;
 	}
 
+	private void assertFileExists(File file) {
+		if (file == null) {
+			throw new IllegalArgumentException("File must not be null");
+		}
+		if (!file.exists()) {
+			throw new IllegalArgumentException("File must exist");
+		}
+	}
+
+	private ByteBuffer map(File file, long length) throws IOException {
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+			FileChannel channel = randomAccessFile.getChannel();
+			return channel.map(MapMode.READ_ONLY, 0, length).asReadOnlyBuffer();
+		}
+	}
+
 	/**
 	 * Returns the underlying File.
 	 * @return the underlying file
@@ -94,8 +141,19 @@ public class RandomAccessDataFile implements RandomAccessData {
 		return this.file;
 	}
 
+	/**
+	 * Returns if the underlying file is memory mapped.
+	 * @return if the file is memory mapped
+	 */
+	public boolean isMemoryMapped() {
+		return this.mappedData != null;
+	}
+
 	@Override
 	public InputStream getInputStream(ResourceAccess access) throws IOException {
+		if (this.mappedData != null) {
+			return new MappedDataInputStream();
+		}
 		return new DataInputStream(access);
 	}
 
@@ -104,8 +162,8 @@ public class RandomAccessDataFile implements RandomAccessData {
 		if (offset < 0 || length < 0 || offset + length > this.length) {
 			throw new IndexOutOfBoundsException();
 		}
-		return new RandomAccessDataFile(this.file, this.filePool, this.offset + offset,
-				length);
+		return new RandomAccessDataFile(this.file, this.filePool, this.mappedData,
+				this.offset + offset, length);
 	}
 
 	@Override
@@ -114,7 +172,9 @@ public class RandomAccessDataFile implements RandomAccessData {
 	}
 
 	public void close() throws IOException {
-		this.filePool.close();
+		if (this.filePool != null) {
+			this.filePool.close();
+		}
 	}
 
 	/**
@@ -225,6 +285,65 @@ public class RandomAccessDataFile implements RandomAccessData {
 
 	}
 
+	/**
+	 * {@link InputStream} implementation that reads directly from the memory mapped
+	 * content of the {@link RandomAccessDataFile}.
+	 */
+	private class MappedDataInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		MappedDataInputStream() {
+			ByteBuffer buffer = RandomAccessDataFile.this.mappedData.duplicate();
+			int offset = (int) RandomAccessDataFile.this.offset;
+			buffer.limit(offset + (int) RandomAccessDataFile.this.length);
+			buffer.position(offset);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return (this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1);
+		}
+
+		@Override
+		public int read(byte[] b) throws IOException {
+			return read(b, 0, b == null ? 0 : b.length);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (b == null) {
+				throw new NullPointerException("Bytes must not be null");
+			}
+			if (len == 0) {
+				return 0;
+			}
+			int cappedLen = Math.min(len, this.buffer.remaining());
+			if (cappedLen <= 0) {
+				return -1;
+			}
+			this.buffer.get(b, off, cappedLen);
+			return cappedLen;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			if (n <= 0) {
+				return 0;
+			}
+			int skipped = (int) Math.min(n, this.buffer.remaining());
+			this.buffer.position(this.buffer.position() + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return this.buffer.remaining();
+		}
+
+	}
+
 	/**
 	 * Manage a pool that can be used to perform concurrent reads on the underlying
 	 * {@link RandomAccessFile}.
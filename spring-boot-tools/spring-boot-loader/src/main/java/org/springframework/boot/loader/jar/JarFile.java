@@ -43,6 +43,8 @@ import org.springframework.boot.loader.data.RandomAccessDataFile;
  * <li>A nested {@link JarFile} can be {@link #getNestedJarFile(ZipEntry) obtained} for
  * embedded JAR files (as long as their entry is not compressed).</li>
  * </ul>
+ * Root jar files are memory mapped when the {@literal 'loader.mmap'} system property is
+ * set to {@code true}.
  *
  * @author Phillip Webb
  */
@@ -54,6 +56,8 @@ public class JarFile extends java.util.jar.JarFile {
 
 	private static final String HANDLERS_PACKAGE = "org.springframework.boot.loader";
 
+	private static final String MEMORY_MAPPED = "loader.mmap";
+
 	private static final AsciiBytes META_INF = new AsciiBytes("META-INF/");
 
 	private static final AsciiBytes SIGNATURE_FILE_EXTENSION = new AsciiBytes(".SF");
@@ -80,7 +84,7 @@ public class JarFile extends java.util.jar.JarFile {
 	 * @throws IOException if the file cannot be read
 	 */
 	public JarFile(File file) throws IOException {
-		this(new RandomAccessDataFile(file));
+		this(new RandomAccessDataFile(file, isMemoryMapped()));
 	}
 
 	/**
@@ -374,6 +378,10 @@ public class JarFile extends java.util.jar.JarFile {
 		resetCachedUrlHandlers();
 	}
 
+	private static boolean isMemoryMapped() {
+		return Boolean.parseBoolean(System.getProperty(MEMORY_MAPPED));
+	}
+
 	/**
 	 * Reset any cached handlers just in case a jar protocol has already been used. We
 	 * reset the handler by trying to set a null {@link URLStreamHandlerFactory} which
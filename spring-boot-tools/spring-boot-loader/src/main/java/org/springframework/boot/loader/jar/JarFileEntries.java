@@ -19,11 +19,11 @@ package org.springframework.boot.loader.jar;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.zip.ZipEntry;
 
 import org.springframework.boot.loader.data.RandomAccessData;
@@ -39,6 +39,10 @@ import org.springframework.boot.loader.data.RandomAccessData.ResourceAccess;
  * <p>
  * A typical Spring Boot application will have somewhere in the region of 10,500 entries
  * which should consume about 122K.
+ * <p>
+ * Recently used entries are held in a small direct-mapped cache indexed by entry
+ * position so that concurrent lookups never need to lock. Entries of signed jars are
+ * never evicted.
  *
  * @author Phillip Webb
  */
@@ -66,19 +70,10 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 
 	private int[] positions;
 
-	private final Map<Integer, FileHeader> entriesCache = Collections
-			.synchronizedMap(new LinkedHashMap<Integer, FileHeader>(16, 0.75f, true) {
-
-				@Override
-				protected boolean removeEldestEntry(
-						Map.Entry<Integer, FileHeader> eldest) {
-					if (JarFileEntries.this.jarFile.isSigned()) {
-						return false;
-					}
-					return size() >= ENTRY_CACHE_SIZE;
-				}
+	private final AtomicReferenceArray<CachedEntry> entriesCache = new AtomicReferenceArray<>(
+			ENTRY_CACHE_SIZE);
 
-			});
+	private final Map<Integer, FileHeader> signedEntriesCache = new ConcurrentHashMap<>();
 
 	JarFileEntries(JarFile jarFile, JarEntryFilter filter) {
 		this.jarFile = jarFile;
@@ -241,7 +236,7 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 	private <T extends FileHeader> T getEntry(int index, Class<T> type,
 			boolean cacheEntry) {
 		try {
-			FileHeader cached = this.entriesCache.get(index);
+			FileHeader cached = getCachedEntry(index);
 			FileHeader entry = (cached != null ? cached
 					: CentralDirectoryFileHeader.fromRandomAccessData(
 							this.centralDirectoryData,
@@ -251,7 +246,7 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 				entry = new JarEntry(this.jarFile, (CentralDirectoryFileHeader) entry);
 			}
 			if (cacheEntry && cached != entry) {
-				this.entriesCache.put(index, entry);
+				cacheEntry(index, entry);
 			}
 			return (T) entry;
 		}
@@ -260,6 +255,23 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 		}
 	}
 
+	private FileHeader getCachedEntry(int index) {
+		if (this.jarFile.isSigned()) {
+			return this.signedEntriesCache.get(index);
+		}
+		CachedEntry cached = this.entriesCache.get(index % ENTRY_CACHE_SIZE);
+		return (cached != null && cached.getIndex() == index ? cached.getEntry() : null);
+	}
+
+	private void cacheEntry(int index, FileHeader entry) {
+		if (this.jarFile.isSigned()) {
+			this.signedEntriesCache.put(index, entry);
+		}
+		else {
+			this.entriesCache.set(index % ENTRY_CACHE_SIZE, new CachedEntry(index, entry));
+		}
+	}
+
 	private int getFirstIndex(int hashCode) {
 		int index = Arrays.binarySearch(this.hashCodes, 0, this.size, hashCode);
 		if (index < 0) {
@@ -272,13 +284,40 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 	}
 
 	public void clearCache() {
-		this.entriesCache.clear();
+		for (int i = 0; i < ENTRY_CACHE_SIZE; i++) {
+			this.entriesCache.set(i, null);
+		}
+		this.signedEntriesCache.clear();
 	}
 
 	private AsciiBytes applyFilter(AsciiBytes name) {
 		return (this.filter == null ? name : this.filter.apply(name));
 	}
 
+	/**
+	 * A {@link FileHeader} held in the entries cache along with its index.
+	 */
+	private static final class CachedEntry {
+
+		private final int index;
+
+		private final FileHeader entry;
+
+		CachedEntry(int index, FileHeader entry) {
+			this.index = index;
+			this.entry = entry;
+		}
+
+		public int getIndex() {
+			return this.index;
+		}
+
+		public FileHeader getEntry() {
+			return this.entry;
+		}
+
+	}
+
 	/**
 	 * Iterator for contained entries.
 	 */
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassPathIndex}.
+ *
+ * @author Phillip Webb
+ */
+public class ClassPathIndexTests {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void loadIndex() throws Exception {
+		ClassPathIndex index = load("BOOT-INF/classes\n\tcom/example/\n"
+				+ "BOOT-INF/lib/a.jar\n\t/\n\torg/a/\n\torg/a/b/\n");
+		assertThat(index.getDirectories("BOOT-INF/classes"))
+				.containsExactly("com/example/");
+		assertThat(index.getDirectories("BOOT-INF/lib/a.jar"))
+				.containsExactlyInAnyOrder("", "org/a/", "org/a/b/");
+		assertThat(index.getDirectories("BOOT-INF/lib/b.jar")).isNull();
+	}
+
+	@Test
+	public void loadIndexWithLocationWithoutDirectories() throws Exception {
+		ClassPathIndex index = load("BOOT-INF/lib/a.jar\n\nBOOT-INF/lib/b.jar\n");
+		assertThat(index.getDirectories("BOOT-INF/lib/a.jar")).isEmpty();
+		assertThat(index.getDirectories("BOOT-INF/lib/b.jar")).isEmpty();
+	}
+
+	@Test
+	public void loadIndexWhenDirectoryHasNoLocationShouldThrowException()
+			throws Exception {
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("Malformed class path index");
+		load("\torg/a/\n");
+	}
+
+	@Test
+	public void emptyIndex() throws Exception {
+		assertThat(new ClassPathIndex().getDirectories("BOOT-INF/lib/a.jar")).isNull();
+	}
+
+	@Test
+	public void getDirectory() throws Exception {
+		assertThat(ClassPathIndex.getDirectory("a.dat")).isEqualTo("");
+		assertThat(ClassPathIndex.getDirectory("org/a/B.class")).isEqualTo("org/a/");
+		assertThat(ClassPathIndex.getDirectory("org/a/")).isEqualTo("org/a/");
+	}
+
+	private ClassPathIndex load(String content) throws IOException {
+		return ClassPathIndex
+				.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
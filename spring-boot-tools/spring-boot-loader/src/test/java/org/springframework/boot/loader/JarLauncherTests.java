@@ -25,6 +25,7 @@ import org.junit.Test;
 import org.springframework.boot.loader.archive.Archive;
 import org.springframework.boot.loader.archive.ExplodedArchive;
 import org.springframework.boot.loader.archive.JarFileArchive;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -61,4 +62,17 @@ public class JarLauncherTests extends AbstractExecutableArchiveLauncherTests {
 				new URL("jar:" + jarRoot.toURI().toURL() + "!/BOOT-INF/lib/foo.jar!/"));
 	}
 
+	@Test
+	public void archivedJarWithoutClassPathIndexIsIndexedOnDemand() throws Exception {
+		File jarRoot = createJarArchive("archive.jar", "BOOT-INF");
+		JarLauncher launcher = new JarLauncher(new JarFileArchive(jarRoot));
+		ClassLoader classLoader = launcher
+				.createClassLoader(launcher.getClassPathArchives());
+		Object index = ReflectionTestUtils.getField(classLoader, "index");
+		assertThat(index).isInstanceOf(ClassPathIndex.class);
+		assertThat(((ClassPathIndex) index).getDirectories("BOOT-INF/lib/foo.jar"))
+				.isNull();
+		assertThat(classLoader.getResource("com/example/missing.txt")).isNull();
+	}
+
 }
@@ -16,14 +16,26 @@
 
 package org.springframework.boot.loader;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import org.springframework.boot.loader.jar.JarFile;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,6 +52,9 @@ public class LaunchedURLClassLoaderTests {
 	@Rule
 	public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
 	@Test
 	public void resolveResourceFromArchive() throws Exception {
 		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
@@ -105,4 +120,140 @@ public class LaunchedURLClassLoaderTests {
 		}
 	}
 
+	@Test
+	public void resolveResourceFromNestedUsingIndexBuiltOnDemand() throws Exception {
+		File file = this.temporaryFolder.newFile();
+		TestJarCreator.createTestJar(file);
+		JarFile jarFile = new JarFile(file);
+		URL nestedUrl = getNestedUrl(jarFile, "nested.jar");
+		URL anotherNestedUrl = getNestedUrl(jarFile, "another-nested.jar");
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { jarFile.getUrl(), nestedUrl, anotherNestedUrl }, null,
+				new ClassPathIndex());
+		URL resource = loader.getResource("3.dat");
+		assertThat(resource.toString()).isEqualTo(nestedUrl + "3.dat");
+		assertThat(resource.openConnection().getInputStream().read()).isEqualTo(3);
+		assertThat(loader.getResource("d/9.dat").toString())
+				.isEqualTo(jarFile.getUrl() + "d/9.dat");
+		assertThat(loader.getResource("missing/1.dat")).isNull();
+		List<URL> resources = Collections.list(loader.getResources("3.dat"));
+		assertThat(resources).extracting(URL::toString).containsExactly(
+				nestedUrl + "3.dat", anotherNestedUrl + "3.dat");
+	}
+
+	@Test
+	public void resolveResourceFromNestedUsingIndex() throws Exception {
+		File file = this.temporaryFolder.newFile();
+		TestJarCreator.createTestJar(file);
+		JarFile jarFile = new JarFile(file);
+		URL nestedUrl = getNestedUrl(jarFile, "nested.jar");
+		URL anotherNestedUrl = getNestedUrl(jarFile, "another-nested.jar");
+		ClassPathIndex index = loadIndex(
+				"nested.jar\n\tMETA-INF/\nanother-nested.jar\n\t/\n");
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { nestedUrl, anotherNestedUrl }, null, index);
+		assertThat(loader.getResource("3.dat").toString())
+				.isEqualTo(anotherNestedUrl + "3.dat");
+		assertThat(Collections.list(loader.getResources("3.dat"))).hasSize(1);
+		assertThat(loader.getResource("META-INF/MANIFEST.MF").toString())
+				.isEqualTo(nestedUrl + "META-INF/MANIFEST.MF");
+	}
+
+	@Test
+	public void resolveDirectoryFromNestedUsingIndex() throws Exception {
+		File file = this.temporaryFolder.newFile();
+		TestJarCreator.createTestJar(file);
+		JarFile jarFile = new JarFile(file);
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { jarFile.getUrl() }, null, new ClassPathIndex());
+		assertThat(loader.getResource("d/")).isNotNull();
+		assertThat(loader.getResource("")).isNotNull();
+	}
+
+	@Test
+	public void loadClassFromNestedUsingIndex() throws Exception {
+		File file = createJar(null, ClassPathIndex.class);
+		JarFile jarFile = new JarFile(file);
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { jarFile.getUrl() }, null, new ClassPathIndex());
+		Class<?> loaded = loader.loadClass(ClassPathIndex.class.getName());
+		assertThat(loaded.getClassLoader()).isSameAs(loader);
+		assertThat(loaded.getPackage()).isNotNull();
+		assertThat(loaded.getProtectionDomain().getCodeSource().getLocation())
+				.isEqualTo(jarFile.getUrl());
+		assertThat(loader.loadClass(ClassPathIndex.class.getName())).isSameAs(loaded);
+	}
+
+	@Test
+	public void loadClassFromSealedPackageUsingIndex() throws Exception {
+		File file = createJar(createSealedManifest(), ClassPathIndex.class);
+		JarFile jarFile = new JarFile(file);
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { jarFile.getUrl() }, null, new ClassPathIndex());
+		Class<?> loaded = loader.loadClass(ClassPathIndex.class.getName());
+		assertThat(loaded.getPackage().isSealed(jarFile.getUrl())).isTrue();
+	}
+
+	@Test
+	public void loadClassFromOtherArchiveThanSealedPackageUsingIndex()
+			throws Exception {
+		JarFile sealedJarFile = new JarFile(
+				createJar(createSealedManifest(), ClassPathIndex.class));
+		JarFile jarFile = new JarFile(createJar(null, MainMethodRunner.class));
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { sealedJarFile.getUrl(), jarFile.getUrl() }, null,
+				new ClassPathIndex());
+		loader.loadClass(ClassPathIndex.class.getName());
+		this.thrown.expect(SecurityException.class);
+		this.thrown.expectMessage("sealing violation");
+		loader.loadClass(MainMethodRunner.class.getName());
+	}
+
+	@Test(expected = ClassNotFoundException.class)
+	public void loadMissingClassUsingIndex() throws Exception {
+		File file = this.temporaryFolder.newFile();
+		TestJarCreator.createTestJar(file);
+		JarFile jarFile = new JarFile(file);
+		LaunchedURLClassLoader loader = new LaunchedURLClassLoader(
+				new URL[] { jarFile.getUrl() }, null, new ClassPathIndex());
+		loader.loadClass("com.example.Missing");
+	}
+
+	private File createJar(Manifest manifest, Class<?>... classes) throws Exception {
+		File file = this.temporaryFolder.newFile();
+		try (JarOutputStream jarOutputStream = (manifest == null
+				? new JarOutputStream(new FileOutputStream(file))
+				: new JarOutputStream(new FileOutputStream(file), manifest))) {
+			for (Class<?> type : classes) {
+				jarOutputStream.putNextEntry(new ZipEntry(
+						type.getPackage().getName().replace('.', '/') + "/"));
+				jarOutputStream.closeEntry();
+				String entryName = type.getName().replace('.', '/') + ".class";
+				jarOutputStream.putNextEntry(new ZipEntry(entryName));
+				try (InputStream inputStream = getClass().getClassLoader()
+						.getResourceAsStream(entryName)) {
+					StreamUtils.copy(inputStream, jarOutputStream);
+				}
+				jarOutputStream.closeEntry();
+			}
+		}
+		return file;
+	}
+
+	private Manifest createSealedManifest() {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.SEALED, "true");
+		return manifest;
+	}
+
+	private URL getNestedUrl(JarFile jarFile, String name) throws Exception {
+		return jarFile.getNestedJarFile(jarFile.getEntry(name)).getUrl();
+	}
+
+	private ClassPathIndex loadIndex(String content) throws Exception {
+		return ClassPathIndex.load(
+				new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
 }
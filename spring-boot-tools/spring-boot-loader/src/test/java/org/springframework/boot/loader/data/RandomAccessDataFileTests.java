@@ -121,6 +121,98 @@ public class RandomAccessDataFileTests {
 		new RandomAccessDataFile(new File("/does/not/exist"), 1);
 	}
 
+	@Test
+	public void fileNotNullWhenMemoryMapped() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("File must not be null");
+		new RandomAccessDataFile(null, true);
+	}
+
+	@Test
+	public void fileExistsWhenMemoryMapped() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("File must exist");
+		new RandomAccessDataFile(new File("/does/not/exist"), true);
+	}
+
+	@Test
+	public void isNotMemoryMappedByDefault() throws Exception {
+		assertThat(this.file.isMemoryMapped()).isFalse();
+		assertThat(new RandomAccessDataFile(this.tempFile, false).isMemoryMapped())
+				.isFalse();
+	}
+
+	@Test
+	public void memoryMappedInputStreamRead() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		assertThat(file.isMemoryMapped()).isTrue();
+		InputStream inputStream = file.getInputStream(ResourceAccess.ONCE);
+		for (int i = 0; i <= 255; i++) {
+			assertThat(inputStream.read()).isEqualTo(i);
+		}
+		assertThat(inputStream.read()).isEqualTo(-1);
+		inputStream.close();
+		file.close();
+	}
+
+	@Test
+	public void memoryMappedInputStreamReadBytes() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		InputStream inputStream = file.getInputStream(ResourceAccess.PER_READ);
+		byte[] b = new byte[256];
+		int amountRead = inputStream.read(b);
+		assertThat(b).isEqualTo(BYTES);
+		assertThat(amountRead).isEqualTo(256);
+		assertThat(inputStream.read(b)).isEqualTo(-1);
+		file.close();
+	}
+
+	@Test
+	public void memoryMappedInputStreamSkip() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		InputStream inputStream = file.getInputStream(ResourceAccess.PER_READ);
+		long amountSkipped = inputStream.skip(4);
+		assertThat(inputStream.read()).isEqualTo(4);
+		assertThat(amountSkipped).isEqualTo(4L);
+		assertThat(inputStream.skip(1000)).isEqualTo(251L);
+		assertThat(inputStream.read()).isEqualTo(-1);
+		file.close();
+	}
+
+	@Test
+	public void memoryMappedSubsection() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		RandomAccessData subsection = file.getSubsection(10, 10).getSubsection(2, 4);
+		assertThat(subsection.getSize()).isEqualTo(4L);
+		InputStream inputStream = subsection.getInputStream(ResourceAccess.PER_READ);
+		byte[] b = new byte[10];
+		assertThat(inputStream.read(b)).isEqualTo(4);
+		assertThat(b).startsWith((byte) 12, (byte) 13, (byte) 14, (byte) 15);
+		assertThat(inputStream.read()).isEqualTo(-1);
+		file.close();
+	}
+
+	@Test
+	public void memoryMappedConcurrentReads() throws Exception {
+		RandomAccessDataFile file = new RandomAccessDataFile(this.tempFile, true);
+		ExecutorService executorService = Executors.newFixedThreadPool(20);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			results.add(executorService.submit(() -> {
+				InputStream subsectionInputStream = file.getSubsection(0, 256)
+						.getInputStream(ResourceAccess.PER_READ);
+				byte[] b = new byte[256];
+				subsectionInputStream.read(b);
+				return Arrays.equals(b, BYTES);
+			}));
+		}
+		for (Future<Boolean> future : results) {
+			assertThat(future.get()).isTrue();
+		}
+		executorService.shutdown();
+		file.close();
+	}
+
 	@Test
 	public void inputStreamRead() throws Exception {
 		for (int i = 0; i <= 255; i++) {
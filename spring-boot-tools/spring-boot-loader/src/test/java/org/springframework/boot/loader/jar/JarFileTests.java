@@ -26,7 +26,12 @@ import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
@@ -108,6 +113,63 @@ public class JarFileTests {
 		jarFile.close();
 	}
 
+	@Test
+	public void createFromFileWhenMemoryMapped() throws Exception {
+		System.setProperty("loader.mmap", "true");
+		try {
+			JarFile jarFile = new JarFile(this.rootJarFile);
+			assertThat(jarFile.getRootJarFile().isMemoryMapped()).isTrue();
+			assertThat(jarFile.getManifest().getMainAttributes().getValue("Built-By"))
+					.isEqualTo("j1");
+			JarFile nestedJarFile = jarFile
+					.getNestedJarFile(jarFile.getEntry("nested.jar"));
+			InputStream inputStream = nestedJarFile
+					.getInputStream(nestedJarFile.getEntry("3.dat"));
+			assertThat(inputStream.read()).isEqualTo(3);
+			assertThat(inputStream.read()).isEqualTo(-1);
+			jarFile.close();
+		}
+		finally {
+			System.clearProperty("loader.mmap");
+		}
+	}
+
+	@Test
+	public void getEntryIsCached() throws Exception {
+		ZipEntry entry = this.jarFile.getEntry("1.dat");
+		assertThat(this.jarFile.getEntry("1.dat")).isSameAs(entry);
+		this.jarFile.clearCache();
+		ZipEntry reloaded = this.jarFile.getEntry("1.dat");
+		assertThat(reloaded).isNotSameAs(entry);
+		assertThat(reloaded.getName()).isEqualTo(entry.getName());
+	}
+
+	@Test
+	public void concurrentGetEntry() throws Exception {
+		String[] names = { "1.dat", "2.dat", "d/9.dat", "special/\u00EB.dat",
+				"nested.jar", "another-nested.jar", "d/", "missing.dat" };
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			results.add(executorService.submit(() -> {
+				for (int j = 0; j < 1000; j++) {
+					for (String name : names) {
+						ZipEntry entry = this.jarFile.getEntry(name);
+						if (name.equals("missing.dat") ? entry != null
+								: !entry.getName().equals(name)) {
+							return false;
+						}
+					}
+				}
+				return true;
+			}));
+		}
+		for (Future<Boolean> result : results) {
+			assertThat(result.get()).isTrue();
+		}
+		executorService.shutdown();
+	}
+
 	@Test
 	public void getManifest() throws Exception {
 		assertThat(this.jarFile.getManifest().getMainAttributes().getValue("Built-By"))
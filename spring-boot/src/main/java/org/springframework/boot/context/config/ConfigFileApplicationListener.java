@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -298,6 +299,8 @@ public class ConfigFileApplicationListener
 
 		private Map<Profile, MutablePropertySources> loaded;
 
+		private final Map<String, Resource> resources = new HashMap<>();
+
 		Loader(ConfigurableEnvironment environment, ResourceLoader resourceLoader) {
 			this.environment = environment;
 			this.resourceLoader = resourceLoader == null ? new DefaultResourceLoader()
@@ -445,15 +448,13 @@ public class ConfigFileApplicationListener
 		private void load(PropertySourceLoader loader, Profile profile, String location,
 				String loadProfile) {
 			try {
-				Resource resource = this.resourceLoader.getResource(location);
-				String description = getDescription(profile, location, resource);
-				if (profile != null) {
-					description = description + " for profile " + profile;
-				}
-				if (resource == null || !resource.exists()) {
-					this.logger.trace("Skipped missing config " + description);
+				Resource resource = getResource(location);
+				if (resource == null) {
+					this.logger.trace("Skipped missing config "
+							+ getDescription(profile, location, null));
 					return;
 				}
+				String description = getDescription(profile, location, resource);
 				if (!StringUtils.hasText(
 						StringUtils.getFilenameExtension(resource.getFilename()))) {
 					this.logger.trace("Skipped empty config extension " + description);
@@ -477,8 +478,33 @@ public class ConfigFileApplicationListener
 			}
 		}
 
+		/**
+		 * Return the resource for the given location or {@code null} if it does not
+		 * exist. Results are cached, since the same locations are probed repeatedly for
+		 * each profile and file extension.
+		 * @param location the location of the resource
+		 * @return the existing resource or {@code null}
+		 */
+		private Resource getResource(String location) {
+			if (this.resources.containsKey(location)) {
+				return this.resources.get(location);
+			}
+			Resource resource = this.resourceLoader.getResource(location);
+			if (resource != null && !resource.exists()) {
+				resource = null;
+			}
+			this.resources.put(location, resource);
+			return resource;
+		}
+
 		private String getDescription(Profile profile, String location,
 				Resource resource) {
+			String description = getDescription(location, resource);
+			return (profile == null ? description
+					: description + " for profile " + profile);
+		}
+
+		private String getDescription(String location, Resource resource) {
 			try {
 				if (resource != null) {
 					String uri = resource.getURI().toASCIIString();
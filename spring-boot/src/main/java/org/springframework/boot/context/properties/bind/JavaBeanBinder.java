@@ -29,6 +29,7 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
 import org.springframework.core.ResolvableType;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link BeanBinder} for mutable Java Beans.
@@ -83,11 +84,15 @@ class JavaBeanBinder implements BeanBinder {
 	}
 
 	/**
-	 * The bean being bound.
+	 * The bean being bound. Introspected bean types are cached so that binding the same
+	 * type again does not need to use reflection. Only the properties of a bean are
+	 * cached: converters are already cached by the binder's conversion service for each
+	 * source and target type, and aggregate binders hold the state of a single bind
+	 * operation so they are created each time.
 	 */
 	private static class Bean<T> {
 
-		private static Bean<?> cached;
+		private static final Map<Class<?>, Bean<?>> cache = new ConcurrentReferenceHashMap<>();
 
 		private final Class<?> type;
 
@@ -179,10 +184,10 @@ class JavaBeanBinder implements BeanBinder {
 				T instance = value.get();
 				type = (instance != null ? instance.getClass() : type);
 			}
-			Bean<?> bean = Bean.cached;
-			if (bean == null || !type.equals(bean.getType())) {
+			Bean<?> bean = cache.get(type);
+			if (bean == null) {
 				bean = new Bean<>(type);
-				cached = bean;
+				cache.put(type, bean);
 			}
 			return (Bean<T>) bean;
 		}
@@ -235,6 +240,10 @@ class JavaBeanBinder implements BeanBinder {
 
 		private Field field;
 
+		private ResolvableType type;
+
+		private Annotation[] annotations;
+
 		BeanProperty(String name) {
 			this.name = BeanPropertyName.toDashedForm(name);
 		}
@@ -262,19 +271,31 @@ class JavaBeanBinder implements BeanBinder {
 		}
 
 		public ResolvableType getType() {
-			if (this.setter != null) {
-				return ResolvableType.forMethodParameter(this.setter, 0);
+			ResolvableType type = this.type;
+			if (type == null) {
+				type = (this.setter != null
+						? ResolvableType.forMethodParameter(this.setter, 0)
+						: ResolvableType.forMethodReturnType(this.getter));
+				this.type = type;
 			}
-			return ResolvableType.forMethodReturnType(this.getter);
+			return type;
 		}
 
 		public Annotation[] getAnnotations() {
-			try {
-				return (this.field == null ? null : this.field.getDeclaredAnnotations());
-			}
-			catch (Exception ex) {
+			if (this.field == null) {
 				return null;
 			}
+			Annotation[] annotations = this.annotations;
+			if (annotations == null) {
+				try {
+					annotations = this.field.getDeclaredAnnotations();
+				}
+				catch (Exception ex) {
+					return null;
+				}
+				this.annotations = annotations;
+			}
+			return annotations;
 		}
 
 		public Supplier<Object> getValue(Supplier<?> instance) {
@@ -43,6 +43,9 @@ import org.springframework.util.ObjectUtils;
  * <li>{@code log[org.springboot].level}</li>
  * </ul>
  *
+ * Names created using {@link #of(CharSequence)} from a {@link String} are cached so
+ * that repeated requests for the same name return the same instance.
+ *
  * @author Phillip Webb
  * @author Madhura Bhave
  * @since 2.0.0
@@ -54,6 +57,10 @@ public final class ConfigurationPropertyName
 
 	private static final String EMPTY_STRING = "";
 
+	private static final int CACHE_SIZE = 1024;
+
+	private static final CachedName[] cache = new CachedName[CACHE_SIZE];
+
 	/**
 	 * An empty {@link ConfigurationPropertyName}.
 	 */
@@ -64,18 +71,23 @@ public final class ConfigurationPropertyName
 
 	private final CharSequence[] uniformElements;
 
-	private int[] elementHashCodes;
+	private final int[] elementHashCodes;
+
+	private final int hashCode;
 
 	private String string;
 
 	private ConfigurationPropertyName(CharSequence[] elements) {
-		this(elements, new CharSequence[elements.length]);
+		this(elements, new CharSequence[elements.length],
+				getElementHashCodes(elements));
 	}
 
 	private ConfigurationPropertyName(CharSequence[] elements,
-			CharSequence[] uniformElements) {
+			CharSequence[] uniformElements, int[] elementHashCodes) {
 		this.elements = elements;
 		this.uniformElements = uniformElements;
+		this.elementHashCodes = elementHashCodes;
+		this.hashCode = ObjectUtils.nullSafeHashCode(elementHashCodes);
 	}
 
 	/**
@@ -157,6 +169,7 @@ public final class ConfigurationPropertyName
 				result = cleanupCharSequence(result, (c, i) -> c == '-' || c == '_',
 						CharProcessor.LOWERCASE);
 			}
+			result = result.toString();
 			this.uniformElements[elementIndex] = result;
 		}
 		return result.toString();
@@ -181,12 +194,14 @@ public final class ConfigurationPropertyName
 		if (elementValue == null) {
 			return this;
 		}
-		process(elementValue, '.', (value, start, end, indexed) -> Assert.isTrue(
-				start == 0,
-				() -> "Element value '" + elementValue + "' must be a single item"));
-		if (!isIndexed(elementValue)) {
-			InvalidConfigurationPropertyNameException.throwIfHasInvalidChars(elementValue,
-					ElementValidator.getInvalidChars(elementValue));
+		if (!isCanonicalElement(elementValue, 0, elementValue.length())) {
+			process(elementValue, '.', (value, start, end, indexed) -> Assert.isTrue(
+					start == 0,
+					() -> "Element value '" + elementValue + "' must be a single item"));
+			if (!isIndexed(elementValue)) {
+				InvalidConfigurationPropertyNameException.throwIfHasInvalidChars(
+						elementValue, ElementValidator.getInvalidChars(elementValue));
+			}
 		}
 		int length = this.elements.length;
 		CharSequence[] elements = new CharSequence[length + 1];
@@ -194,7 +209,11 @@ public final class ConfigurationPropertyName
 		elements[length] = elementValue;
 		CharSequence[] uniformElements = new CharSequence[length + 1];
 		System.arraycopy(this.uniformElements, 0, uniformElements, 0, length);
-		return new ConfigurationPropertyName(elements, uniformElements);
+		int[] elementHashCodes = new int[length + 1];
+		System.arraycopy(this.elementHashCodes, 0, elementHashCodes, 0, length);
+		elementHashCodes[length] = getElementHashCode(elementValue);
+		return new ConfigurationPropertyName(elements, uniformElements,
+				elementHashCodes);
 	}
 
 	/**
@@ -212,7 +231,10 @@ public final class ConfigurationPropertyName
 		System.arraycopy(this.elements, 0, elements, 0, size);
 		CharSequence[] uniformElements = new CharSequence[size];
 		System.arraycopy(this.uniformElements, 0, uniformElements, 0, size);
-		return new ConfigurationPropertyName(elements, uniformElements);
+		int[] elementHashCodes = new int[size];
+		System.arraycopy(this.elementHashCodes, 0, elementHashCodes, 0, size);
+		return new ConfigurationPropertyName(elements, uniformElements,
+				elementHashCodes);
 	}
 
 	/**
@@ -239,12 +261,7 @@ public final class ConfigurationPropertyName
 		if (this.getNumberOfElements() >= name.getNumberOfElements()) {
 			return false;
 		}
-		for (int i = 0; i < this.elements.length; i++) {
-			if (!elementEquals(this.elements[i], name.elements[i])) {
-				return false;
-			}
-		}
-		return true;
+		return elementsEqual(name, this.elements.length);
 	}
 
 	@Override
@@ -324,21 +341,18 @@ public final class ConfigurationPropertyName
 
 	@Override
 	public int hashCode() {
-		if (this.elementHashCodes == null) {
-			this.elementHashCodes = getElementHashCodes();
-		}
-		return ObjectUtils.nullSafeHashCode(this.elementHashCodes);
+		return this.hashCode;
 	}
 
-	private int[] getElementHashCodes() {
-		int[] hashCodes = new int[this.elements.length];
-		for (int i = 0; i < this.elements.length; i++) {
-			hashCodes[i] = getElementHashCode(this.elements[i]);
+	private static int[] getElementHashCodes(CharSequence[] elements) {
+		int[] hashCodes = new int[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			hashCodes[i] = getElementHashCode(elements[i]);
 		}
 		return hashCodes;
 	}
 
-	private int getElementHashCode(CharSequence element) {
+	private static int getElementHashCode(CharSequence element) {
 		int hash = 0;
 		boolean indexed = isIndexed(element);
 		int offset = (indexed ? 1 : 0);
@@ -359,11 +373,19 @@ public final class ConfigurationPropertyName
 			return false;
 		}
 		ConfigurationPropertyName other = (ConfigurationPropertyName) obj;
-		if (getNumberOfElements() != other.getNumberOfElements()) {
+		if (getNumberOfElements() != other.getNumberOfElements()
+				|| this.hashCode != other.hashCode) {
 			return false;
 		}
-		for (int i = 0; i < this.elements.length; i++) {
-			if (!elementEquals(this.elements[i], other.elements[i])) {
+		return elementsEqual(other, this.elements.length);
+	}
+
+	private boolean elementsEqual(ConfigurationPropertyName other, int size) {
+		for (int i = 0; i < size; i++) {
+			CharSequence e1 = this.elements[i];
+			CharSequence e2 = other.elements[i];
+			if (e1 != e2 && (this.elementHashCodes[i] != other.elementHashCodes[i]
+					|| !elementEquals(e1, e2))) {
 				return false;
 			}
 		}
@@ -443,6 +465,24 @@ public final class ConfigurationPropertyName
 	 */
 	public static ConfigurationPropertyName of(CharSequence name) {
 		Assert.notNull(name, "Name must not be null");
+		if (!(name instanceof String)) {
+			return parse(name);
+		}
+		int index = (name.hashCode() & (CACHE_SIZE - 1));
+		CachedName cached = cache[index];
+		if (cached != null && cached.source.equals(name)) {
+			return cached.name;
+		}
+		ConfigurationPropertyName result = parse(name);
+		cache[index] = new CachedName((String) name, result);
+		return result;
+	}
+
+	private static ConfigurationPropertyName parse(CharSequence name) {
+		ConfigurationPropertyName canonical = parseCanonical(name);
+		if (canonical != null) {
+			return canonical;
+		}
 		if (name.length() >= 1
 				&& (name.charAt(0) == '.' || name.charAt(name.length() - 1) == '.')) {
 			throw new InvalidConfigurationPropertyNameException(name,
@@ -465,6 +505,68 @@ public final class ConfigurationPropertyName
 				elements.toArray(new CharSequence[elements.size()]));
 	}
 
+	/**
+	 * Parse a name that only contains canonical elements, i.e. lower-case alpha-numeric
+	 * elements separated by single dots that may contain dashes. This is the form that
+	 * is most commonly used and it can be parsed in a single pass without the need for
+	 * any cleanup.
+	 * @param name the name to parse
+	 * @return the parsed name or {@code null} if the name is not canonical
+	 */
+	private static ConfigurationPropertyName parseCanonical(CharSequence name) {
+		int length = name.length();
+		int size = 1;
+		for (int i = 0; i < length; i++) {
+			if (name.charAt(i) == '.') {
+				size++;
+			}
+		}
+		CharSequence[] elements = new CharSequence[size];
+		CharSequence[] uniformElements = new CharSequence[size];
+		int[] elementHashCodes = new int[size];
+		int start = 0;
+		for (int elementIndex = 0; elementIndex < size; elementIndex++) {
+			int end = start;
+			int hash = 0;
+			boolean dashed = false;
+			while (end < length && name.charAt(end) != '.') {
+				char ch = name.charAt(end);
+				if (!ElementValidator.isValidChar(ch, end - start)) {
+					return null;
+				}
+				if (ch == '-') {
+					dashed = true;
+				}
+				else {
+					hash = 31 * hash + Character.hashCode(ch);
+				}
+				end++;
+			}
+			if (end == start) {
+				return null;
+			}
+			CharSequence element = name.subSequence(start, end);
+			elements[elementIndex] = element;
+			uniformElements[elementIndex] = (dashed ? null : element);
+			elementHashCodes[elementIndex] = hash;
+			start = end + 1;
+		}
+		return new ConfigurationPropertyName(elements, uniformElements,
+				elementHashCodes);
+	}
+
+	private static boolean isCanonicalElement(CharSequence name, int start, int end) {
+		if (end == start) {
+			return false;
+		}
+		for (int i = start; i < end; i++) {
+			if (!ElementValidator.isValidChar(name.charAt(i), i - start)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Create a {@link ConfigurationPropertyName} by adapting the given source. See
 	 * {@link #adapt(CharSequence, char, Function)} for details.
@@ -573,6 +675,22 @@ public final class ConfigurationPropertyName
 		return name;
 	}
 
+	/**
+	 * A cached name along with the source that it was parsed from.
+	 */
+	private static final class CachedName {
+
+		private final String source;
+
+		private final ConfigurationPropertyName name;
+
+		CachedName(String source, ConfigurationPropertyName name) {
+			this.source = source;
+			this.name = name;
+		}
+
+	}
+
 	/**
 	 * The various forms that a non-indexed element value can take.
 	 */
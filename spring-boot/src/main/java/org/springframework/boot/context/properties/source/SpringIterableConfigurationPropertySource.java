@@ -18,8 +18,12 @@ package org.springframework.boot.context.properties.source;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.springframework.core.env.EnumerablePropertySource;
@@ -71,7 +75,7 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 		ConfigurationProperty configurationProperty = super.getConfigurationProperty(
 				name);
 		if (configurationProperty == null) {
-			configurationProperty = find(getPropertyMappings(), name);
+			configurationProperty = find(getPropertyMappings(name), name);
 		}
 		return configurationProperty;
 	}
@@ -89,7 +93,12 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 	@Override
 	public ConfigurationPropertyState containsDescendantOf(
 			ConfigurationPropertyName name) {
-		return ConfigurationPropertyState.search(this, name::isAncestorOf);
+		Cache cache = getCache();
+		if (cache == null) {
+			return ConfigurationPropertyState.search(this, name::isAncestorOf);
+		}
+		return (getAncestors(cache).contains(name) ? ConfigurationPropertyState.PRESENT
+				: ConfigurationPropertyState.ABSENT);
 	}
 
 	private List<ConfigurationPropertyName> getConfigurationPropertyNames() {
@@ -128,6 +137,51 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 		return mappings;
 	}
 
+	private List<PropertyMapping> getPropertyMappings(ConfigurationPropertyName name) {
+		Cache cache = getCache();
+		if (cache == null) {
+			return getPropertyMappings();
+		}
+		List<PropertyMapping> mappings = getMappingIndex(cache).get(name);
+		return (mappings != null ? mappings : Collections.emptyList());
+	}
+
+	private Map<ConfigurationPropertyName, List<PropertyMapping>> getMappingIndex(
+			Cache cache) {
+		Map<ConfigurationPropertyName, List<PropertyMapping>> index = cache
+				.getMappingIndex();
+		if (index != null) {
+			return index;
+		}
+		List<PropertyMapping> mappings = getPropertyMappings();
+		index = new HashMap<>(mappings.size());
+		for (PropertyMapping mapping : mappings) {
+			index.computeIfAbsent(mapping.getConfigurationPropertyName(),
+					(key) -> new ArrayList<>(1)).add(mapping);
+		}
+		index = Collections.unmodifiableMap(index);
+		cache.setMappingIndex(index);
+		return index;
+	}
+
+	private Set<ConfigurationPropertyName> getAncestors(Cache cache) {
+		Set<ConfigurationPropertyName> ancestors = cache.getAncestors();
+		if (ancestors != null) {
+			return ancestors;
+		}
+		ancestors = new HashSet<>();
+		for (ConfigurationPropertyName name : getConfigurationPropertyNames()) {
+			for (int size = name.getNumberOfElements() - 1; size >= 0; size--) {
+				if (!ancestors.add(name.chop(size))) {
+					break;
+				}
+			}
+		}
+		ancestors = Collections.unmodifiableSet(ancestors);
+		cache.setAncestors(ancestors);
+		return ancestors;
+	}
+
 	private Cache getCache() {
 		Object cacheKey = getCacheKey();
 		if (cacheKey == null) {
@@ -159,6 +213,10 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 
 		private List<PropertyMapping> mappings;
 
+		private Map<ConfigurationPropertyName, List<PropertyMapping>> mappingIndex;
+
+		private Set<ConfigurationPropertyName> ancestors;
+
 		public List<ConfigurationPropertyName> getNames() {
 			return this.names;
 		}
@@ -175,6 +233,23 @@ class SpringIterableConfigurationPropertySource extends SpringConfigurationPrope
 			this.mappings = mappings;
 		}
 
+		public Map<ConfigurationPropertyName, List<PropertyMapping>> getMappingIndex() {
+			return this.mappingIndex;
+		}
+
+		public void setMappingIndex(
+				Map<ConfigurationPropertyName, List<PropertyMapping>> mappingIndex) {
+			this.mappingIndex = mappingIndex;
+		}
+
+		public Set<ConfigurationPropertyName> getAncestors() {
+			return this.ancestors;
+		}
+
+		public void setAncestors(Set<ConfigurationPropertyName> ancestors) {
+			this.ancestors = ancestors;
+		}
+
 	}
 
 }
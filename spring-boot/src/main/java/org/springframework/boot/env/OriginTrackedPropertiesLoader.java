@@ -19,14 +19,13 @@ package org.springframework.boot.env;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.LineNumberReader;
+import java.io.Reader;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.springframework.boot.origin.Origin;
 import org.springframework.boot.origin.OriginTrackedValue;
 import org.springframework.boot.origin.TextResourceOrigin;
-import org.springframework.boot.origin.TextResourceOrigin.Location;
 import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 
@@ -127,24 +126,39 @@ class OriginTrackedPropertiesLoader {
 		while (reader.isWhiteSpace() && !reader.isEndOfLine()) {
 			reader.read();
 		}
-		Location location = reader.getLocation();
+		int line = reader.getLineNumber();
+		int column = reader.getColumnNumber();
 		while (!reader.isEndOfLine() && !(splitLists && reader.isListDelimiter())) {
 			buffer.append(reader.getCharacter());
 			reader.read();
 		}
-		Origin origin = new TextResourceOrigin(this.resource, location);
+		Origin origin = new TextResourceOrigin(this.resource, line, column);
 		return OriginTrackedValue.of(buffer.toString().trim(), origin);
 	}
 
 	/**
 	 * Reads characters from the source resource, taking care of skipping comments,
-	 * handling multi-line values and tracking {@code '\'} escapes.
+	 * handling multi-line values and tracking {@code '\'} escapes. Characters are read in
+	 * blocks and {@code "\r\n"} or {@code '\r'} line endings are returned as
+	 * {@code '\n'}.
 	 */
 	private static class CharacterReader implements Closeable {
 
 		private static final String[] ESCAPES = { "trnf", "\t\r\n\f" };
 
-		private final LineNumberReader reader;
+		private static final int BUFFER_SIZE = 8192;
+
+		private final Reader reader;
+
+		private final char[] buffer = new char[BUFFER_SIZE];
+
+		private int position;
+
+		private int limit;
+
+		private boolean skipLineFeed;
+
+		private int lineNumber;
 
 		private int columnNumber = -1;
 
@@ -153,8 +167,7 @@ class OriginTrackedPropertiesLoader {
 		private int character;
 
 		CharacterReader(Resource resource) throws IOException {
-			this.reader = new LineNumberReader(
-					new InputStreamReader(resource.getInputStream()));
+			this.reader = new InputStreamReader(resource.getInputStream());
 		}
 
 		@Override
@@ -168,7 +181,7 @@ class OriginTrackedPropertiesLoader {
 
 		public boolean read(boolean wrappedLine) throws IOException {
 			this.escaped = false;
-			this.character = this.reader.read();
+			this.character = readCharacter();
 			this.columnNumber++;
 			if (this.columnNumber == 0) {
 				skipLeadingWhitespace();
@@ -188,7 +201,7 @@ class OriginTrackedPropertiesLoader {
 
 		private void skipLeadingWhitespace() throws IOException {
 			while (isWhiteSpace()) {
-				this.character = this.reader.read();
+				this.character = readCharacter();
 				this.columnNumber++;
 			}
 		}
@@ -196,7 +209,7 @@ class OriginTrackedPropertiesLoader {
 		private void skipComment() throws IOException {
 			if (this.character == '#' || this.character == '!') {
 				while (this.character != '\n' && this.character != -1) {
-					this.character = this.reader.read();
+					this.character = readCharacter();
 				}
 				this.columnNumber = -1;
 				read();
@@ -204,7 +217,7 @@ class OriginTrackedPropertiesLoader {
 		}
 
 		private void readEscaped() throws IOException {
-			this.character = this.reader.read();
+			this.character = readCharacter();
 			int escapeIndex = ESCAPES[0].indexOf(this.character);
 			if (escapeIndex != -1) {
 				this.character = ESCAPES[1].charAt(escapeIndex);
@@ -221,7 +234,7 @@ class OriginTrackedPropertiesLoader {
 		private void readUnicode() throws IOException {
 			this.character = 0;
 			for (int i = 0; i < 4; i++) {
-				int digit = this.reader.read();
+				int digit = readCharacter();
 				if (digit > -'0' && digit <= '9') {
 					this.character = (this.character << 4) + digit - '0';
 				}
@@ -237,6 +250,36 @@ class OriginTrackedPropertiesLoader {
 			}
 		}
 
+		private int readCharacter() throws IOException {
+			int character = readBufferedCharacter();
+			if (this.skipLineFeed) {
+				this.skipLineFeed = false;
+				if (character == '\n') {
+					character = readBufferedCharacter();
+				}
+			}
+			if (character == '\r') {
+				this.skipLineFeed = true;
+				character = '\n';
+			}
+			if (character == '\n') {
+				this.lineNumber++;
+			}
+			return character;
+		}
+
+		private int readBufferedCharacter() throws IOException {
+			if (this.position == this.limit) {
+				int amountRead = this.reader.read(this.buffer);
+				if (amountRead <= 0) {
+					return -1;
+				}
+				this.position = 0;
+				this.limit = amountRead;
+			}
+			return this.buffer[this.position++];
+		}
+
 		public boolean isWhiteSpace() {
 			return !this.escaped && (this.character == ' ' || this.character == '\t'
 					|| this.character == '\f');
@@ -262,8 +305,12 @@ class OriginTrackedPropertiesLoader {
 			return (char) this.character;
 		}
 
-		public Location getLocation() {
-			return new Location(this.reader.getLineNumber(), this.columnNumber);
+		public int getLineNumber() {
+			return this.lineNumber;
+		}
+
+		public int getColumnNumber() {
+			return this.columnNumber;
 		}
 
 	}
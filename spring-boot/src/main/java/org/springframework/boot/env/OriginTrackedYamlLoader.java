@@ -16,6 +16,8 @@
 
 package org.springframework.boot.env;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,16 +57,8 @@ class OriginTrackedYamlLoader extends YamlProcessor {
 
 	private final Resource resource;
 
-	OriginTrackedYamlLoader(Resource resource, String profile) {
+	OriginTrackedYamlLoader(Resource resource) {
 		this.resource = resource;
-		if (profile == null) {
-			setMatchDefault(true);
-			setDocumentMatchers(new OriginTrackedSpringProfileDocumentMatcher());
-		}
-		else {
-			setMatchDefault(false);
-			setDocumentMatchers(new OriginTrackedSpringProfileDocumentMatcher(profile));
-		}
 		setResources(resource);
 	}
 
@@ -77,10 +71,78 @@ class OriginTrackedYamlLoader extends YamlProcessor {
 		return new Yaml(constructor, representer, dumperOptions, resolver);
 	}
 
-	public Map<String, Object> load() {
-		final Map<String, Object> result = new LinkedHashMap<>();
-		process((properties, map) -> result.putAll(getFlattenedMap(map)));
-		return result;
+	/**
+	 * Load all documents contained in the resource in a single pass. The returned
+	 * {@link Documents} can be used to obtain the content for any profile without
+	 * parsing the resource again.
+	 * @return the loaded documents
+	 */
+	public Documents loadDocuments() {
+		List<Document> documents = new ArrayList<>();
+		process((properties, map) -> documents
+				.add(new Document(properties, getFlattenedMap(map))));
+		return new Documents(documents);
+	}
+
+	/**
+	 * All the documents loaded from a YAML resource.
+	 */
+	static final class Documents {
+
+		private final List<Document> documents;
+
+		private Documents(List<Document> documents) {
+			this.documents = Collections.unmodifiableList(documents);
+		}
+
+		/**
+		 * Return the merged content of all documents that match the given profile.
+		 * When no profile is given, documents that are not profile specific are
+		 * matched. Otherwise, only documents that are specific to the profile are
+		 * matched.
+		 * @param profile the profile to match or {@code null} for documents that are not
+		 * profile specific
+		 * @return the matching content
+		 */
+		public Map<String, Object> get(String profile) {
+			DocumentMatcher matcher = (profile == null
+					? new OriginTrackedSpringProfileDocumentMatcher()
+					: new OriginTrackedSpringProfileDocumentMatcher(profile));
+			Map<String, Object> result = new LinkedHashMap<>();
+			for (Document document : this.documents) {
+				MatchStatus status = matcher.matches(document.getProperties());
+				if (status == MatchStatus.FOUND
+						|| (status == MatchStatus.ABSTAIN && profile == null)) {
+					result.putAll(document.getContent());
+				}
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * A single document loaded from a YAML resource.
+	 */
+	private static final class Document {
+
+		private final Properties properties;
+
+		private final Map<String, Object> content;
+
+		Document(Properties properties, Map<String, Object> content) {
+			this.properties = properties;
+			this.content = content;
+		}
+
+		public Properties getProperties() {
+			return this.properties;
+		}
+
+		public Map<String, Object> getContent() {
+			return this.content;
+		}
+
 	}
 
 	/**
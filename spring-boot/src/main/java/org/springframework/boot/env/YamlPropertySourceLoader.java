@@ -19,12 +19,16 @@ package org.springframework.boot.env;
 import java.io.IOException;
 import java.util.Map;
 
+import org.springframework.boot.env.OriginTrackedYamlLoader.Documents;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
- * Strategy to load '.yml' (or '.yaml') files into a {@link PropertySource}.
+ * Strategy to load '.yml' (or '.yaml') files into a {@link PropertySource}. Each
+ * resource is parsed once per loader instance, with all of its documents retained so
+ * that subsequent requests for other profiles do not need to parse it again.
  *
  * @author Dave Syer
  * @author Phillip Webb
@@ -32,6 +36,8 @@ import org.springframework.util.ClassUtils;
  */
 public class YamlPropertySourceLoader implements PropertySourceLoader {
 
+	private final Map<Resource, CachedDocuments> cache = new ConcurrentReferenceHashMap<>();
+
 	@Override
 	public String[] getFileExtensions() {
 		return new String[] { "yml", "yaml" };
@@ -44,12 +50,58 @@ public class YamlPropertySourceLoader implements PropertySourceLoader {
 			throw new IllegalStateException("Attempted to load " + name
 					+ " but snakeyaml was not found on the classpath");
 		}
-		Map<String, Object> source = new OriginTrackedYamlLoader(resource, profile)
-				.load();
+		Map<String, Object> source = getDocuments(resource).get(profile);
 		if (!source.isEmpty()) {
 			return new OriginTrackedMapPropertySource(name, source);
 		}
 		return null;
 	}
 
+	private Documents getDocuments(Resource resource) {
+		long lastModified = getLastModified(resource);
+		CachedDocuments cached = this.cache.get(resource);
+		if (cached != null && cached.getLastModified() == lastModified) {
+			return cached.getDocuments();
+		}
+		Documents documents = new OriginTrackedYamlLoader(resource).loadDocuments();
+		if (lastModified != -1) {
+			this.cache.put(resource, new CachedDocuments(lastModified, documents));
+		}
+		return documents;
+	}
+
+	private long getLastModified(Resource resource) {
+		try {
+			return resource.lastModified();
+		}
+		catch (IOException ex) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Documents cached for a resource, along with the last modified time of the
+	 * resource when it was parsed.
+	 */
+	private static final class CachedDocuments {
+
+		private final long lastModified;
+
+		private final Documents documents;
+
+		CachedDocuments(long lastModified, Documents documents) {
+			this.lastModified = lastModified;
+			this.documents = documents;
+		}
+
+		public long getLastModified() {
+			return this.lastModified;
+		}
+
+		public Documents getDocuments() {
+			return this.documents;
+		}
+
+	}
+
 }
@@ -21,13 +21,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.util.StringUtils;
-
 /**
  * Really basic JSON parser for when you have nothing else available. Comes with some
- * limitations with respect to the JSON specification (e.g. only supports String values),
- * so users will probably prefer to have a library handle things instead (Jackson or Snake
- * YAML are supported).
+ * limitations with respect to the JSON specification (e.g. {@code true}, {@code false}
+ * and {@code null} are returned as String values), so users will probably prefer to have
+ * a library handle things instead (Jackson or Snake YAML are supported).
+ * <p>
+ * The JSON is parsed in a single pass without creating intermediate copies of the
+ * source. Keys must be quoted and quoted values are always returned as String values
+ * (e.g. {@code "8080"} is not converted to a number).
  *
  * @author Dave Syer
  * @author Jean de Klerk
@@ -38,124 +40,242 @@ public class BasicJsonParser implements JsonParser {
 
 	@Override
 	public Map<String, Object> parseMap(String json) {
-		if (json != null) {
-			json = json.trim();
-			if (json.startsWith("{")) {
-				return parseMapInternal(json);
-			}
-		}
-		throw new IllegalArgumentException("Cannot parse JSON");
+		Parser parser = getParser(json, '{');
+		Map<String, Object> map = parser.parseMap();
+		parser.finish();
+		return map;
 	}
 
 	@Override
 	public List<Object> parseList(String json) {
+		Parser parser = getParser(json, '[');
+		List<Object> list = parser.parseList();
+		parser.finish();
+		return list;
+	}
+
+	private Parser getParser(String json, char start) {
 		if (json != null) {
-			json = json.trim();
-			if (json.startsWith("[")) {
-				return parseListInternal(json);
+			Parser parser = new Parser(json);
+			if (parser.skipWhitespace() == start) {
+				return parser;
 			}
 		}
 		throw new IllegalArgumentException("Cannot parse JSON");
 	}
 
-	private List<Object> parseListInternal(String json) {
-		List<Object> list = new ArrayList<>();
-		json = trimLeadingCharacter(trimTrailingCharacter(json, ']'), '[');
-		for (String value : tokenize(json)) {
-			list.add(parseInternal(value));
-		}
-		return list;
-	}
+	/**
+	 * Index based parser for a single JSON source.
+	 */
+	private static final class Parser {
 
-	private Object parseInternal(String json) {
-		if (json.startsWith("[")) {
-			return parseListInternal(json);
-		}
-		if (json.startsWith("{")) {
-			return parseMapInternal(json);
+		private final String json;
+
+		private int index;
+
+		private StringBuilder buffer;
+
+		Parser(String json) {
+			this.json = json;
 		}
-		if (json.startsWith("\"")) {
-			return trimTrailingCharacter(trimLeadingCharacter(json, '"'), '"');
+
+		public Map<String, Object> parseMap() {
+			Map<String, Object> map = new LinkedHashMap<>();
+			expect('{');
+			if (skipWhitespace() == '}') {
+				this.index++;
+				return map;
+			}
+			do {
+				skipWhitespace();
+				String key = parseString();
+				skipWhitespace();
+				expect(':');
+				map.put(key, parseValue());
+			}
+			while (next(',', '}'));
+			return map;
 		}
-		try {
-			return Long.valueOf(json);
+
+		public List<Object> parseList() {
+			List<Object> list = new ArrayList<>();
+			expect('[');
+			if (skipWhitespace() == ']') {
+				this.index++;
+				return list;
+			}
+			do {
+				list.add(parseValue());
+			}
+			while (next(',', ']'));
+			return list;
 		}
-		catch (NumberFormatException ex) {
-			// ignore
+
+		public void finish() {
+			if (skipWhitespace() != -1) {
+				throw error("Unexpected content");
+			}
 		}
-		try {
-			return Double.valueOf(json);
+
+		private Object parseValue() {
+			int current = skipWhitespace();
+			if (current == '{') {
+				return parseMap();
+			}
+			if (current == '[') {
+				return parseList();
+			}
+			if (current == '"') {
+				return parseString();
+			}
+			return parseLiteral();
 		}
-		catch (NumberFormatException ex) {
-			// ignore
+
+		private String parseString() {
+			expect('"');
+			int start = this.index;
+			while (this.index < this.json.length()) {
+				char current = this.json.charAt(this.index);
+				if (current == '"') {
+					return this.json.substring(start, this.index++);
+				}
+				if (current == '\\') {
+					return parseEscapedString(start);
+				}
+				this.index++;
+			}
+			throw error("Unterminated string");
 		}
-		return json;
-	}
 
-	private static String trimTrailingCharacter(String string, char c) {
-		if (string.length() > 0 && string.charAt(string.length() - 1) == c) {
-			return string.substring(0, string.length() - 1);
+		private String parseEscapedString(int start) {
+			StringBuilder buffer = getBuffer();
+			buffer.append(this.json, start, this.index);
+			while (this.index < this.json.length()) {
+				char current = this.json.charAt(this.index++);
+				if (current == '"') {
+					return buffer.toString();
+				}
+				buffer.append(current == '\\' ? parseEscape() : current);
+			}
+			throw error("Unterminated string");
 		}
-		return string;
-	}
 
-	private static String trimLeadingCharacter(String string, char c) {
-		if (string.length() > 0 && string.charAt(0) == c) {
-			return string.substring(1);
+		private char parseEscape() {
+			if (this.index >= this.json.length()) {
+				throw error("Unterminated string");
+			}
+			char escaped = this.json.charAt(this.index++);
+			switch (escaped) {
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'u':
+				return parseUnicodeEscape();
+			default:
+				return escaped;
+			}
 		}
-		return string;
-	}
 
-	private Map<String, Object> parseMapInternal(String json) {
-		Map<String, Object> map = new LinkedHashMap<>();
-		json = trimLeadingCharacter(trimTrailingCharacter(json, '}'), '{');
-		for (String pair : tokenize(json)) {
-			String[] values = StringUtils.trimArrayElements(StringUtils.split(pair, ":"));
-			String key = trimLeadingCharacter(trimTrailingCharacter(values[0], '"'), '"');
-			Object value = null;
-			if (values.length > 0) {
-				String string = trimLeadingCharacter(
-						trimTrailingCharacter(values[1], '"'), '"');
-				value = parseInternal(string);
+		private char parseUnicodeEscape() {
+			if (this.index + 4 > this.json.length()) {
+				throw error("Malformed unicode escape");
 			}
-			map.put(key, value);
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(this.json.charAt(this.index++), 16);
+				if (digit == -1) {
+					throw error("Malformed unicode escape");
+				}
+				value = (value << 4) + digit;
+			}
+			return (char) value;
 		}
-		return map;
-	}
 
-	private List<String> tokenize(String json) {
-		List<String> list = new ArrayList<>();
-		int index = 0;
-		int inObject = 0;
-		int inList = 0;
-		StringBuilder build = new StringBuilder();
-		while (index < json.length()) {
-			char current = json.charAt(index);
-			if (current == '{') {
-				inObject++;
+		private Object parseLiteral() {
+			int start = this.index;
+			while (this.index < this.json.length()
+					&& !isLiteralEnd(this.json.charAt(this.index))) {
+				this.index++;
 			}
-			if (current == '}') {
-				inObject--;
+			if (start == this.index) {
+				throw error("Missing value");
 			}
-			if (current == '[') {
-				inList++;
+			String literal = this.json.substring(start, this.index);
+			if (isNumberStart(literal.charAt(0))) {
+				try {
+					return Long.valueOf(literal);
+				}
+				catch (NumberFormatException ex) {
+					// ignore
+				}
+				try {
+					return Double.valueOf(literal);
+				}
+				catch (NumberFormatException ex) {
+					// ignore
+				}
 			}
-			if (current == ']') {
-				inList--;
+			return literal;
+		}
+
+		private boolean isLiteralEnd(char character) {
+			return character == ',' || character == '}' || character == ']'
+					|| Character.isWhitespace(character);
+		}
+
+		private boolean isNumberStart(char character) {
+			return (character >= '0' && character <= '9') || character == '-'
+					|| character == '+' || character == '.';
+		}
+
+		private int skipWhitespace() {
+			while (this.index < this.json.length()) {
+				char current = this.json.charAt(this.index);
+				if (!Character.isWhitespace(current)) {
+					return current;
+				}
+				this.index++;
+			}
+			return -1;
+		}
+
+		private void expect(char expected) {
+			if (this.index >= this.json.length()
+					|| this.json.charAt(this.index) != expected) {
+				throw error("Expected '" + expected + "'");
 			}
-			if (current == ',' && inObject == 0 && inList == 0) {
-				list.add(build.toString());
-				build.setLength(0);
+			this.index++;
+		}
+
+		private boolean next(char separator, char end) {
+			int current = skipWhitespace();
+			if (current == separator || current == end) {
+				this.index++;
+				return current == separator;
 			}
-			else {
-				build.append(current);
+			throw error("Expected '" + separator + "' or '" + end + "'");
+		}
+
+		private StringBuilder getBuffer() {
+			if (this.buffer == null) {
+				this.buffer = new StringBuilder();
 			}
-			index++;
+			this.buffer.setLength(0);
+			return this.buffer;
 		}
-		if (build.length() > 0) {
-			list.add(build.toString());
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(
+					"Cannot parse JSON: " + message + " at index " + this.index);
 		}
-		return list;
+
 	}
 
 }
@@ -68,6 +68,38 @@ public class LoggingSystemProperties {
 	 */
 	public static final String LOG_LEVEL_PATTERN = "LOG_LEVEL_PATTERN";
 
+	/**
+	 * The name of the System property that contains the console log format.
+	 */
+	public static final String CONSOLE_LOG_FORMAT = "CONSOLE_LOG_FORMAT";
+
+	/**
+	 * The name of the System property that contains the file log format.
+	 */
+	public static final String FILE_LOG_FORMAT = "FILE_LOG_FORMAT";
+
+	/**
+	 * The name of the System property that indicates if logging is asynchronous.
+	 */
+	public static final String ASYNC_ENABLED = "LOG_ASYNC_ENABLED";
+
+	/**
+	 * The name of the System property that contains the asynchronous queue size.
+	 */
+	public static final String ASYNC_QUEUE_SIZE = "LOG_ASYNC_QUEUE_SIZE";
+
+	/**
+	 * The name of the System property that contains the remaining queue capacity below
+	 * which asynchronous logging discards events of level INFO and lower.
+	 */
+	public static final String ASYNC_DISCARDING_THRESHOLD = "LOG_ASYNC_DISCARDING_THRESHOLD";
+
+	/**
+	 * The name of the System property that indicates if asynchronous logging drops
+	 * events rather than blocking when the queue is full.
+	 */
+	public static final String ASYNC_NEVER_BLOCK = "LOG_ASYNC_NEVER_BLOCK";
+
 	private final Environment environment;
 
 	/**
@@ -90,6 +122,13 @@ public class LoggingSystemProperties {
 		setSystemProperty(resolver, CONSOLE_LOG_PATTERN, "pattern.console");
 		setSystemProperty(resolver, FILE_LOG_PATTERN, "pattern.file");
 		setSystemProperty(resolver, LOG_LEVEL_PATTERN, "pattern.level");
+		setSystemProperty(resolver, CONSOLE_LOG_FORMAT, "format.console");
+		setSystemProperty(resolver, FILE_LOG_FORMAT, "format.file");
+		setSystemProperty(resolver, ASYNC_ENABLED, "async.enabled");
+		setSystemProperty(resolver, ASYNC_QUEUE_SIZE, "async.queue-size");
+		setSystemProperty(resolver, ASYNC_DISCARDING_THRESHOLD,
+				"async.discarding-threshold");
+		setSystemProperty(resolver, ASYNC_NEVER_BLOCK, "async.never-block");
 		setSystemProperty(PID_KEY, new ApplicationPid().toString());
 		if (logFile != null) {
 			logFile.applyToSystemProperties();
@@ -19,11 +19,13 @@ package org.springframework.boot.logging.logback;
 import java.lang.reflect.Method;
 import java.nio.charset.Charset;
 
+import ch.qos.logback.classic.AsyncAppender;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.encoder.Encoder;
 import ch.qos.logback.core.rolling.FixedWindowRollingPolicy;
 import ch.qos.logback.core.rolling.RollingFileAppender;
 import ch.qos.logback.core.rolling.SizeBasedTriggeringPolicy;
@@ -59,17 +61,22 @@ class DefaultLogbackConfiguration {
 
 	private static final Charset UTF8 = Charset.forName("UTF-8");
 
-	private final PropertyResolver patterns;
+	private static final String JSON_FORMAT = "json";
+
+	private static final int DEFAULT_ASYNC_QUEUE_SIZE = 256;
+
+	private final PropertyResolver properties;
 
 	private final LogFile logFile;
 
 	DefaultLogbackConfiguration(LoggingInitializationContext initializationContext,
 			LogFile logFile) {
-		this.patterns = getPatternsResolver(initializationContext.getEnvironment());
+		this.properties = getPropertiesResolver(
+				initializationContext.getEnvironment());
 		this.logFile = logFile;
 	}
 
-	private PropertyResolver getPatternsResolver(Environment environment) {
+	private PropertyResolver getPropertiesResolver(Environment environment) {
 		if (environment == null) {
 			return new PropertySourcesPropertyResolver(null);
 		}
@@ -85,10 +92,11 @@ class DefaultLogbackConfiguration {
 	public void apply(LogbackConfigurator config) {
 		synchronized (config.getConfigurationLock()) {
 			base(config);
-			Appender<ILoggingEvent> consoleAppender = consoleAppender(config);
+			Appender<ILoggingEvent> consoleAppender = asyncIfEnabled(config, "CONSOLE",
+					consoleAppender(config));
 			if (this.logFile != null) {
-				Appender<ILoggingEvent> fileAppender = fileAppender(config,
-						this.logFile.toString());
+				Appender<ILoggingEvent> fileAppender = asyncIfEnabled(config, "FILE",
+						fileAppender(config, this.logFile.toString()));
 				config.root(Level.INFO, consoleAppender, fileAppender);
 			}
 			else {
@@ -118,13 +126,7 @@ class DefaultLogbackConfiguration {
 
 	private Appender<ILoggingEvent> consoleAppender(LogbackConfigurator config) {
 		ConsoleAppender<ILoggingEvent> appender = new ConsoleAppender<>();
-		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
-		String logPattern = this.patterns.getProperty("logging.pattern.console",
-				CONSOLE_LOG_PATTERN);
-		encoder.setPattern(OptionHelper.substVars(logPattern, config.getContext()));
-		encoder.setCharset(UTF8);
-		config.start(encoder);
-		appender.setEncoder(encoder);
+		appender.setEncoder(encoder(config, "console", CONSOLE_LOG_PATTERN, UTF8));
 		config.appender("CONSOLE", appender);
 		return appender;
 	}
@@ -132,12 +134,7 @@ class DefaultLogbackConfiguration {
 	private Appender<ILoggingEvent> fileAppender(LogbackConfigurator config,
 			String logFile) {
 		RollingFileAppender<ILoggingEvent> appender = new RollingFileAppender<>();
-		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
-		String logPattern = this.patterns.getProperty("logging.pattern.file",
-				FILE_LOG_PATTERN);
-		encoder.setPattern(OptionHelper.substVars(logPattern, config.getContext()));
-		appender.setEncoder(encoder);
-		config.start(encoder);
+		appender.setEncoder(encoder(config, "file", FILE_LOG_PATTERN, null));
 		appender.setFile(logFile);
 		setRollingPolicy(appender, config, logFile);
 		setMaxFileSize(appender, config);
@@ -145,6 +142,47 @@ class DefaultLogbackConfiguration {
 		return appender;
 	}
 
+	private Encoder<ILoggingEvent> encoder(LogbackConfigurator config, String type,
+			String defaultPattern, Charset charset) {
+		String format = this.properties.getProperty("logging.format." + type);
+		if (JSON_FORMAT.equalsIgnoreCase(format)) {
+			JsonEncoder encoder = new JsonEncoder();
+			config.start(encoder);
+			return encoder;
+		}
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		String logPattern = this.properties.getProperty("logging.pattern." + type,
+				defaultPattern);
+		encoder.setPattern(OptionHelper.substVars(logPattern, config.getContext()));
+		if (charset != null) {
+			encoder.setCharset(charset);
+		}
+		config.start(encoder);
+		return encoder;
+	}
+
+	private Appender<ILoggingEvent> asyncIfEnabled(LogbackConfigurator config,
+			String name, Appender<ILoggingEvent> appender) {
+		if (!this.properties.getProperty("logging.async.enabled", Boolean.class,
+				false)) {
+			return appender;
+		}
+		AsyncAppender asyncAppender = new AsyncAppender();
+		asyncAppender.setQueueSize(this.properties.getProperty(
+				"logging.async.queue-size", Integer.class, DEFAULT_ASYNC_QUEUE_SIZE));
+		Integer discardingThreshold = this.properties
+				.getProperty("logging.async.discarding-threshold", Integer.class);
+		if (discardingThreshold != null) {
+			asyncAppender.setDiscardingThreshold(discardingThreshold);
+		}
+		asyncAppender.setNeverBlock(this.properties
+				.getProperty("logging.async.never-block", Boolean.class, false));
+		asyncAppender.setIncludeCallerData(false);
+		asyncAppender.addAppender(appender);
+		config.appender("ASYNC_" + name, asyncAppender);
+		return asyncAppender;
+	}
+
 	private void setRollingPolicy(RollingFileAppender<ILoggingEvent> appender,
 			LogbackConfigurator config, String logFile) {
 		FixedWindowRollingPolicy rollingPolicy = new FixedWindowRollingPolicy();
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.logging.logback;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import org.springframework.boot.logging.LoggingSystemProperties;
+
+/**
+ * Logback {@link Encoder} that writes each event as a single line of JSON. Events are
+ * encoded directly to UTF-8 bytes, without building an intermediate {@link String} for
+ * the line. The following members are written:
+ * <ul>
+ * <li>{@code @timestamp} - the time of the event in ISO-8601 format in UTC</li>
+ * <li>{@code level} - the level of the event</li>
+ * <li>{@code pid} - the process ID, when known</li>
+ * <li>{@code thread} - the name of the thread that logged the event</li>
+ * <li>{@code logger} - the name of the logger</li>
+ * <li>{@code message} - the formatted message</li>
+ * <li>{@code mdc} - the MDC properties, when present</li>
+ * <li>{@code exception} - the stack trace, when an exception was logged</li>
+ * </ul>
+ *
+ * @author Phillip Webb
+ * @since 2.0.0
+ */
+public class JsonEncoder extends EncoderBase<ILoggingEvent> {
+
+	private static final int MIN_BUFFER_SIZE = 256;
+
+	private static final int MAX_BUFFER_SIZE = 8192;
+
+	private static final byte[] HEX = "0123456789abcdef"
+			.getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] LINE_SEPARATOR = CoreConstants.LINE_SEPARATOR
+			.getBytes(StandardCharsets.US_ASCII);
+
+	private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+	private String pid;
+
+	private volatile int bufferSize = MIN_BUFFER_SIZE;
+
+	private volatile CachedDate cachedDate;
+
+	@Override
+	public void start() {
+		this.pid = System.getProperty(LoggingSystemProperties.PID_KEY);
+		super.start();
+	}
+
+	@Override
+	public byte[] headerBytes() {
+		return null;
+	}
+
+	@Override
+	public byte[] encode(ILoggingEvent event) {
+		JsonWriter writer = new JsonWriter(this.bufferSize);
+		writer.write('{');
+		writer.writeName("@timestamp");
+		writeTimestamp(writer, event.getTimeStamp());
+		writer.write(',');
+		writer.writeName("level");
+		writer.writeString(event.getLevel().toString());
+		if (this.pid != null) {
+			writer.write(',');
+			writer.writeName("pid");
+			writer.writeString(this.pid);
+		}
+		writer.write(',');
+		writer.writeName("thread");
+		writer.writeString(event.getThreadName());
+		writer.write(',');
+		writer.writeName("logger");
+		writer.writeString(event.getLoggerName());
+		writer.write(',');
+		writer.writeName("message");
+		writer.writeString(event.getFormattedMessage());
+		writeMdc(writer, event.getMDCPropertyMap());
+		IThrowableProxy throwableProxy = event.getThrowableProxy();
+		if (throwableProxy != null) {
+			writer.write(',');
+			writer.writeName("exception");
+			writer.writeString(ThrowableProxyUtil.asString(throwableProxy));
+		}
+		writer.write('}');
+		writer.write(LINE_SEPARATOR);
+		byte[] bytes = writer.toByteArray();
+		this.bufferSize = Math.max(MIN_BUFFER_SIZE,
+				Math.min(MAX_BUFFER_SIZE, bytes.length));
+		return bytes;
+	}
+
+	private void writeTimestamp(JsonWriter writer, long timestamp) {
+		long day = Math.floorDiv(timestamp, MILLIS_PER_DAY);
+		int millisOfDay = (int) Math.floorMod(timestamp, MILLIS_PER_DAY);
+		CachedDate date = this.cachedDate;
+		if (date == null || date.day != day) {
+			date = new CachedDate(day);
+			this.cachedDate = date;
+		}
+		writer.write('"');
+		writer.write(date.bytes);
+		writer.write('T');
+		writer.writeDigits(millisOfDay / 3600000, 2);
+		writer.write(':');
+		writer.writeDigits((millisOfDay / 60000) % 60, 2);
+		writer.write(':');
+		writer.writeDigits((millisOfDay / 1000) % 60, 2);
+		writer.write('.');
+		writer.writeDigits(millisOfDay % 1000, 3);
+		writer.write('Z');
+		writer.write('"');
+	}
+
+	private void writeMdc(JsonWriter writer, Map<String, String> mdc) {
+		if (mdc == null || mdc.isEmpty()) {
+			return;
+		}
+		writer.write(',');
+		writer.writeName("mdc");
+		writer.write('{');
+		boolean first = true;
+		for (Map.Entry<String, String> entry : mdc.entrySet()) {
+			if (!first) {
+				writer.write(',');
+			}
+			writer.writeString(entry.getKey());
+			writer.write(':');
+			writer.writeString(entry.getValue());
+			first = false;
+		}
+		writer.write('}');
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+
+	/**
+	 * The ISO-8601 bytes of a date, cached as most events share the same day.
+	 */
+	private static final class CachedDate {
+
+		private final long day;
+
+		private final byte[] bytes;
+
+		CachedDate(long day) {
+			this.day = day;
+			this.bytes = LocalDate.ofEpochDay(day).toString()
+					.getBytes(StandardCharsets.US_ASCII);
+		}
+
+	}
+
+	/**
+	 * Minimal writer of JSON to a growable array of UTF-8 bytes.
+	 */
+	private static final class JsonWriter {
+
+		private byte[] bytes;
+
+		private int count;
+
+		JsonWriter(int initialSize) {
+			this.bytes = new byte[initialSize];
+		}
+
+		void write(char ch) {
+			ensureCapacity(1);
+			this.bytes[this.count++] = (byte) ch;
+		}
+
+		void write(byte[] bytes) {
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.bytes, this.count, bytes.length);
+			this.count += bytes.length;
+		}
+
+		void writeDigits(int value, int width) {
+			ensureCapacity(width);
+			for (int i = width - 1; i >= 0; i--) {
+				this.bytes[this.count + i] = (byte) ('0' + value % 10);
+				value /= 10;
+			}
+			this.count += width;
+		}
+
+		void writeName(String name) {
+			writeString(name);
+			write(':');
+		}
+
+		void writeString(CharSequence value) {
+			if (value == null) {
+				ensureCapacity(4);
+				this.bytes[this.count++] = 'n';
+				this.bytes[this.count++] = 'u';
+				this.bytes[this.count++] = 'l';
+				this.bytes[this.count++] = 'l';
+				return;
+			}
+			int length = value.length();
+			ensureCapacity(length + 2);
+			this.bytes[this.count++] = '"';
+			for (int i = 0; i < length; i++) {
+				char ch = value.charAt(i);
+				if (ch >= 0x20 && ch < 0x80 && ch != '"' && ch != '\\') {
+					ensureCapacity(2);
+					this.bytes[this.count++] = (byte) ch;
+				}
+				else if (ch < 0x80) {
+					writeEscaped(ch);
+				}
+				else if (Character.isHighSurrogate(ch) && i + 1 < length
+						&& Character.isLowSurrogate(value.charAt(i + 1))) {
+					writeUtf8(Character.toCodePoint(ch, value.charAt(++i)));
+				}
+				else {
+					writeUtf8(Character.isSurrogate(ch) ? '?' : ch);
+				}
+			}
+			write('"');
+		}
+
+		private void writeEscaped(char ch) {
+			ensureCapacity(7);
+			this.bytes[this.count++] = '\\';
+			switch (ch) {
+			case '"':
+			case '\\':
+				this.bytes[this.count++] = (byte) ch;
+				break;
+			case '\n':
+				this.bytes[this.count++] = 'n';
+				break;
+			case '\r':
+				this.bytes[this.count++] = 'r';
+				break;
+			case '\t':
+				this.bytes[this.count++] = 't';
+				break;
+			default:
+				this.bytes[this.count++] = 'u';
+				this.bytes[this.count++] = '0';
+				this.bytes[this.count++] = '0';
+				this.bytes[this.count++] = HEX[ch >> 4];
+				this.bytes[this.count++] = HEX[ch & 0xF];
+			}
+		}
+
+		private void writeUtf8(int codePoint) {
+			ensureCapacity(5);
+			if (codePoint < 0x80) {
+				this.bytes[this.count++] = (byte) codePoint;
+			}
+			else if (codePoint < 0x800) {
+				this.bytes[this.count++] = (byte) (0xC0 | (codePoint >> 6));
+				this.bytes[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+			}
+			else if (codePoint < 0x10000) {
+				this.bytes[this.count++] = (byte) (0xE0 | (codePoint >> 12));
+				this.bytes[this.count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				this.bytes[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+			}
+			else {
+				this.bytes[this.count++] = (byte) (0xF0 | (codePoint >> 18));
+				this.bytes[this.count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				this.bytes[this.count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				this.bytes[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+			}
+		}
+
+		private void ensureCapacity(int additional) {
+			int required = this.count + additional;
+			if (required > this.bytes.length) {
+				this.bytes = Arrays.copyOf(this.bytes,
+						Math.max(required, this.bytes.length * 2));
+			}
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(this.bytes, this.count);
+		}
+
+	}
+
+}
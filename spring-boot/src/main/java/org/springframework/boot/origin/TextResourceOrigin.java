@@ -29,13 +29,32 @@ import org.springframework.util.ObjectUtils;
  */
 public class TextResourceOrigin implements Origin {
 
+	private static final long NO_LOCATION = Long.MIN_VALUE;
+
 	private final Resource resource;
 
-	private final Location location;
+	private final long location;
 
 	public TextResourceOrigin(Resource resource, Location location) {
 		this.resource = resource;
-		this.location = location;
+		this.location = (location == null ? NO_LOCATION
+				: pack(location.getLine(), location.getColumn()));
+	}
+
+	/**
+	 * Create a new {@link TextResourceOrigin} instance for the given line and column.
+	 * The {@link Location} is only created when {@link #getLocation()} is called.
+	 * @param resource the text resource
+	 * @param line the line number (zero indexed)
+	 * @param column the column number (zero indexed)
+	 */
+	public TextResourceOrigin(Resource resource, int line, int column) {
+		this.resource = resource;
+		this.location = pack(line, column);
+	}
+
+	private static long pack(int line, int column) {
+		return ((long) line << 32) | (column & 0xFFFFFFFFL);
 	}
 
 	/**
@@ -51,14 +70,17 @@ public class TextResourceOrigin implements Origin {
 	 * @return the location or {@code null}
 	 */
 	public Location getLocation() {
-		return this.location;
+		if (this.location == NO_LOCATION) {
+			return null;
+		}
+		return new Location((int) (this.location >> 32), (int) this.location);
 	}
 
 	@Override
 	public int hashCode() {
 		int result = 1;
 		result = 31 * result + ObjectUtils.nullSafeHashCode(this.resource);
-		result = 31 * result + ObjectUtils.nullSafeHashCode(this.location);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(getLocation());
 		return result;
 	}
 
@@ -74,7 +96,7 @@ public class TextResourceOrigin implements Origin {
 			TextResourceOrigin other = (TextResourceOrigin) obj;
 			boolean result = true;
 			result = result && ObjectUtils.nullSafeEquals(this.resource, other.resource);
-			result = result && ObjectUtils.nullSafeEquals(this.location, other.location);
+			result = result && this.location == other.location;
 			return result;
 		}
 		return super.equals(obj);
@@ -85,8 +107,9 @@ public class TextResourceOrigin implements Origin {
 		StringBuilder result = new StringBuilder();
 		result.append(this.resource == null ? "unknown resource [?]"
 				: this.resource.getDescription());
-		if (this.location != null) {
-			result.append(":").append(this.location);
+		Location location = getLocation();
+		if (location != null) {
+			result.append(":").append(location);
 		}
 		return result.toString();
 	}
@@ -16,13 +16,27 @@
 
 package org.springframework.boot.web.embedded.netty;
 
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
 import reactor.ipc.netty.http.server.HttpServer;
+import reactor.ipc.netty.http.server.HttpServerOptions;
+import reactor.ipc.netty.resources.LoopResources;
 
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
 import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.util.Assert;
 
 /**
  * {@link ReactiveWebServerFactory} that can be used to create {@link NettyWebServer}s.
@@ -32,6 +46,16 @@ import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
  */
 public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFactory {
 
+	private List<NettyServerCustomizer> serverCustomizers = new ArrayList<>();
+
+	private Integer selectorThreads;
+
+	private Integer workerThreads;
+
+	private Boolean preferNative;
+
+	private Duration idleTimeout;
+
 	public NettyReactiveWebServerFactory() {
 	}
 
@@ -41,21 +65,147 @@ public class NettyReactiveWebServerFactory extends AbstractReactiveWebServerFact
 
 	@Override
 	public WebServer getWebServer(HttpHandler httpHandler) {
-		HttpServer server = createHttpServer();
+		LoopResources loopResources = createLoopResources();
+		HttpServer server = createHttpServer(loopResources);
 		ReactorHttpHandlerAdapter handlerAdapter = new ReactorHttpHandlerAdapter(
 				httpHandler);
-		return new NettyWebServer(server, handlerAdapter);
+		return new NettyWebServer(server, handlerAdapter, loopResources);
+	}
+
+	private LoopResources createLoopResources() {
+		if (this.selectorThreads == null && this.workerThreads == null) {
+			return null;
+		}
+		int workerThreads = (this.workerThreads != null ? this.workerThreads
+				: LoopResources.DEFAULT_IO_WORKER_COUNT);
+		if (this.selectorThreads == null) {
+			return LoopResources.create("reactor-http-server", workerThreads, true);
+		}
+		return LoopResources.create("reactor-http-server", this.selectorThreads,
+				workerThreads, true);
+	}
+
+	private HttpServer createHttpServer(LoopResources loopResources) {
+		return HttpServer.create((options) -> {
+			options.listenAddress(getListenAddress());
+			if (loopResources != null) {
+				options.loopResources(loopResources);
+			}
+			if (this.preferNative != null) {
+				options.preferNative(this.preferNative);
+			}
+			if (this.idleTimeout != null) {
+				long idleTimeout = this.idleTimeout.toMillis();
+				options.afterChannelInit((channel) -> channel.pipeline()
+						.addFirst(new IdleConnectionHandler(idleTimeout)));
+			}
+			if (getSsl() != null && getSsl().isEnabled()) {
+				new SslServerCustomizer(getSsl(), getSslStoreProvider())
+						.customize(options);
+			}
+			if (getCompression() != null && getCompression().getEnabled()) {
+				options.compression(getCompression().getMinResponseSize());
+			}
+			applyCustomizers(options);
+		});
 	}
 
-	private HttpServer createHttpServer() {
-		HttpServer server;
+	private InetSocketAddress getListenAddress() {
 		if (getAddress() != null) {
-			server = HttpServer.create(getAddress().getHostAddress(), getPort());
+			return new InetSocketAddress(getAddress().getHostAddress(), getPort());
 		}
-		else {
-			server = HttpServer.create(getPort());
+		return new InetSocketAddress(getPort());
+	}
+
+	private void applyCustomizers(HttpServerOptions.Builder options) {
+		for (NettyServerCustomizer customizer : this.serverCustomizers) {
+			customizer.customize(options);
 		}
-		return server;
+	}
+
+	/**
+	 * Set the number of selector threads that accept connections. If not specified the
+	 * worker threads are also used to accept connections.
+	 * @param selectorThreads the number of selector threads
+	 */
+	public void setSelectorThreads(Integer selectorThreads) {
+		this.selectorThreads = selectorThreads;
+	}
+
+	/**
+	 * Set the number of worker threads that handle connections. If not specified, and
+	 * no selector threads are specified, the event loops that are shared by all Reactor
+	 * Netty servers and clients are used.
+	 * @param workerThreads the number of worker threads
+	 */
+	public void setWorkerThreads(Integer workerThreads) {
+		this.workerThreads = workerThreads;
+	}
+
+	/**
+	 * Set if a native transport, such as epoll, should be used when it is available. If
+	 * not specified Reactor Netty's default is used.
+	 * @param preferNative if a native transport should be used
+	 */
+	public void setPreferNative(Boolean preferNative) {
+		this.preferNative = preferNative;
+	}
+
+	/**
+	 * Set the amount of time that a connection can be idle, without anything being read
+	 * or written, before it is closed. If not specified connections are not closed when
+	 * they are idle.
+	 * @param idleTimeout the idle timeout
+	 */
+	public void setIdleTimeout(Duration idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Sets {@link NettyServerCustomizer}s that will be applied to the options of the
+	 * server before it is created. Calling this method will replace any existing
+	 * customizers.
+	 * @param customizers the customizers to apply
+	 */
+	public void setServerCustomizers(
+			Collection<? extends NettyServerCustomizer> customizers) {
+		Assert.notNull(customizers, "Customizers must not be null");
+		this.serverCustomizers = new ArrayList<>(customizers);
+	}
+
+	/**
+	 * Returns a mutable collection of the {@link NettyServerCustomizer}s that will be
+	 * applied to the options of the server before it is created.
+	 * @return the customizers
+	 */
+	public Collection<NettyServerCustomizer> getServerCustomizers() {
+		return this.serverCustomizers;
+	}
+
+	/**
+	 * Add {@link NettyServerCustomizer}s that will be applied to the options of the
+	 * server before it is created.
+	 * @param customizers the customizers to add
+	 */
+	public void addServerCustomizers(NettyServerCustomizer... customizers) {
+		Assert.notNull(customizers, "Customizers must not be null");
+		this.serverCustomizers.addAll(Arrays.asList(customizers));
+	}
+
+	/**
+	 * {@link IdleStateHandler} that closes the connection when it is idle.
+	 */
+	private static final class IdleConnectionHandler extends IdleStateHandler {
+
+		IdleConnectionHandler(long idleTimeout) {
+			super(0, 0, idleTimeout, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent event) {
+			ctx.close();
+		}
+
 	}
 
 }
@@ -24,6 +24,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import reactor.ipc.netty.http.HttpResources;
 import reactor.ipc.netty.http.server.HttpServer;
+import reactor.ipc.netty.resources.LoopResources;
 import reactor.ipc.netty.tcp.BlockingNettyContext;
 
 import org.springframework.boot.web.server.PortInUseException;
@@ -49,12 +50,28 @@ public class NettyWebServer implements WebServer {
 
 	private final HttpServer reactorServer;
 
+	private final LoopResources loopResources;
+
 	private BlockingNettyContext nettyContext;
 
 	public NettyWebServer(HttpServer reactorServer,
 			ReactorHttpHandlerAdapter handlerAdapter) {
+		this(reactorServer, handlerAdapter, null);
+	}
+
+	/**
+	 * Create a new {@link NettyWebServer} instance.
+	 * @param reactorServer the Reactor Netty server
+	 * @param handlerAdapter the handler adapter
+	 * @param loopResources the loop resources used by the server that should be
+	 * disposed when it is stopped or {@code null} if the server uses the shared loop
+	 * resources
+	 */
+	public NettyWebServer(HttpServer reactorServer,
+			ReactorHttpHandlerAdapter handlerAdapter, LoopResources loopResources) {
 		this.reactorServer = reactorServer;
 		this.handlerAdapter = handlerAdapter;
+		this.loopResources = loopResources;
 	}
 
 	@Override
@@ -64,6 +81,7 @@ public class NettyWebServer implements WebServer {
 				this.nettyContext = this.reactorServer.start(this.handlerAdapter);
 			}
 			catch (Exception ex) {
+				disposeLoopResources();
 				if (findBindException(ex) != null) {
 					SocketAddress address = this.reactorServer.options().getAddress();
 					if (address instanceof InetSocketAddress) {
@@ -110,10 +128,17 @@ public class NettyWebServer implements WebServer {
 			// temporary fix for gh-9146
 			this.nettyContext.getContext().onClose()
 					.doOnSuccess((o) -> HttpResources.reset()).block();
+			disposeLoopResources();
 			this.nettyContext = null;
 		}
 	}
 
+	private void disposeLoopResources() {
+		if (this.loopResources != null) {
+			this.loopResources.dispose();
+		}
+	}
+
 	@Override
 	public int getPort() {
 		if (this.nettyContext != null) {
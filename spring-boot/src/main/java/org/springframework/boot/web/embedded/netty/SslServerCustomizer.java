@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.embedded.netty;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.SslContextBuilder;
+import reactor.ipc.netty.http.server.HttpServerOptions;
+
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.boot.web.server.SslStoreProvider;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * {@link NettyServerCustomizer} that configures SSL for the given Reactor Netty server.
+ *
+ * @author Phillip Webb
+ */
+class SslServerCustomizer implements NettyServerCustomizer {
+
+	private final Ssl ssl;
+
+	private final SslStoreProvider sslStoreProvider;
+
+	SslServerCustomizer(Ssl ssl, SslStoreProvider sslStoreProvider) {
+		this.ssl = ssl;
+		this.sslStoreProvider = sslStoreProvider;
+	}
+
+	@Override
+	public void customize(HttpServerOptions.Builder builder) {
+		try {
+			SslContextBuilder sslBuilder = getContextBuilder();
+			sslBuilder.trustManager(getTrustManagerFactory());
+			sslBuilder.clientAuth(getClientAuth());
+			if (this.ssl.getEnabledProtocols() != null) {
+				sslBuilder.protocols(this.ssl.getEnabledProtocols());
+			}
+			if (this.ssl.getCiphers() != null) {
+				sslBuilder.ciphers(Arrays.asList(this.ssl.getCiphers()));
+			}
+			builder.sslContext(sslBuilder.build());
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private SslContextBuilder getContextBuilder() throws Exception {
+		KeyStore keyStore = getKeyStore();
+		char[] keyPassword = getKeyPassword();
+		if (this.ssl.getKeyAlias() != null) {
+			String alias = this.ssl.getKeyAlias();
+			PrivateKey key = (PrivateKey) keyStore.getKey(alias, keyPassword);
+			Certificate[] chain = keyStore.getCertificateChain(alias);
+			if (key == null || chain == null) {
+				throw new IllegalStateException(
+						"Key alias '" + alias + "' not found in key store");
+			}
+			return SslContextBuilder.forServer(key,
+					Arrays.copyOf(chain, chain.length, X509Certificate[].class));
+		}
+		KeyManagerFactory keyManagerFactory = KeyManagerFactory
+				.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keyManagerFactory.init(keyStore, keyPassword);
+		return SslContextBuilder.forServer(keyManagerFactory);
+	}
+
+	private char[] getKeyPassword() {
+		if (this.ssl.getKeyPassword() != null) {
+			return this.ssl.getKeyPassword().toCharArray();
+		}
+		if (this.ssl.getKeyStorePassword() != null) {
+			return this.ssl.getKeyStorePassword().toCharArray();
+		}
+		return null;
+	}
+
+	private ClientAuth getClientAuth() {
+		if (this.ssl.getClientAuth() == Ssl.ClientAuth.NEED) {
+			return ClientAuth.REQUIRE;
+		}
+		if (this.ssl.getClientAuth() == Ssl.ClientAuth.WANT) {
+			return ClientAuth.OPTIONAL;
+		}
+		return ClientAuth.NONE;
+	}
+
+	private KeyStore getKeyStore() throws Exception {
+		if (this.sslStoreProvider != null) {
+			return this.sslStoreProvider.getKeyStore();
+		}
+		return loadKeyStore(this.ssl.getKeyStoreType(), this.ssl.getKeyStore(),
+				this.ssl.getKeyStorePassword());
+	}
+
+	private TrustManagerFactory getTrustManagerFactory() throws Exception {
+		KeyStore store = getTrustStore();
+		TrustManagerFactory trustManagerFactory = TrustManagerFactory
+				.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		trustManagerFactory.init(store);
+		return trustManagerFactory;
+	}
+
+	private KeyStore getTrustStore() throws Exception {
+		if (this.sslStoreProvider != null) {
+			return this.sslStoreProvider.getTrustStore();
+		}
+		return loadKeyStore(this.ssl.getTrustStoreType(), this.ssl.getTrustStore(),
+				this.ssl.getTrustStorePassword());
+	}
+
+	private KeyStore loadKeyStore(String type, String resource, String password)
+			throws Exception {
+		type = (type == null ? "JKS" : type);
+		if (resource == null) {
+			return null;
+		}
+		KeyStore store = KeyStore.getInstance(type);
+		URL url = ResourceUtils.getURL(resource);
+		try (InputStream stream = url.openStream()) {
+			store.load(stream, password == null ? null : password.toCharArray());
+		}
+		return store;
+	}
+
+}
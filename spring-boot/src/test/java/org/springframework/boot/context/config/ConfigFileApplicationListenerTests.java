@@ -57,6 +57,7 @@ import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.SimpleCommandLinePropertySource;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.test.context.support.TestPropertySourceUtils;
@@ -124,6 +125,31 @@ public class ConfigFileApplicationListenerTests {
 		assertThat(property).isEqualTo("fromcustom");
 	}
 
+	@Test
+	public void repeatedlyProbedLocationsAreOnlyResolvedOnce() throws Exception {
+		Map<String, Integer> resolved = new HashMap<>();
+		DefaultResourceLoader delegate = new DefaultResourceLoader();
+		this.application.setResourceLoader(new ResourceLoader() {
+			@Override
+			public Resource getResource(String location) {
+				resolved.merge(location, 1, Integer::sum);
+				return delegate.getResource(location);
+			}
+
+			@Override
+			public ClassLoader getClassLoader() {
+				return delegate.getClassLoader();
+			}
+		});
+		this.environment.setActiveProfiles("other", "dev");
+		this.initializer.postProcessEnvironment(this.environment, this.application);
+		assertThat(this.environment.getProperty("my.property"))
+				.isEqualTo("fromdevpropertiesfile");
+		assertThat(resolved).containsKeys("classpath:/application.properties",
+				"classpath:/application-other.properties");
+		assertThat(resolved.values()).containsOnly(1);
+	}
+
 	@Test
 	public void loadPropertiesFile() throws Exception {
 		this.initializer.setSearchNames("testproperties");
@@ -460,6 +460,22 @@ public class JavaBeanBinderTests {
 		assertThat(bean.getDate().toString()).isEqualTo("2014-04-01");
 	}
 
+	@Test
+	public void bindToDifferentTypesRepeatedlyShouldBind() throws Exception {
+		MockConfigurationPropertySource source = new MockConfigurationPropertySource();
+		source.put("foo.value-bean.int-value", "123");
+		source.put("bar.date", "2014-04-01");
+		this.sources.add(source);
+		for (int i = 0; i < 3; i++) {
+			ExampleNestedBean nested = this.binder
+					.bind("foo", Bindable.of(ExampleNestedBean.class)).get();
+			assertThat(nested.getValueBean().getIntValue()).isEqualTo(123);
+			ConverterAnnotatedExampleBean annotated = this.binder
+					.bind("bar", Bindable.of(ConverterAnnotatedExampleBean.class)).get();
+			assertThat(annotated.getDate().toString()).isEqualTo("2014-04-01");
+		}
+	}
+
 	public static class ExampleValueBean {
 
 		private int intValue;
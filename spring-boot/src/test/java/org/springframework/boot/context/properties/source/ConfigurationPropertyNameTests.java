@@ -224,6 +224,48 @@ public class ConfigurationPropertyNameTests {
 		assertThat(name.append("foo").toString()).isEqualTo("foo");
 	}
 
+	@Test
+	public void ofWhenStringShouldReturnCachedInstance() throws Exception {
+		ConfigurationPropertyName name = ConfigurationPropertyName.of("foo.bar-baz");
+		assertThat(ConfigurationPropertyName.of("foo.bar-baz")).isSameAs(name);
+		assertThat(ConfigurationPropertyName.of(new StringBuilder("foo.bar-baz")))
+				.isNotSameAs(name).isEqualTo(name);
+	}
+
+	@Test
+	public void ofWhenInvalidShouldNotBeCached() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			try {
+				ConfigurationPropertyName.of("foo.Bar");
+				fail("Did not throw");
+			}
+			catch (InvalidConfigurationPropertyNameException ex) {
+				assertThat(ex.getMessage()).contains("is not valid");
+			}
+		}
+	}
+
+	@Test
+	public void ofWhenCanonicalShouldMatchAdaptedName() throws Exception {
+		ConfigurationPropertyName name = ConfigurationPropertyName
+				.of("foo.bar-baz.qux1");
+		ConfigurationPropertyName adapted = ConfigurationPropertyName
+				.adapt("foo.bar_baz.QUX1", '.');
+		assertThat(name.getNumberOfElements()).isEqualTo(3);
+		assertThat(name.getElement(1, Form.ORIGINAL)).isEqualTo("bar-baz");
+		assertThat(name.getElement(1, Form.UNIFORM)).isEqualTo("barbaz");
+		assertThat(name.getElement(2, Form.UNIFORM)).isEqualTo("qux1");
+		assertThat(name).isEqualTo(adapted);
+		assertThat(name.hashCode()).isEqualTo(adapted.hashCode());
+	}
+
+	@Test
+	public void ofWhenEmptyElementShouldSkipElement() throws Exception {
+		ConfigurationPropertyName name = ConfigurationPropertyName.of("foo..bar");
+		assertThat(name.toString()).isEqualTo("foo.bar");
+		assertThat(name.getNumberOfElements()).isEqualTo(2);
+	}
+
 	@Test
 	public void adaptWhenNameIsNullShouldThrowException() throws Exception {
 		this.thrown.expect(IllegalArgumentException.class);
@@ -438,6 +480,19 @@ public class ConfigurationPropertyNameTests {
 		assertThat((Object) name.append((String) null)).isSameAs(name);
 	}
 
+	@Test
+	public void appendShouldBeEqualToParsedName() throws Exception {
+		ConfigurationPropertyName appended = ConfigurationPropertyName.of("foo")
+				.append("bar-baz").append("[Qux]");
+		ConfigurationPropertyName parsed = ConfigurationPropertyName
+				.of("foo.bar-baz[Qux]");
+		assertThat(appended).isEqualTo(parsed);
+		assertThat(appended.hashCode()).isEqualTo(parsed.hashCode());
+		ConfigurationPropertyName chopped = ConfigurationPropertyName.of("foo.barbaz");
+		assertThat(appended.chop(2)).isEqualTo(chopped);
+		assertThat(appended.chop(2).hashCode()).isEqualTo(chopped.hashCode());
+	}
+
 	@Test
 	public void chopWhenLessThenSizeShouldReturnChopped() throws Exception {
 		ConfigurationPropertyName name = ConfigurationPropertyName.of("foo.bar.baz");
@@ -172,6 +172,51 @@ public class SpringIterableConfigurationPropertySourceTests {
 				.isEqualTo(ConfigurationPropertyState.ABSENT);
 	}
 
+	@Test
+	public void containsDescendantOfShouldCheckAllAncestors() throws Exception {
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("foo.bar.baz", "value");
+		source.put("foo.bar.bif[0]", "value");
+		EnumerablePropertySource<?> propertySource = new MapPropertySource("test",
+				source);
+		SpringIterableConfigurationPropertySource adapter = new SpringIterableConfigurationPropertySource(
+				propertySource, DefaultPropertyMapper.INSTANCE);
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.EMPTY))
+				.isEqualTo(ConfigurationPropertyState.PRESENT);
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.of("foo")))
+				.isEqualTo(ConfigurationPropertyState.PRESENT);
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.of("foo.bar")))
+				.isEqualTo(ConfigurationPropertyState.PRESENT);
+		assertThat(
+				adapter.containsDescendantOf(ConfigurationPropertyName.of("foo.bar.bif")))
+						.isEqualTo(ConfigurationPropertyState.PRESENT);
+		assertThat(
+				adapter.containsDescendantOf(ConfigurationPropertyName.of("foo.bar.baz")))
+						.isEqualTo(ConfigurationPropertyState.ABSENT);
+		assertThat(adapter.containsDescendantOf(ConfigurationPropertyName.of("bar")))
+				.isEqualTo(ConfigurationPropertyState.ABSENT);
+	}
+
+	@Test
+	public void getValueWhenMultipleMappingsShouldUseFirstWithValue() throws Exception {
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("key1", null);
+		source.put("key2", "value2");
+		source.put("key3", "value3");
+		EnumerablePropertySource<?> propertySource = new MapPropertySource("test",
+				source);
+		TestPropertyMapper mapper = new TestPropertyMapper();
+		mapper.addFromPropertySource("key1", "my.key");
+		mapper.addFromPropertySource("key2", "my.key");
+		mapper.addFromPropertySource("key3", "my.key");
+		SpringIterableConfigurationPropertySource adapter = new SpringIterableConfigurationPropertySource(
+				propertySource, mapper);
+		ConfigurationPropertyName name = ConfigurationPropertyName.of("my.key");
+		assertThat(adapter.getConfigurationProperty(name).getValue()).isEqualTo("value2");
+		assertThat(adapter.getConfigurationProperty(ConfigurationPropertyName.of("my")))
+				.isNull();
+	}
+
 	/**
 	 * Test {@link PropertySource} that's also a {@link OriginLookup}.
 	 */
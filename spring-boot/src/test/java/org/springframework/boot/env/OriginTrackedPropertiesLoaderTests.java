@@ -24,6 +24,7 @@ import org.junit.Test;
 
 import org.springframework.boot.origin.OriginTrackedValue;
 import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 
@@ -228,6 +229,37 @@ public class OriginTrackedPropertiesLoaderTests {
 		assertThat(getLocation(mango)).isEqualTo("27:1");
 	}
 
+	@Test
+	public void getPropertyWithWindowsLineEndings() throws Exception {
+		ByteArrayResource resource = new ByteArrayResource(
+				"a=1\r\nb=2\r\n\r\nc=3\\\r\n  4\re=5".getBytes());
+		Map<String, OriginTrackedValue> properties = new OriginTrackedPropertiesLoader(
+				resource).load();
+		assertThat(getValue(properties.get("a"))).isEqualTo("1");
+		assertThat(getLocation(properties.get("a"))).isEqualTo("1:3");
+		assertThat(getValue(properties.get("b"))).isEqualTo("2");
+		assertThat(getLocation(properties.get("b"))).isEqualTo("2:3");
+		assertThat(getValue(properties.get("c"))).isEqualTo("34");
+		assertThat(getLocation(properties.get("c"))).isEqualTo("4:3");
+		assertThat(getValue(properties.get("e"))).isEqualTo("5");
+		assertThat(getLocation(properties.get("e"))).isEqualTo("6:3");
+	}
+
+	@Test
+	public void getPropertyLongerThanReadBuffer() throws Exception {
+		StringBuilder value = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			value.append((char) ('a' + (i % 26)));
+		}
+		ByteArrayResource resource = new ByteArrayResource(
+				("first=" + value + "\nsecond=" + value).getBytes());
+		Map<String, OriginTrackedValue> properties = new OriginTrackedPropertiesLoader(
+				resource).load();
+		assertThat(getValue(properties.get("first"))).isEqualTo(value.toString());
+		assertThat(getValue(properties.get("second"))).isEqualTo(value.toString());
+		assertThat(getLocation(properties.get("second"))).isEqualTo("2:8");
+	}
+
 	private Object getValue(OriginTrackedValue value) {
 		return (value == null ? null : value.getValue());
 	}
@@ -43,7 +43,7 @@ public class OriginTrackedYamlLoaderTests {
 	@Before
 	public void setUp() throws Exception {
 		Resource resource = new ClassPathResource("test-yaml.yml", getClass());
-		this.loader = new OriginTrackedYamlLoader(resource, null);
+		this.loader = new OriginTrackedYamlLoader(resource);
 	}
 
 	@Test
@@ -92,12 +92,23 @@ public class OriginTrackedYamlLoaderTests {
 
 	@Test
 	public void processWithActiveProfile() throws Exception {
-		Resource resource = new ClassPathResource("test-yaml.yml", getClass());
-		this.loader = new OriginTrackedYamlLoader(resource, "development");
-		Map<String, Object> result = this.loader.load();
+		Map<String, Object> result = this.loader.loadDocuments().get("development");
 		assertThat(result.get("name").toString()).isEqualTo("Test Name");
 	}
 
+	@Test
+	public void loadDocumentsProvidesContentForEachProfile() throws Exception {
+		OriginTrackedYamlLoader.Documents documents = this.loader.loadDocuments();
+		assertThat(documents.get(null).get("name").toString())
+				.isEqualTo("Martin D'vloper");
+		assertThat(documents.get(null)).doesNotContainKey("spring.profiles");
+		assertThat(documents.get("development")).containsOnlyKeys("spring.profiles",
+				"name");
+		assertThat(documents.get("development").get("name").toString())
+				.isEqualTo("Test Name");
+		assertThat(documents.get("missing")).isEmpty();
+	}
+
 	@Test
 	public void processListOfMaps() throws Exception {
 		OriginTrackedValue name = getValue("example.foo[0].name");
@@ -116,7 +127,7 @@ public class OriginTrackedYamlLoaderTests {
 
 	private OriginTrackedValue getValue(String name) {
 		if (this.result == null) {
-			this.result = this.loader.load();
+			this.result = this.loader.loadDocuments().get(null);
 		}
 		return (OriginTrackedValue) this.result.get(name);
 	}
@@ -16,16 +16,21 @@
 
 package org.springframework.boot.env;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,6 +43,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class YamlPropertySourceLoaderTests {
 
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
 	private YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
 
 	@Test
@@ -78,6 +86,39 @@ public class YamlPropertySourceLoaderTests {
 		assertThat(source.getProperty("foo.baz")).isEqualTo("wham");
 	}
 
+	@Test
+	public void loadProfilesFromSameResource() throws Exception {
+		StringBuilder yaml = new StringBuilder();
+		yaml.append("foo: bar\n");
+		yaml.append("---\n");
+		yaml.append("spring:\n  profiles: one\nfoo: one\n");
+		yaml.append("---\n");
+		yaml.append("spring:\n  profiles: two\nfoo: two\n");
+		File file = this.temp.newFile("test.yml");
+		FileCopyUtils.copy(yaml.toString().getBytes(), file);
+		Resource resource = new FileSystemResource(file);
+		assertThat(this.loader.load("resource", resource, null).getProperty("foo"))
+				.isEqualTo("bar");
+		assertThat(this.loader.load("resource", resource, "one").getProperty("foo"))
+				.isEqualTo("one");
+		assertThat(this.loader.load("resource", resource, "two").getProperty("foo"))
+				.isEqualTo("two");
+		assertThat(this.loader.load("resource", resource, "three")).isNull();
+	}
+
+	@Test
+	public void loadWhenResourceHasChangedShouldReloadResource() throws Exception {
+		File file = this.temp.newFile("test.yml");
+		FileCopyUtils.copy("foo: bar".getBytes(), file);
+		Resource resource = new FileSystemResource(file);
+		assertThat(this.loader.load("resource", resource, null).getProperty("foo"))
+				.isEqualTo("bar");
+		FileCopyUtils.copy("foo: baz".getBytes(), file);
+		file.setLastModified(file.lastModified() + 2000);
+		assertThat(this.loader.load("resource", resource, null).getProperty("foo"))
+				.isEqualTo("baz");
+	}
+
 	@Test
 	public void timestampLikeItemsDoNotBecomeDates() throws Exception {
 		ByteArrayResource resource = new ByteArrayResource("foo: 2015-01-28".getBytes());
@@ -16,6 +16,12 @@
 
 package org.springframework.boot.json;
 
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Tests for {@link BasicJsonParser}.
  *
@@ -28,4 +34,38 @@ public class BasicJsonParserTests extends AbstractJsonParserTests {
 		return new BasicJsonParser();
 	}
 
+	@Test
+	public void mapWithUnterminatedStringThrowsException() {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Unterminated string");
+		this.parser.parseMap("{\"foo\":\"bar}");
+	}
+
+	@Test
+	public void mapWithMissingValueThrowsException() {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Missing value");
+		this.parser.parseMap("{\"foo\":}");
+	}
+
+	@Test
+	public void mapWithTrailingContentThrowsException() {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Unexpected content");
+		this.parser.parseMap("{\"foo\":\"bar\"}}");
+	}
+
+	@Test
+	public void quotedNumberIsReturnedAsString() {
+		Map<String, Object> map = this.parser.parseMap("{\"port\":\"8080\"}");
+		assertThat(map.get("port")).isEqualTo("8080");
+	}
+
+	@Test
+	public void mapWithUnquotedKeyThrowsException() {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Expected '\"'");
+		this.parser.parseMap("{port:8080}");
+	}
+
 }
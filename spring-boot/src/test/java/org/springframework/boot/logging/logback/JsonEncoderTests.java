@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.logging.logback;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JsonEncoder}.
+ *
+ * @author Phillip Webb
+ */
+public class JsonEncoderTests {
+
+	private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+	private final JsonEncoder encoder = new JsonEncoder();
+
+	private final LoggingEvent event = new LoggingEvent();
+
+	@Before
+	public void setup() {
+		this.encoder.start();
+		this.event.setTimeStamp(1508236496789L);
+		this.event.setLevel(Level.INFO);
+		this.event.setThreadName("main");
+		this.event.setLoggerName("com.example.Test");
+	}
+
+	@Test
+	public void encodeShouldWriteSingleLineOfJson() throws Exception {
+		this.event.setMessage("Hello world");
+		String json = encode();
+		assertThat(json).startsWith("{\"@timestamp\":\"2017-10-17T10:34:56.789Z\",")
+				.contains("\"level\":\"INFO\"").contains("\"thread\":\"main\"")
+				.contains("\"logger\":\"com.example.Test\"")
+				.contains("\"message\":\"Hello world\"").endsWith("}" + LINE_SEPARATOR);
+		assertThat(json.trim()).doesNotContain("\n");
+	}
+
+	@Test
+	public void encodeShouldEscapeMessage() throws Exception {
+		this.event.setMessage("\"quoted\" back\\slash\nnew\ttab\u0001");
+		assertThat(encode()).contains("\"message\":\"\\\"quoted\\\" back\\\\slash"
+				+ "\\nnew\\ttab\\u0001\"");
+	}
+
+	@Test
+	public void encodeShouldWriteUtf8() throws Exception {
+		this.event.setMessage("caf\u00e9 \u20ac \ud83d\ude00");
+		assertThat(encode())
+				.contains("\"message\":\"caf\u00e9 \u20ac \ud83d\ude00\"");
+	}
+
+	@Test
+	public void encodeWhenMessageIsLargeShouldGrowBuffer() throws Exception {
+		StringBuilder message = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			message.append("\u00e9");
+		}
+		this.event.setMessage(message.toString());
+		assertThat(encode()).contains("\"message\":\"" + message + "\"");
+	}
+
+	@Test
+	public void encodeWhenHasMdcShouldWriteMdc() throws Exception {
+		this.event.setMessage("Hello world");
+		this.event.setMDCPropertyMap(Collections.singletonMap("user", "phil"));
+		assertThat(encode()).contains("\"mdc\":{\"user\":\"phil\"}");
+	}
+
+	@Test
+	public void encodeWhenHasExceptionShouldWriteStackTrace() throws Exception {
+		this.event.setMessage("Failed");
+		this.event.setThrowableProxy(
+				new ThrowableProxy(new IllegalStateException("Bad")));
+		assertThat(encode())
+				.contains("\"exception\":\"java.lang.IllegalStateException: Bad")
+				.contains("\\tat ");
+	}
+
+	@Test
+	public void headerAndFooterShouldBeEmpty() throws Exception {
+		assertThat(this.encoder.headerBytes()).isNull();
+		assertThat(this.encoder.footerBytes()).isNull();
+	}
+
+	private String encode() {
+		return new String(this.encoder.encode(this.event), StandardCharsets.UTF_8);
+	}
+
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.logging.Handler;
 import java.util.logging.LogManager;
 
+import ch.qos.logback.classic.AsyncAppender;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
@@ -339,6 +340,59 @@ public class LogbackLoggingSystemTests extends AbstractLoggingSystemTests {
 		assertThat(getLineWithText(file, "Hello world")).doesNotContain("INFO");
 	}
 
+	@Test
+	public void testConsoleJsonFormatProperty() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("logging.format.console", "json");
+		LoggingInitializationContext loggingInitializationContext = new LoggingInitializationContext(
+				environment);
+		this.loggingSystem.initialize(loggingInitializationContext, null, null);
+		this.logger.info("Hello \"world\"");
+		String output = this.output.toString().trim();
+		assertThat(getLineWithText(output, "Hello")).startsWith("{\"@timestamp\":")
+				.contains("\"level\":\"INFO\"")
+				.contains("\"message\":\"Hello \\\"world\\\"\"").endsWith("}");
+	}
+
+	@Test
+	public void testFileJsonFormatProperty() throws Exception {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("logging.format.file", "json");
+		LoggingInitializationContext loggingInitializationContext = new LoggingInitializationContext(
+				environment);
+		File file = new File(tmpDir(), "logback-test.log");
+		LogFile logFile = getLogFile(file.getPath(), null);
+		this.loggingSystem.initialize(loggingInitializationContext, null, logFile);
+		this.logger.info("Hello world");
+		String output = this.output.toString().trim();
+		assertThat(getLineWithText(output, "Hello world")).doesNotStartWith("{");
+		assertThat(getLineWithText(file, "Hello world")).startsWith("{")
+				.contains("\"message\":\"Hello world\"");
+	}
+
+	@Test
+	public void testAsyncProperty() throws Exception {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("logging.async.enabled", "true");
+		environment.setProperty("logging.async.queue-size", "16");
+		environment.setProperty("logging.async.never-block", "true");
+		LoggingInitializationContext loggingInitializationContext = new LoggingInitializationContext(
+				environment);
+		this.loggingSystem.initialize(loggingInitializationContext, null, null);
+		LoggerContext context = (LoggerContext) StaticLoggerBinder.getSingleton()
+				.getLoggerFactory();
+		Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		assertThat(root.getAppender("CONSOLE")).isNull();
+		AsyncAppender appender = (AsyncAppender) root.getAppender("ASYNC_CONSOLE");
+		assertThat(appender.getQueueSize()).isEqualTo(16);
+		assertThat(appender.isNeverBlock()).isTrue();
+		assertThat(appender.getAppender("CONSOLE")).isNotNull();
+		this.logger.info("Hello world");
+		appender.stop();
+		String output = this.output.toString().trim();
+		assertThat(getLineWithText(output, "Hello world")).contains("INFO");
+	}
+
 	@Test
 	public void exceptionsIncludeClassPackaging() throws Exception {
 		this.loggingSystem.beforeInitialize();
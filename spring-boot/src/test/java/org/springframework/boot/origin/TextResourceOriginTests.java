@@ -57,6 +57,16 @@ public class TextResourceOriginTests {
 
 	}
 
+	@Test
+	public void getLocationWhenCreatedWithLineAndColumnShouldReturnLocation()
+			throws Exception {
+		TextResourceOrigin origin = new TextResourceOrigin(null, 1, 2);
+		assertThat(origin.getLocation()).isEqualTo(new Location(1, 2));
+		assertThat(origin).isEqualTo(new TextResourceOrigin(null, new Location(1, 2)));
+		assertThat(origin.hashCode())
+				.isEqualTo(new TextResourceOrigin(null, new Location(1, 2)).hashCode());
+	}
+
 	@Test
 	public void getLocationLineShouldReturnLine() throws Exception {
 		Location location = new Location(1, 2);
@@ -16,13 +16,36 @@
 
 package org.springframework.boot.web.embedded.netty;
 
+import java.time.Duration;
+import java.util.Arrays;
+
+import javax.net.ssl.SSLException;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.junit.Test;
+import org.mockito.InOrder;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.http.server.HttpServerOptions;
 
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.AbstractReactiveWebServerFactoryTests;
+import org.springframework.boot.web.server.Compression;
 import org.springframework.boot.web.server.PortInUseException;
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests for {@link NettyReactiveWebServerFactory}.
@@ -33,7 +56,7 @@ public class NettyReactiveWebServerFactoryTests
 		extends AbstractReactiveWebServerFactoryTests {
 
 	@Override
-	protected AbstractReactiveWebServerFactory getFactory() {
+	protected NettyReactiveWebServerFactory getFactory() {
 		return new NettyReactiveWebServerFactory(0);
 	}
 
@@ -50,4 +73,115 @@ public class NettyReactiveWebServerFactoryTests
 		factory.getWebServer(new EchoHandler()).start();
 	}
 
+	@Test
+	public void setNullServerCustomizersShouldThrowException() {
+		NettyReactiveWebServerFactory factory = getFactory();
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Customizers must not be null");
+		factory.setServerCustomizers(null);
+	}
+
+	@Test
+	public void addNullServerCustomizersShouldThrowException() {
+		NettyReactiveWebServerFactory factory = getFactory();
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Customizers must not be null");
+		factory.addServerCustomizers((NettyServerCustomizer[]) null);
+	}
+
+	@Test
+	public void nettyCustomizersShouldBeInvoked() throws Exception {
+		HttpHandler handler = mock(HttpHandler.class);
+		NettyReactiveWebServerFactory factory = getFactory();
+		NettyServerCustomizer[] customizers = new NettyServerCustomizer[4];
+		for (int i = 0; i < customizers.length; i++) {
+			customizers[i] = mock(NettyServerCustomizer.class);
+		}
+		factory.setServerCustomizers(Arrays.asList(customizers[0], customizers[1]));
+		factory.addServerCustomizers(customizers[2], customizers[3]);
+		this.webServer = factory.getWebServer(handler);
+		InOrder ordered = inOrder((Object[]) customizers);
+		for (NettyServerCustomizer customizer : customizers) {
+			ordered.verify(customizer).customize(any(HttpServerOptions.Builder.class));
+		}
+	}
+
+	@Test
+	public void responseIsCompressedWhenCompressionIsEnabled() throws Exception {
+		NettyReactiveWebServerFactory factory = getFactory();
+		Compression compression = new Compression();
+		compression.setEnabled(true);
+		compression.setMinResponseSize(1);
+		factory.setCompression(compression);
+		this.webServer = factory.getWebServer(new EchoHandler());
+		this.webServer.start();
+		Mono<String> contentEncoding = getWebClient().post().uri("/test")
+				.contentType(MediaType.TEXT_PLAIN)
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+				.body(BodyInserters.fromObject("Hello World")).exchange()
+				.map((response) -> response.headers().asHttpHeaders()
+						.getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertThat(contentEncoding.block()).isEqualTo("gzip");
+	}
+
+	@Test
+	public void sslIsConfiguredWithKeyAlias() throws Exception {
+		NettyReactiveWebServerFactory factory = getFactory();
+		factory.setSsl(getSsl("test-alias"));
+		this.webServer = factory.getWebServer(new EchoHandler());
+		this.webServer.start();
+		ReactorClientHttpConnector connector = new ReactorClientHttpConnector(
+				(options) -> options.sslContext(createClientSslContext()));
+		Mono<String> result = WebClient.builder()
+				.baseUrl("https://localhost:" + this.webServer.getPort())
+				.clientConnector(connector).build().post().uri("/test")
+				.contentType(MediaType.TEXT_PLAIN)
+				.body(BodyInserters.fromObject("Hello World")).exchange()
+				.flatMap((response) -> response.bodyToMono(String.class));
+		assertThat(result.block()).isEqualTo("Hello World");
+	}
+
+	@Test
+	public void sslWithMissingKeyAliasFails() throws Exception {
+		NettyReactiveWebServerFactory factory = getFactory();
+		factory.setSsl(getSsl("missing-alias"));
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("Key alias 'missing-alias' not found in key store");
+		factory.getWebServer(new EchoHandler());
+	}
+
+	private Ssl getSsl(String keyAlias) {
+		Ssl ssl = new Ssl();
+		ssl.setKeyStore("classpath:test.jks");
+		ssl.setKeyStorePassword("secret");
+		ssl.setKeyPassword("password");
+		ssl.setKeyAlias(keyAlias);
+		return ssl;
+	}
+
+	private SslContext createClientSslContext() {
+		try {
+			return SslContextBuilder.forClient()
+					.trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+		}
+		catch (SSLException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Test
+	public void serverCanUseDedicatedEventLoops() throws Exception {
+		NettyReactiveWebServerFactory factory = getFactory();
+		factory.setSelectorThreads(1);
+		factory.setWorkerThreads(2);
+		factory.setIdleTimeout(Duration.ofSeconds(30));
+		this.webServer = factory.getWebServer(new EchoHandler());
+		this.webServer.start();
+		Mono<String> result = getWebClient().post().uri("/test")
+				.contentType(MediaType.TEXT_PLAIN)
+				.body(BodyInserters.fromObject("Hello World")).exchange()
+				.flatMap((response) -> response.bodyToMono(String.class));
+		assertThat(result.block()).isEqualTo("Hello World");
+	}
+
 }